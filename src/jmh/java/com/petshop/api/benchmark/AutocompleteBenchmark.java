@@ -0,0 +1,105 @@
+package com.petshop.api.benchmark;
+
+import com.petshop.api.domain.search.AutocompleteIndex;
+import com.petshop.api.dto.response.AutocompleteResultDto;
+import com.petshop.api.model.enums.SearchTarget;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AutocompleteBenchmark {
+
+    private static final int TOP_K = 10;
+    private static final Set<SearchTarget> CLIENTS = EnumSet.of(SearchTarget.CLIENT);
+    private static final String[] FIRST_NAMES = {"Ana", "João", "Maria", "José", "Lúcia", "Pedro", "Márcia", "Paulo", "Luíza", "Carlos"};
+    private static final String[] LAST_NAMES = {"Silva", "Souza", "Oliveira", "Pereira", "Gonçalves", "Araújo", "Lima", "Costa"};
+    private static final String[] PREFIXES = {"an", "jo", "mar", "sou", "gon", "arau", "lu", "pe", "car", "lim"};
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    @Param({"jdbc:h2:mem:autocomplete_benchmark;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    @Param({"sa"})
+    public String username;
+
+    @Param({""})
+    public String password;
+
+    private AutocompleteIndex autocompleteIndex;
+    private Connection connection;
+    private PreparedStatement containingIgnoreCase;
+
+    @Setup(Level.Trial)
+    public void populate() throws SQLException {
+        autocompleteIndex = new AutocompleteIndex();
+        connection = DriverManager.getConnection(jdbcUrl, username, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS autocomplete_clients");
+            statement.execute("CREATE TABLE autocomplete_clients (id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL, cpf VARCHAR(14) NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO autocomplete_clients (id, name, cpf) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                UUID id = UUID.randomUUID();
+                String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                        + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i;
+                String cpf = String.format("%011d", i);
+                insert.setObject(1, id);
+                insert.setString(2, name);
+                insert.setString(3, cpf);
+                insert.addBatch();
+                autocompleteIndex.putClient(id, name, cpf);
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        containingIgnoreCase = connection.prepareStatement(
+                "SELECT id, name FROM autocomplete_clients WHERE upper(name) LIKE upper(?) ESCAPE '\\' ORDER BY name LIMIT " + TOP_K);
+    }
+
+    @Benchmark
+    public List<AutocompleteResultDto> inMemoryPrefixIndex() {
+        return autocompleteIndex.lookup(nextPrefix(), CLIENTS, TOP_K);
+    }
+
+    @Benchmark
+    public List<UUID> containingIgnoreCaseQuery() throws SQLException {
+        containingIgnoreCase.setString(1, "%" + nextPrefix() + "%");
+        List<UUID> ids = new ArrayList<>(TOP_K);
+        try (ResultSet result = containingIgnoreCase.executeQuery()) {
+            while (result.next()) {
+                ids.add(result.getObject(1, UUID.class));
+            }
+        }
+        return ids;
+    }
+
+    @TearDown(Level.Trial)
+    public void dropTable() throws SQLException {
+        containingIgnoreCase.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS autocomplete_clients");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    private static String nextPrefix() {
+        return PREFIXES[ThreadLocalRandom.current().nextInt(PREFIXES.length)];
+    }
+}
@@ -0,0 +1,72 @@
+package com.petshop.api.benchmark;
+
+import com.petshop.api.domain.financial.FinancialInstallmentGenerator;
+import com.petshop.api.domain.financial.FinancialPaymentGenerator;
+import com.petshop.api.model.entities.Client;
+import com.petshop.api.model.entities.Financial;
+import com.petshop.api.model.entities.FinancialPayment;
+import com.petshop.api.model.entities.Sale;
+import com.petshop.api.model.enums.SalePaymentType;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FinancialBenchmark {
+
+    @Param({"1", "12"})
+    public int installments;
+
+    private final FinancialPaymentGenerator paymentGenerator = new FinancialPaymentGenerator();
+    private final FinancialInstallmentGenerator installmentGenerator = new FinancialInstallmentGenerator(paymentGenerator);
+    private final LocalDate today = LocalDate.of(2025, 1, 15);
+
+    private Sale sale;
+    private Financial financial;
+    private FinancialPayment payment;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Client client = Client.builder().id(UUID.randomUUID()).name("Ana Silva").build();
+        sale = Sale.builder()
+                .id(UUID.randomUUID())
+                .client(client)
+                .paymentType(installments == 1 ? SalePaymentType.CASH : SalePaymentType.INSTALLMENTS)
+                .totalValue(new BigDecimal("1234.57"))
+                .notes("Benchmark sale")
+                .build();
+        financial = Financial.builder()
+                .amount(new BigDecimal("150.00"))
+                .balance(new BigDecimal("150.00"))
+                .isPaid(false)
+                .installment(1)
+                .financialPayments(new ArrayList<>())
+                .build();
+        payment = FinancialPayment.builder()
+                .paidAmount(new BigDecimal("49.90"))
+                .paymentDate(today)
+                .build();
+    }
+
+    @Benchmark
+    public List<Financial> generateInstallmentsFromSale() {
+        return installmentGenerator.generateInstallmentsFromSale(sale, installments, 30, today);
+    }
+
+    @Benchmark
+    public Financial addAndRevertPayment() {
+        paymentGenerator.addPayment(financial, payment);
+        paymentGenerator.revertPayment(financial, payment);
+        return financial;
+    }
+}
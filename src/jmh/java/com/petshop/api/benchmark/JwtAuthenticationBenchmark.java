@@ -0,0 +1,80 @@
+package com.petshop.api.benchmark;
+
+import com.petshop.api.model.entities.User;
+import com.petshop.api.security.AuthenticatedTokenCache;
+import com.petshop.api.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "edf9e4b72f5adbb59fe0a45024895ae6f5425c73c846e890a150a59d506ae8b2";
+
+    @Param({"0"})
+    public int userLookupTokens;
+
+    private User user;
+    private String token;
+    private UserDetailsService userDetailsService;
+    private JwtService jwtService;
+    private AuthenticatedTokenCache authenticatedTokenCache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        user = User.builder().name("Ana").email("ana@petshop.com").password("hash").build();
+        userDetailsService = username -> {
+            Blackhole.consumeCPU(userLookupTokens);
+            return user;
+        };
+        jwtService = new JwtService(SECRET, TimeUnit.DAYS.toMillis(1));
+        token = jwtService.generateToken(user);
+        authenticatedTokenCache = new AuthenticatedTokenCache(jwtService, userDetailsService, 10_000, Duration.ofMinutes(5));
+        authenticatedTokenCache.resolve(token);
+    }
+
+    @Benchmark
+    public boolean previousFilter() {
+        String username = legacyClaims(token).getSubject();
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        return legacyClaims(token).getSubject().equals(userDetails.getUsername())
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleVerificationWithPrecomputedKey() {
+        Claims claims = jwtService.extractAllClaims(token);
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        return jwtService.isTokenValid(claims, userDetails);
+    }
+
+    @Benchmark
+    public UserDetails cachedToken() {
+        return authenticatedTokenCache.resolve(token).orElseThrow();
+    }
+
+    private static Claims legacyClaims(String token) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
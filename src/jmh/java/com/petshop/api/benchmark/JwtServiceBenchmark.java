@@ -0,0 +1,38 @@
+package com.petshop.api.benchmark;
+
+import com.petshop.api.model.entities.User;
+import com.petshop.api.security.JwtService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "edf9e4b72f5adbb59fe0a45024895ae6f5425c73c846e890a150a59d506ae8b2";
+
+    private final JwtService jwtService = new JwtService(SECRET, TimeUnit.DAYS.toMillis(1));
+    private final User user = User.builder().name("Ana").email("ana@petshop.com").password("hash").build();
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims extractAllClaims() {
+        return jwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+}
@@ -0,0 +1,99 @@
+package com.petshop.api.benchmark;
+
+import com.petshop.api.domain.sale.SaleGenerator;
+import com.petshop.api.dto.request.CreateProductSaleDto;
+import com.petshop.api.dto.request.CreateSaleDto;
+import com.petshop.api.dto.response.FinancialResponseDto;
+import com.petshop.api.dto.response.SaleResponseDto;
+import com.petshop.api.model.entities.*;
+import com.petshop.api.model.enums.SalePaymentType;
+import com.petshop.api.model.enums.SaleStatus;
+import com.petshop.api.model.mapper.FinancialMapperImpl;
+import com.petshop.api.model.mapper.SaleMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaleBenchmark {
+
+    @Param({"3", "50"})
+    public int items;
+
+    private final SaleGenerator saleGenerator = new SaleGenerator(null);
+    private final SaleMapperImpl saleMapper = new SaleMapperImpl();
+    private final FinancialMapperImpl financialMapper = new FinancialMapperImpl();
+
+    private CreateSaleDto createSaleDto;
+    private Sale sale;
+    private Financial financial;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Client client = Client.builder().id(UUID.randomUUID()).name("Ana Silva").build();
+        createSaleDto = new CreateSaleDto();
+        createSaleDto.setClientId(client.getId());
+        createSaleDto.setPaymentType(SalePaymentType.INSTALLMENTS);
+        createSaleDto.setProductSales(new ArrayList<>());
+        sale = Sale.builder()
+                .id(UUID.randomUUID())
+                .client(client)
+                .saleDate(LocalDateTime.of(2025, 1, 15, 10, 0))
+                .status(SaleStatus.COMPLETED)
+                .paymentType(SalePaymentType.INSTALLMENTS)
+                .totalValue(new BigDecimal("999.90"))
+                .productSales(new ArrayList<>())
+                .build();
+        for (int i = 0; i < items; i++) {
+            Product product = Product.builder().id(UUID.randomUUID()).name("Ração " + i).price(new BigDecimal("19.99")).build();
+            CreateProductSaleDto item = new CreateProductSaleDto();
+            item.setProductId(product.getId());
+            item.setQuantity(1 + i % 4);
+            item.setPrice(new BigDecimal("19.99"));
+            createSaleDto.getProductSales().add(item);
+            sale.getProductSales().add(ProductSale.builder()
+                    .product(product)
+                    .quantity(item.getQuantity())
+                    .unitPrice(item.getPrice())
+                    .sale(sale)
+                    .build());
+        }
+        financial = Financial.builder()
+                .id(UUID.randomUUID())
+                .client(client)
+                .sale(sale)
+                .description("Sale " + sale.getId() + " - Installment 1/3")
+                .amount(new BigDecimal("333.30"))
+                .balance(new BigDecimal("333.30"))
+                .dueDate(LocalDate.of(2025, 2, 14))
+                .isPaid(false)
+                .installment(1)
+                .build();
+    }
+
+    @Benchmark
+    public BigDecimal calculateSaleTotal() {
+        return saleGenerator.calculateSaleTotal(createSaleDto);
+    }
+
+    @Benchmark
+    public SaleResponseDto mapSaleToResponse() {
+        return saleMapper.toResponseDto(sale);
+    }
+
+    @Benchmark
+    public FinancialResponseDto mapFinancialToResponse() {
+        return financialMapper.toResponseDto(financial);
+    }
+}
@@ -0,0 +1,93 @@
+package com.petshop.api.benchmark;
+
+import com.petshop.api.model.generator.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidPrimaryKeyInsertBenchmark {
+
+    private static final int ROWS_PER_BATCH = 1_000;
+
+    @Param({"V4", "V7"})
+    public String keyType;
+
+    @Param({"jdbc:h2:mem:uuid_benchmark;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    @Param({"sa"})
+    public String username;
+
+    @Param({""})
+    public String password;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private String table;
+
+    @Setup(Level.Trial)
+    public void createTable() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, username, password);
+        table = "uuid_benchmark_" + keyType.toLowerCase();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL, payload VARCHAR(64))");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO " + table + " (id, created_at, payload) VALUES (?, ?, ?)");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_BATCH)
+    public void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < ROWS_PER_BATCH; i++) {
+            insert.setObject(1, nextKey());
+            insert.setTimestamp(2, now);
+            insert.setString(3, "SALE_ORDER");
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void reportIndexSize() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rows.next();
+            System.out.printf("%n[%s] rows=%d %s%n", keyType, rows.getLong(1), storageSize());
+        } finally {
+            insert.close();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+            }
+            connection.commit();
+            connection.close();
+        }
+    }
+
+    private UUID nextKey() {
+        return "V7".equals(keyType) ? UuidV7Generator.nextId() : UUID.randomUUID();
+    }
+
+    private String storageSize() throws SQLException {
+        boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+        String sql = postgres
+                ? "SELECT pg_indexes_size('" + table + "')"
+                : "SELECT DISK_SPACE_USED('" + table.toUpperCase() + "')";
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return (postgres ? "indexBytes=" : "tableAndIndexBytes=") + result.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.petshop.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+public class ApiClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private String token;
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public void authenticate() throws IOException, InterruptedException {
+        String email = "loadtest-" + UUID.randomUUID() + "@petshop.com";
+        HttpResponse<String> response = send("POST", "/api/v1/auth/register",
+                Map.of("name", "Load Test", "email", email, "password", "loadtest123"));
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Could not register the load test user: " + response.statusCode());
+        }
+        token = objectMapper.readTree(response.body()).path("acessToken").asText();
+    }
+
+    public HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return send("GET", path, null);
+    }
+
+    public HttpResponse<String> post(String path, Object body) throws IOException, InterruptedException {
+        return send("POST", path, body);
+    }
+
+    public HttpResponse<String> patch(String path, Object body) throws IOException, InterruptedException {
+        return send("PATCH", path, body);
+    }
+
+    public JsonNode json(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpResponse<String> send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        return httpClient.send(request.method(method, publisher).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
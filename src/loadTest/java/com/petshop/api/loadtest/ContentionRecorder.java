@@ -0,0 +1,68 @@
+package com.petshop.api.loadtest;
+
+import com.petshop.api.domain.stock.StockConflictRetryAspect;
+import com.petshop.api.metrics.LockWaitMetricsListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ContentionRecorder {
+
+    private final MeterRegistry meterRegistry;
+    private final String stockMode;
+    private final Totals start;
+
+    public ContentionRecorder(MeterRegistry meterRegistry, String stockMode) {
+        this.meterRegistry = meterRegistry;
+        this.stockMode = stockMode;
+        this.start = totals();
+    }
+
+    public Map<String, Object> summarize(String mode, double seconds) {
+        Totals end = totals();
+        long lockWaits = end.lockWaits() - start.lockWaits();
+        double lockWaitMs = end.lockWaitMs() - start.lockWaitMs();
+        double attempts = end.attempts() - start.attempts();
+        double retries = end.retries() - start.retries();
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("mode", mode);
+        row.put("stockMode", stockMode);
+        row.put("lockWaits", lockWaits);
+        row.put("lockWaitTotalMs", lockWaitMs);
+        row.put("lockWaitMeanMs", lockWaits > 0 ? lockWaitMs / lockWaits : 0.0);
+        row.put("checkoutAttempts", (long) attempts);
+        row.put("checkoutRetries", (long) retries);
+        row.put("retryRate", attempts > 0 ? retries / attempts : 0.0);
+        row.put("retriesPerSecond", retries / seconds);
+        row.put("checkoutsExhausted", (long) (end.exhausted() - start.exhausted()));
+        row.put("backoffTotalMs", end.backoffMs() - start.backoffMs());
+        return row;
+    }
+
+    private Totals totals() {
+        return new Totals(
+                meterRegistry.find(LockWaitMetricsListener.METRIC_NAME).timers().stream().mapToLong(Timer::count).sum(),
+                totalTimeMs(LockWaitMetricsListener.METRIC_NAME),
+                count(StockConflictRetryAspect.METRIC_NAME + ".attempts"),
+                count(StockConflictRetryAspect.METRIC_NAME + ".retries"),
+                count(StockConflictRetryAspect.METRIC_NAME + ".exhausted"),
+                totalTimeMs(StockConflictRetryAspect.METRIC_NAME + ".backoff"));
+    }
+
+    private double count(String name) {
+        return meterRegistry.find(name).counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    private double totalTimeMs(String name) {
+        return meterRegistry.find(name).timers().stream().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum();
+    }
+
+    private record Totals(long lockWaits, double lockWaitMs, double attempts, double retries, double exhausted,
+                          double backoffMs) {
+    }
+}
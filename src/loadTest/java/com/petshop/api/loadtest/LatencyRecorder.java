@@ -0,0 +1,54 @@
+package com.petshop.api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public void record(Operation operation, long elapsedNanos, boolean failed) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(micros);
+        if (failed) {
+            errors.get(operation).increment();
+        }
+    }
+
+    public List<Map<String, Object>> summarize(String mode, double seconds) {
+        return histograms.entrySet().stream()
+                .map(entry -> summary(mode, entry.getKey(), entry.getValue(), seconds))
+                .toList();
+    }
+
+    private Map<String, Object> summary(String mode, Operation operation, Histogram histogram, double seconds) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("mode", mode);
+        row.put("endpoint", operation.getEndpoint());
+        row.put("requests", histogram.getTotalCount());
+        row.put("errors", errors.get(operation).sum());
+        row.put("throughput", histogram.getTotalCount() / seconds);
+        row.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+        row.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+        row.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1000.0);
+        row.put("maxMs", histogram.getMaxValue() / 1000.0);
+        return row;
+    }
+}
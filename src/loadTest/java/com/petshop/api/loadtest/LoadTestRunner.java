@@ -0,0 +1,128 @@
+package com.petshop.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.petshop.api.PetshopApiApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        String threads = option(args, "threads", "both");
+        int concurrency = Integer.parseInt(option(args, "concurrency", "200"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(option(args, "warmup", "5")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(option(args, "duration", "30")));
+        int clients = Integer.parseInt(option(args, "clients", "5000"));
+        int products = Integer.parseInt(option(args, "products", "1000"));
+        int sales = Integer.parseInt(option(args, "sales", "2000"));
+        Path output = Path.of(option(args, "output", "build/results/loadtest/results.json"));
+        String stockMode = option(args, "stockMode", "counter");
+
+        List<String> modes = "both".equals(threads) ? List.of("platform", "virtual") : List.of(threads);
+        List<Map<String, Object>> report = new ArrayList<>();
+        List<Map<String, Object>> contention = new ArrayList<>();
+        for (String mode : modes) {
+            report.addAll(run(mode, stockMode, concurrency, warmup, duration, clients, products, sales, args, contention));
+        }
+
+        System.out.printf("%n%-9s %-38s %10s %8s %10s %9s %9s %9s %9s%n",
+                "mode", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        report.forEach(row -> System.out.printf("%-9s %-38s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                row.get("mode"), row.get("endpoint"), row.get("requests"), row.get("errors"), row.get("throughput"),
+                row.get("p50Ms"), row.get("p99Ms"), row.get("p999Ms"), row.get("maxMs")));
+
+        System.out.printf("%n%-9s %-12s %10s %12s %12s %10s %10s %10s %12s%n",
+                "mode", "stock mode", "lock waits", "lock ms", "mean ms", "attempts", "retries", "retry %", "backoff ms");
+        contention.forEach(row -> System.out.printf("%-9s %-12s %10d %12.1f %12.3f %10d %10d %10.2f %12.1f%n",
+                row.get("mode"), row.get("stockMode"), row.get("lockWaits"), row.get("lockWaitTotalMs"),
+                row.get("lockWaitMeanMs"), row.get("checkoutAttempts"), row.get("checkoutRetries"),
+                (double) row.get("retryRate") * 100, row.get("backoffTotalMs")));
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("endpoints", report);
+        results.put("contention", contention);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), results);
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private static List<Map<String, Object>> run(String mode, String stockMode, int concurrency, Duration warmup,
+                                                 Duration duration, int clients, int products, int sales, String[] args,
+                                                 List<Map<String, Object>> contention) throws Exception {
+        List<String> profiles = new ArrayList<>(List.of("loadtest"));
+        if ("virtual".equals(mode)) {
+            profiles.add("virtual-threads");
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PetshopApiApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .properties("server.port=0")
+                .run(withStockMode(args, stockMode))) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            LoadTestSeeder seeder = new LoadTestSeeder();
+            seeder.seed(context, clients, products, sales);
+            ApiClient client = new ApiClient("http://localhost:" + port);
+            client.authenticate();
+            Workload workload = new Workload(client, seeder);
+
+            drive(workload, concurrency, warmup, new LatencyRecorder());
+            LatencyRecorder recorder = new LatencyRecorder();
+            ContentionRecorder contentionRecorder = new ContentionRecorder(context.getBean(MeterRegistry.class), stockMode);
+            long started = System.nanoTime();
+            drive(workload, concurrency, duration, recorder);
+            double seconds = (System.nanoTime() - started) / 1e9;
+            contention.add(contentionRecorder.summarize(mode, seconds));
+            return recorder.summarize(mode, seconds);
+        }
+    }
+
+    private static void drive(Workload workload, int concurrency, Duration duration, LatencyRecorder recorder) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = Operation.next();
+                        long started = System.nanoTime();
+                        boolean failed;
+                        try {
+                            HttpResponse<String> response = workload.execute(operation);
+                            failed = response.statusCode() / 100 != 2;
+                        } catch (Exception e) {
+                            failed = true;
+                        }
+                        recorder.record(operation, System.nanoTime() - started, failed);
+                    }
+                });
+            }
+        }
+    }
+
+    private static String[] withStockMode(String[] args, String stockMode) {
+        List<String> applicationArgs = new ArrayList<>(List.of(args));
+        applicationArgs.add("--application.stock.mode=" + stockMode);
+        return applicationArgs.toArray(String[]::new);
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        String prefix = "--" + name + "=";
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                return arg.substring(prefix.length());
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,158 @@
+package com.petshop.api.loadtest;
+
+import com.petshop.api.dto.request.CreateProductSaleDto;
+import com.petshop.api.dto.request.CreateSaleDto;
+import com.petshop.api.model.entities.*;
+import com.petshop.api.model.enums.SalePaymentType;
+import com.petshop.api.repository.*;
+import com.petshop.api.service.SaleService;
+import org.springframework.context.ApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+public class LoadTestSeeder {
+
+    private static final String[] FIRST_NAMES = {"Ana", "João", "Maria", "José", "Lúcia", "Pedro", "Márcia", "Paulo", "Luíza", "Carlos"};
+    private static final String[] LAST_NAMES = {"Silva", "Souza", "Oliveira", "Pereira", "Gonçalves", "Araújo", "Lima", "Costa"};
+    private static final String[] SPECIES = {"Cachorro", "Gato", "Calopsita", "Coelho"};
+    private static final String[] PRODUCTS = {"Ração", "Petisco", "Coleira", "Shampoo", "Areia", "Brinquedo", "Cama", "Vermífugo"};
+
+    private final Random random = new Random(42);
+
+    private final List<UUID> clientIds = new ArrayList<>();
+    private final List<UUID> productIds = new ArrayList<>();
+    private final List<UUID> animalIds = new ArrayList<>();
+    private final List<UUID> animalOwnerIds = new ArrayList<>();
+    private final List<UUID> veterinarianIds = new ArrayList<>();
+    private final List<UUID> monetaryTypeIds = new ArrayList<>();
+    private final List<UUID> openFinancialIds = new ArrayList<>();
+
+    public void seed(ApplicationContext context, int clients, int products, int sales) {
+        ProductCategoryRepository categoryRepository = context.getBean(ProductCategoryRepository.class);
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        ClientRepository clientRepository = context.getBean(ClientRepository.class);
+
+        List<ProductCategory> categories = categoryRepository.saveAll(List.of(
+                ProductCategory.builder().name("Alimentação").build(),
+                ProductCategory.builder().name("Higiene").build(),
+                ProductCategory.builder().name("Acessórios").build()));
+
+        List<Product> newProducts = new ArrayList<>();
+        for (int i = 0; i < products; i++) {
+            newProducts.add(Product.builder()
+                    .name(PRODUCTS[i % PRODUCTS.length] + " " + i)
+                    .price(BigDecimal.valueOf(5 + random.nextInt(200)).setScale(2))
+                    .quantityInStock(1_000_000)
+                    .category(categories.get(i % categories.size()))
+                    .build());
+        }
+        productRepository.saveAll(newProducts).forEach(product -> productIds.add(product.getId()));
+
+        List<Client> newClients = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            newClients.add(Client.builder()
+                    .name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i)
+                    .cpf(String.format("%011d", i))
+                    .address(Address.builder().street("Rua das Flores").city("Curitiba").state("PR").zipCode("80000-000").build())
+                    .build());
+        }
+        List<Client> savedClients = clientRepository.saveAll(newClients);
+        savedClients.forEach(client -> clientIds.add(client.getId()));
+
+        seedAnimals(context.getBean(AnimalRepository.class), savedClients);
+        seedVeterinarians(context.getBean(VeterinarianCategoryRepository.class), context.getBean(VeterinarianRepository.class));
+        context.getBean(MonetaryTypeRepository.class).saveAll(List.of(
+                        MonetaryType.builder().name("Dinheiro").build(),
+                        MonetaryType.builder().name("Pix").build(),
+                        MonetaryType.builder().name("Cartão").build()))
+                .forEach(monetaryType -> monetaryTypeIds.add(monetaryType.getId()));
+        seedSales(context.getBean(SaleService.class), sales);
+        context.getBean(FinancialRepository.class).findAll().stream()
+                .filter(financial -> !financial.getIsPaid())
+                .forEach(financial -> openFinancialIds.add(financial.getId()));
+    }
+
+    private void seedAnimals(AnimalRepository animalRepository, List<Client> clients) {
+        List<Animal> animals = new ArrayList<>();
+        for (int i = 0; i < clients.size(); i++) {
+            animals.add(Animal.builder()
+                    .name("Pet " + i)
+                    .species(SPECIES[i % SPECIES.length])
+                    .birthDate(LocalDate.of(2015 + random.nextInt(10), 1 + random.nextInt(12), 1))
+                    .client(clients.get(i))
+                    .build());
+        }
+        for (Animal animal : animalRepository.saveAll(animals)) {
+            animalIds.add(animal.getId());
+            animalOwnerIds.add(animal.getClient().getId());
+        }
+    }
+
+    private void seedVeterinarians(VeterinarianCategoryRepository categoryRepository, VeterinarianRepository veterinarianRepository) {
+        VeterinarianCategory category = categoryRepository.save(VeterinarianCategory.builder().name("Clínico geral").build());
+        List<Veterinarian> veterinarians = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            veterinarians.add(Veterinarian.builder()
+                    .name("Dr. " + FIRST_NAMES[i % FIRST_NAMES.length] + " " + i)
+                    .crmv(String.format("PR-%05d", i))
+                    .phone("41999990000")
+                    .email("vet" + i + "@petshop.com")
+                    .category(category)
+                    .build());
+        }
+        veterinarianRepository.saveAll(veterinarians).forEach(veterinarian -> veterinarianIds.add(veterinarian.getId()));
+    }
+
+    private void seedSales(SaleService saleService, int sales) {
+        for (int i = 0; i < sales; i++) {
+            List<CreateProductSaleDto> items = new ArrayList<>();
+            for (int j = 0, count = 1 + random.nextInt(4); j < count; j++) {
+                CreateProductSaleDto item = new CreateProductSaleDto();
+                item.setProductId(productIds.get(random.nextInt(productIds.size())));
+                item.setQuantity(1 + random.nextInt(3));
+                item.setPrice(BigDecimal.valueOf(5 + random.nextInt(200)).setScale(2));
+                items.add(item);
+            }
+            CreateSaleDto sale = new CreateSaleDto();
+            sale.setClientId(clientIds.get(random.nextInt(clientIds.size())));
+            sale.setProductSales(items);
+            sale.setPaymentType(SalePaymentType.INSTALLMENTS);
+            sale.setInstallments(1 + random.nextInt(6));
+            sale.setIntervalDays(30);
+            saleService.createSale(sale);
+        }
+    }
+
+    public List<UUID> getClientIds() {
+        return clientIds;
+    }
+
+    public List<UUID> getProductIds() {
+        return productIds;
+    }
+
+    public List<UUID> getAnimalIds() {
+        return animalIds;
+    }
+
+    public List<UUID> getAnimalOwnerIds() {
+        return animalOwnerIds;
+    }
+
+    public List<UUID> getVeterinarianIds() {
+        return veterinarianIds;
+    }
+
+    public List<UUID> getMonetaryTypeIds() {
+        return monetaryTypeIds;
+    }
+
+    public List<UUID> getOpenFinancialIds() {
+        return openFinancialIds;
+    }
+}
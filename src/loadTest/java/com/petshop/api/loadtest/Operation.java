@@ -0,0 +1,36 @@
+package com.petshop.api.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public enum Operation {
+    PRODUCT_LOOKUP("GET /api/v1/products/{id}", 30),
+    CLIENT_LOOKUP("GET /api/v1/clients/{id}", 30),
+    SALE_CREATION("POST /api/v1/sale", 20),
+    PAYMENT("PATCH /api/v1/financial/payment/{id}", 10),
+    APPOINTMENT_BOOKING("POST /api/v1/medical-appointments", 10);
+
+    private static final int TOTAL_WEIGHT = 100;
+
+    private final String endpoint;
+    private final int weight;
+
+    Operation(String endpoint, int weight) {
+        this.endpoint = endpoint;
+        this.weight = weight;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public static Operation next() {
+        int roll = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+        for (Operation operation : values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return PRODUCT_LOOKUP;
+    }
+}
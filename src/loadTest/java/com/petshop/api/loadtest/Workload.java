@@ -0,0 +1,80 @@
+package com.petshop.api.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class Workload {
+
+    private static final DateTimeFormatter APPOINTMENT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ApiClient client;
+    private final LoadTestSeeder seeder;
+    private final AtomicLong appointmentSlots = new AtomicLong();
+    private final LocalDateTime firstAppointment = LocalDate.now().plusDays(1).atTime(8, 0);
+
+    public Workload(ApiClient client, LoadTestSeeder seeder) {
+        this.client = client;
+        this.seeder = seeder;
+    }
+
+    public HttpResponse<String> execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case PRODUCT_LOOKUP -> client.get("/api/v1/products/" + pick(seeder.getProductIds()));
+            case CLIENT_LOOKUP -> client.get("/api/v1/clients/" + pick(seeder.getClientIds()));
+            case SALE_CREATION -> client.post("/api/v1/sale", sale());
+            case PAYMENT -> client.patch("/api/v1/financial/payment/" + pick(seeder.getOpenFinancialIds()), payment());
+            case APPOINTMENT_BOOKING -> client.post("/api/v1/medical-appointments", appointment());
+        };
+    }
+
+    private Map<String, Object> sale() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int items = 1 + random.nextInt(5);
+        List<Map<String, Object>> productSales = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            productSales.add(Map.of(
+                    "productId", pick(seeder.getProductIds()),
+                    "quantity", 1 + random.nextInt(3),
+                    "price", "19.90"));
+        }
+        boolean installments = random.nextInt(3) == 0;
+        return Map.of(
+                "clientId", pick(seeder.getClientIds()),
+                "productSales", productSales,
+                "paymentType", installments ? "INSTALLMENTS" : "CASH",
+                "installments", installments ? 3 : 1,
+                "intervalDays", 30);
+    }
+
+    private Map<String, Object> payment() {
+        return Map.of(
+                "paidAmount", "0.01",
+                "paymentDate", LocalDate.now().toString(),
+                "monetaryTypeId", pick(seeder.getMonetaryTypeIds()));
+    }
+
+    private Map<String, Object> appointment() {
+        int index = ThreadLocalRandom.current().nextInt(seeder.getAnimalIds().size());
+        long slot = appointmentSlots.getAndIncrement();
+        LocalDateTime start = firstAppointment.plusMinutes(30 * (slot / seeder.getVeterinarianIds().size()));
+        return Map.of(
+                "veterinarianId", seeder.getVeterinarianIds().get((int) (slot % seeder.getVeterinarianIds().size())),
+                "animalId", seeder.getAnimalIds().get(index),
+                "clientId", seeder.getAnimalOwnerIds().get(index),
+                "appointmentStartTime", start.format(APPOINTMENT_FORMAT),
+                "durationMinutes", 30);
+    }
+
+    private static UUID pick(List<UUID> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.petshop.api.config;
+
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+@Component
+public class DatabaseFeatures {
+
+    private final boolean postgres;
+
+    public DatabaseFeatures(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            this.postgres = "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read database metadata", e);
+        }
+    }
+
+    public boolean isPostgres() {
+        return postgres;
+    }
+}
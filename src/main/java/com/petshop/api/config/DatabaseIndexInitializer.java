@@ -0,0 +1,44 @@
+package com.petshop.api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatabaseIndexInitializer implements ApplicationRunner {
+
+    private static final List<String> POSTGRES_STATEMENTS = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_clients_name_trgm ON clients USING gin (upper(name) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_products_name_trgm ON products USING gin (upper(name) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_animals_name_trgm ON animals USING gin (upper(name) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_veterinarian_name_trgm ON veterinarian USING gin (upper(name) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_financial_open_due_date ON financial (due_date) "
+                    + "INCLUDE (client_id, balance, amount) WHERE is_paid = false"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseFeatures databaseFeatures;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!databaseFeatures.isPostgres()) {
+            return;
+        }
+        for (String statement : POSTGRES_STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException e) {
+                log.warn("Could not apply database index statement [{}]: {}", statement, e.getMessage());
+            }
+        }
+    }
+}
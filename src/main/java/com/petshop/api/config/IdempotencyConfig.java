@@ -0,0 +1,10 @@
+package com.petshop.api.config;
+
+import com.petshop.api.domain.idempotency.IdempotencyProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+}
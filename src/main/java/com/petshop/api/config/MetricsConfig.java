@@ -0,0 +1,42 @@
+package com.petshop.api.config;
+
+import com.petshop.api.metrics.LockWaitMetricsListener;
+import com.petshop.api.metrics.SqlBudgetProperties;
+import com.petshop.api.metrics.SqlStatementCounter;
+import com.petshop.api.metrics.SqlTimingListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+@Configuration
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+public class MetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor lockWaitMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        LockWaitMetricsListener listener = new LockWaitMetricsListener(meterRegistry::getObject);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter statementCounter) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingListener.class.getName());
+        };
+    }
+}
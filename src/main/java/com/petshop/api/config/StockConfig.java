@@ -0,0 +1,12 @@
+package com.petshop.api.config;
+
+import com.petshop.api.domain.stock.StockProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(StockProperties.class)
+public class StockConfig {
+}
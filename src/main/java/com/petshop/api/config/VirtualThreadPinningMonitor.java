@@ -0,0 +1,122 @@
+package com.petshop.api.config;
+
+import com.petshop.api.dto.response.PinningSiteDto;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "application.diagnostics.pinning", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_SITES = 20;
+
+    private final Duration threshold;
+    private final LongAdder events = new LongAdder();
+    private final LongAdder totalPinnedNanos = new LongAdder();
+    private final AtomicLong maxPinnedNanos = new AtomicLong();
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(@Value("${application.diagnostics.pinning.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    public long getEvents() {
+        return events.sum();
+    }
+
+    public long getTotalPinnedMillis() {
+        return Duration.ofNanos(totalPinnedNanos.sum()).toMillis();
+    }
+
+    public long getMaxPinnedMillis() {
+        return Duration.ofNanos(maxPinnedNanos.get()).toMillis();
+    }
+
+    public List<PinningSiteDto> getSites() {
+        return sites.entrySet().stream()
+                .map(entry -> new PinningSiteDto(entry.getKey(), entry.getValue().events.sum(),
+                        Duration.ofNanos(entry.getValue().pinnedNanos.sum()).toMillis()))
+                .sorted(Comparator.comparingLong(PinningSiteDto::getTotalPinnedMillis).reversed()
+                        .thenComparing(Comparator.comparingLong(PinningSiteDto::getEvents).reversed()))
+                .limit(MAX_SITES)
+                .toList();
+    }
+
+    void recordPinning(String frame, Duration duration) {
+        long nanos = duration.toNanos();
+        events.increment();
+        totalPinnedNanos.add(nanos);
+        maxPinnedNanos.accumulateAndGet(nanos, Math::max);
+        Site site = sites.computeIfAbsent(frame, key -> new Site());
+        site.events.increment();
+        site.pinnedNanos.add(nanos);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String frame = pinningFrame(event);
+        recordPinning(frame, event.getDuration());
+        log.warn("Virtual thread pinned its carrier for {} ms at {}", event.getDuration().toMillis(), frame);
+    }
+
+    private static String pinningFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> !isJdkFrame(frame))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .orElse("unknown");
+    }
+
+    private static boolean isJdkFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+    }
+
+    private static final class Site {
+        private final LongAdder events = new LongAdder();
+        private final LongAdder pinnedNanos = new LongAdder();
+    }
+}
@@ -0,0 +1,29 @@
+package com.petshop.api.controller;
+
+import com.petshop.api.dto.response.CacheRegionStatsDto;
+import com.petshop.api.service.ReferenceCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/cache")
+public class CacheController {
+
+    private final ReferenceCacheService referenceCacheService;
+
+    @GetMapping
+    public ResponseEntity<List<CacheRegionStatsDto>> getRegionStats(){
+        List<CacheRegionStatsDto> stats = referenceCacheService.getRegionStats();
+        return ResponseEntity.ok(stats);
+    }
+
+    @DeleteMapping("/{region}")
+    public ResponseEntity<Void> evictRegion(@PathVariable String region){
+        referenceCacheService.evictRegion(region);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.petshop.api.controller;
+
+import com.petshop.api.dto.response.PinningReportDto;
+import com.petshop.api.service.DiagnosticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/diagnostics")
+public class DiagnosticsController {
+
+    private final DiagnosticsService diagnosticsService;
+
+    @GetMapping("/pinning")
+    public ResponseEntity<PinningReportDto> getPinningReport(){
+        PinningReportDto report = diagnosticsService.getPinningReport();
+        return ResponseEntity.ok(report);
+    }
+}
@@ -0,0 +1,53 @@
+package com.petshop.api.controller;
+
+import com.petshop.api.domain.export.ExportFormat;
+import com.petshop.api.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/export")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/sales")
+    public ResponseEntity<StreamingResponseBody> exportSales(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        return attachment(format, "sales", exportService.exportSales(format, from, to));
+    }
+
+    @GetMapping("/financial")
+    public ResponseEntity<StreamingResponseBody> exportFinancial(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        return attachment(format, "financial", exportService.exportFinancial(format, from, to));
+    }
+
+    @GetMapping("/stock-movements")
+    public ResponseEntity<StreamingResponseBody> exportStockMovements(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        return attachment(format, "stock-movements", exportService.exportStockMovements(format, from, to));
+    }
+
+    private ResponseEntity<StreamingResponseBody> attachment(ExportFormat format, String name, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(format.fileName(name)).build().toString())
+                .body(body);
+    }
+}
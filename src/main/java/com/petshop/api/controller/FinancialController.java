@@ -2,16 +2,21 @@ package com.petshop.api.controller;
 
 import com.petshop.api.dto.request.CreateFinancialDto;
 import com.petshop.api.dto.request.CreateFinancialPaymentDto;
+import com.petshop.api.dto.response.AgingReportDto;
+import com.petshop.api.dto.response.CursorPageResponseDto;
 import com.petshop.api.dto.response.FinancialResponseDto;
 import com.petshop.api.service.FinancialService;
+import com.petshop.api.service.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,6 +25,7 @@ import java.util.UUID;
 @RequestMapping("/api/v1/financial")
 public class FinancialController {
     private final FinancialService financialService;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping
     public ResponseEntity<Page<FinancialResponseDto>> getAllFinancial(Pageable pageable){
@@ -27,6 +33,20 @@ public class FinancialController {
         return ResponseEntity.ok(financials);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponseDto<FinancialResponseDto>> scrollFinancial(@RequestParam(required = false) String cursor,
+                                                                                    @RequestParam(required = false) Integer size){
+        CursorPageResponseDto<FinancialResponseDto> financials = financialService.scrollFinancial(cursor, size);
+        return ResponseEntity.ok(financials);
+    }
+
+    @GetMapping("/aging")
+    public ResponseEntity<AgingReportDto> getAgingReport(@RequestParam(required = false)
+                                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf){
+        AgingReportDto report = financialService.getAgingReport(asOf);
+        return ResponseEntity.ok(report);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<FinancialResponseDto> getFinancialById(@PathVariable UUID id){
         FinancialResponseDto financial = financialService.getFinancialById(id);
@@ -46,9 +66,11 @@ public class FinancialController {
     }
 
     @PatchMapping("/payment/{id}")
-    public ResponseEntity<FinancialResponseDto> payFinancial(@PathVariable UUID id, @RequestBody CreateFinancialPaymentDto createFinancialPaymentDto){
-        FinancialResponseDto paidFinancial = financialService.payFinancial(id, createFinancialPaymentDto);
-        return ResponseEntity.ok(paidFinancial);
+    public ResponseEntity<FinancialResponseDto> payFinancial(@PathVariable UUID id,
+                                                             @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                                             @RequestBody CreateFinancialPaymentDto createFinancialPaymentDto){
+        return idempotencyService.execute(idempotencyKey, "PATCH /api/v1/financial/payment/" + id, createFinancialPaymentDto,
+                FinancialResponseDto.class, HttpStatus.OK, () -> financialService.payFinancial(id, createFinancialPaymentDto));
     }
 
     @DeleteMapping("/refund/{id}")
@@ -0,0 +1,29 @@
+package com.petshop.api.controller;
+
+import com.petshop.api.dto.response.OutboxRedriveResponseDto;
+import com.petshop.api.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/outbox")
+public class OutboxController {
+
+    private final OutboxService outboxService;
+
+    @PostMapping("/failed/redrive")
+    public ResponseEntity<OutboxRedriveResponseDto> redriveFailed(){
+        int redriven = outboxService.redriveFailed();
+        return ResponseEntity.ok(new OutboxRedriveResponseDto(redriven));
+    }
+
+    @PostMapping("/{id}/redrive")
+    public ResponseEntity<Void> redrive(@PathVariable UUID id){
+        outboxService.redrive(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,7 +1,11 @@
 package com.petshop.api.controller;
 
 import com.petshop.api.dto.request.CreateSaleDto;
+import com.petshop.api.dto.response.CursorPageResponseDto;
+import com.petshop.api.dto.response.SaleImportResultDto;
 import com.petshop.api.dto.response.SaleResponseDto;
+import com.petshop.api.service.IdempotencyService;
+import com.petshop.api.service.SaleImportService;
 import com.petshop.api.service.SaleService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +15,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 @RestController
@@ -18,6 +24,8 @@ import java.util.UUID;
 @RequestMapping("/api/v1/sale")
 public class SaleController {
     private  final SaleService saleService;
+    private final SaleImportService saleImportService;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping
     public ResponseEntity<Page<SaleResponseDto>> getAllSales(Pageable pageable){
@@ -25,6 +33,13 @@ public class SaleController {
         return ResponseEntity.ok(sales);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponseDto<SaleResponseDto>> scrollSales(@RequestParam(required = false) String cursor,
+                                                                          @RequestParam(required = false) Integer size){
+        CursorPageResponseDto<SaleResponseDto> sales = saleService.scrollSales(cursor, size);
+        return ResponseEntity.ok(sales);
+    }
+
     @GetMapping("/{id}")
     public  ResponseEntity<SaleResponseDto> getSaleById(@PathVariable UUID id){
         SaleResponseDto sale = saleService.getSaleById(id);
@@ -38,9 +53,16 @@ public class SaleController {
     }
 
     @PostMapping
-    public ResponseEntity<SaleResponseDto> createSale(@Valid @RequestBody CreateSaleDto createSaleDTO){
-        SaleResponseDto createdSale = saleService.createSale(createSaleDTO);
-        return new ResponseEntity<>(createdSale, HttpStatus.CREATED);
+    public ResponseEntity<SaleResponseDto> createSale(@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                                      @Valid @RequestBody CreateSaleDto createSaleDTO){
+        return idempotencyService.execute(idempotencyKey, "POST /api/v1/sale", createSaleDTO, SaleResponseDto.class,
+                HttpStatus.CREATED, () -> saleService.createSale(createSaleDTO));
+    }
+
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "application/json"})
+    public ResponseEntity<SaleImportResultDto> importSales(InputStream body) throws IOException {
+        SaleImportResultDto result = saleImportService.importSales(body);
+        return ResponseEntity.ok(result);
     }
 
     @PostMapping("/cancel/{id}")
@@ -0,0 +1,35 @@
+package com.petshop.api.controller;
+
+import com.petshop.api.dto.response.SalesRollupResponseDto;
+import com.petshop.api.model.enums.RollupDimension;
+import com.petshop.api.model.enums.RollupPeriod;
+import com.petshop.api.service.SalesReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reports")
+public class SalesReportController {
+
+    private final SalesReportService salesReportService;
+
+    @GetMapping("/sales")
+    public ResponseEntity<List<SalesRollupResponseDto>> getSalesRollups(
+            @RequestParam(defaultValue = "DAILY") RollupPeriod period,
+            @RequestParam(defaultValue = "PRODUCT") RollupDimension dimension,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String key){
+        List<SalesRollupResponseDto> rollups = salesReportService.getRollups(period, dimension, from, to, key);
+        return ResponseEntity.ok(rollups);
+    }
+}
@@ -0,0 +1,30 @@
+package com.petshop.api.controller;
+
+import com.petshop.api.dto.response.SearchResultDto;
+import com.petshop.api.model.enums.SearchTarget;
+import com.petshop.api.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<List<SearchResultDto>> search(@RequestParam String term,
+                                                        @RequestParam(required = false) Set<SearchTarget> type,
+                                                        @RequestParam(required = false) Integer limit){
+        List<SearchResultDto> results = searchService.search(term, type, limit);
+        return ResponseEntity.ok(results);
+    }
+}
@@ -1,7 +1,17 @@
 package com.petshop.api.controller;
 
 import com.petshop.api.dto.request.CreateStockMovementDto;
+import com.petshop.api.dto.request.CreateStockReceiptDto;
+import com.petshop.api.dto.response.CursorPageResponseDto;
+import com.petshop.api.dto.response.StockBalanceResponseDto;
+import com.petshop.api.dto.response.StockMovementResponseDto;
+import com.petshop.api.dto.response.StockReceiptResponseDto;
+import com.petshop.api.dto.response.StockReconciliationResponseDto;
+import com.petshop.api.dto.response.StockReservationCheckResponseDto;
+import com.petshop.api.service.StockLedgerService;
 import com.petshop.api.service.StockMovementService;
+import com.petshop.api.service.StockReservationService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +24,34 @@ import java.util.UUID;
 public class StockMovementController {
 
     private final StockMovementService stockMovementService;
+    private final StockLedgerService stockLedgerService;
+    private final StockReservationService stockReservationService;
+
+    @GetMapping("/history/{productId}")
+    public ResponseEntity<CursorPageResponseDto<StockMovementResponseDto>> getHistory(@PathVariable UUID productId,
+                                                                                   @RequestParam(required = false) String cursor,
+                                                                                   @RequestParam(required = false) Integer size){
+        CursorPageResponseDto<StockMovementResponseDto> history = stockMovementService.getHistory(productId, cursor, size);
+        return ResponseEntity.ok(history);
+    }
+
+    @GetMapping("/balance/{productId}")
+    public ResponseEntity<StockBalanceResponseDto> getBalance(@PathVariable UUID productId){
+        StockBalanceResponseDto balance = stockMovementService.getBalance(productId);
+        return ResponseEntity.ok(balance);
+    }
+
+    @PostMapping("/ledger/reconcile")
+    public ResponseEntity<StockReconciliationResponseDto> reconcileLedger(){
+        StockReconciliationResponseDto reconciliation = stockLedgerService.reconcile();
+        return ResponseEntity.ok(reconciliation);
+    }
+
+    @GetMapping("/reservations/check")
+    public ResponseEntity<StockReservationCheckResponseDto> checkReservations(){
+        StockReservationCheckResponseDto check = stockReservationService.check();
+        return ResponseEntity.ok(check);
+    }
 
     @PostMapping("/input/{id}")
     public ResponseEntity<Void> giveInputStock(@PathVariable UUID id, @RequestBody  CreateStockMovementDto createStockMovementDTO){
@@ -21,6 +59,12 @@ public class StockMovementController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/receipt")
+    public ResponseEntity<StockReceiptResponseDto> receiveInvoice(@Valid @RequestBody CreateStockReceiptDto createStockReceiptDto){
+        StockReceiptResponseDto receipt = stockMovementService.registerReceipt(createStockReceiptDto);
+        return ResponseEntity.ok(receipt);
+    }
+
     @PostMapping("/output/{id}")
     public ResponseEntity<Void> giveOutputStock(@PathVariable UUID id,@RequestBody  CreateStockMovementDto createStockMovementDTO){
         stockMovementService.registerOutput(id, createStockMovementDTO);
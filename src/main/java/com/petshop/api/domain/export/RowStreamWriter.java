@@ -0,0 +1,93 @@
+package com.petshop.api.domain.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class RowStreamWriter<T> implements AutoCloseable {
+
+    private final Writer writer;
+    private final ExportFormat format;
+    private final List<ExportColumn<T>> columns;
+    private final JsonGenerator jsonGenerator;
+
+    public RowStreamWriter(OutputStream output, ExportFormat format, List<ExportColumn<T>> columns,
+                           ObjectMapper objectMapper) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+        this.format = format;
+        this.columns = columns;
+        if (format == ExportFormat.NDJSON) {
+            this.jsonGenerator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } else {
+            this.jsonGenerator = null;
+            writeCsvHeader();
+        }
+    }
+
+    public void write(T row) throws IOException {
+        if (jsonGenerator != null) {
+            jsonGenerator.writeStartObject();
+            for (ExportColumn<T> column : columns) {
+                jsonGenerator.writeObjectField(column.name(), column.value().apply(row));
+            }
+            jsonGenerator.writeEndObject();
+            jsonGenerator.writeRaw('\n');
+            return;
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = columns.get(i).value().apply(row);
+            if (value != null) {
+                writeCsvValue(value.toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    public void flush() throws IOException {
+        if (jsonGenerator != null) {
+            jsonGenerator.flush();
+        }
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (jsonGenerator != null) {
+            jsonGenerator.close();
+        }
+        writer.flush();
+    }
+
+    private void writeCsvHeader() throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(columns.get(i).name());
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvValue(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,20 @@
+package com.petshop.api.domain.idempotency;
+
+import com.petshop.api.service.IdempotencyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class IdempotencyCleanupScheduler implements SchedulingConfigurer {
+
+    private final IdempotencyService idempotencyService;
+    private final IdempotencyProperties idempotencyProperties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(idempotencyService::deleteExpired, idempotencyProperties.cleanupInterval());
+    }
+}
@@ -0,0 +1,16 @@
+package com.petshop.api.domain.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "application.idempotency")
+public record IdempotencyProperties(Duration ttl, Duration lockTimeout, Duration cleanupInterval, Long cacheSize) {
+
+    public IdempotencyProperties {
+        ttl = ttl != null ? ttl : Duration.ofHours(24);
+        lockTimeout = lockTimeout != null ? lockTimeout : Duration.ofMinutes(1);
+        cleanupInterval = cleanupInterval != null ? cleanupInterval : Duration.ofMinutes(15);
+        cacheSize = cacheSize != null ? cacheSize : 10000L;
+    }
+}
@@ -0,0 +1,4 @@
+package com.petshop.api.domain.idempotency;
+
+public record StoredResponse(String fingerprint, int status, String body) {
+}
@@ -0,0 +1,13 @@
+package com.petshop.api.domain.outbox;
+
+import com.petshop.api.model.entities.OutboxEvent;
+import com.petshop.api.model.enums.OutboxEventType;
+
+import java.util.Set;
+
+public interface OutboxEventHandler {
+
+    Set<OutboxEventType> eventTypes();
+
+    void handle(OutboxEvent event);
+}
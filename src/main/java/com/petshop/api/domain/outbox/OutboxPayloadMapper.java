@@ -0,0 +1,30 @@
+package com.petshop.api.domain.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petshop.api.model.entities.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxPayloadMapper {
+
+    private final ObjectMapper objectMapper;
+
+    public String write(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the outbox payload", e);
+        }
+    }
+
+    public <T> T read(OutboxEvent event, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(event.getPayload(), payloadType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read the payload of outbox event " + event.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.petshop.api.domain.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "application.outbox")
+public record OutboxProperties(Duration pollInterval, Integer batchSize, Integer concurrency, Integer maxAttempts,
+                               Duration retention, Duration cleanupInterval, Duration initialBackoff,
+                               Duration maxBackoff) {
+
+    public OutboxProperties {
+        pollInterval = pollInterval != null ? pollInterval : Duration.ofMillis(500);
+        batchSize = batchSize != null ? batchSize : 200;
+        concurrency = concurrency != null ? concurrency : 4;
+        maxAttempts = maxAttempts != null ? maxAttempts : 10;
+        retention = retention != null ? retention : Duration.ofDays(7);
+        cleanupInterval = cleanupInterval != null ? cleanupInterval : Duration.ofHours(1);
+        initialBackoff = initialBackoff != null ? initialBackoff : Duration.ofSeconds(1);
+        maxBackoff = maxBackoff != null ? maxBackoff : Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,23 @@
+package com.petshop.api.domain.outbox;
+
+import com.petshop.api.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.outbox", name = "dispatcher-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxScheduler implements SchedulingConfigurer {
+
+    private final OutboxService outboxService;
+    private final OutboxProperties outboxProperties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(outboxService::dispatch, outboxProperties.pollInterval());
+        registrar.addFixedDelayTask(outboxService::deleteProcessed, outboxProperties.cleanupInterval());
+    }
+}
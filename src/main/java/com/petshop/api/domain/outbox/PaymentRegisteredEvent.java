@@ -0,0 +1,9 @@
+package com.petshop.api.domain.outbox;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record PaymentRegisteredEvent(UUID financialId, UUID saleId, BigDecimal paidAmount, LocalDate paymentDate,
+                                     boolean paid) {
+}
@@ -0,0 +1,7 @@
+package com.petshop.api.domain.outbox;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record SaleCanceledEvent(UUID saleId, UUID clientId, BigDecimal totalValue) {
+}
@@ -0,0 +1,9 @@
+package com.petshop.api.domain.outbox;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SaleCreatedEvent(UUID saleId, UUID clientId, LocalDateTime saleDate, BigDecimal totalValue,
+                               boolean rollupRecorded) {
+}
@@ -0,0 +1,8 @@
+package com.petshop.api.domain.outbox;
+
+import com.petshop.api.model.enums.TypeMovement;
+
+import java.util.UUID;
+
+public record StockChangedEvent(UUID productId, TypeMovement type, int quantity) {
+}
@@ -0,0 +1,44 @@
+package com.petshop.api.domain.pagination;
+
+import com.petshop.api.dto.response.CursorPageResponseDto;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+public final class KeysetPage {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private KeysetPage() {
+    }
+
+    public static int size(Integer requested) {
+        if (requested == null || requested < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(requested, MAX_SIZE);
+    }
+
+    public static Limit fetchLimit(int size) {
+        return Limit.of(size + 1);
+    }
+
+    public static <E> List<E> trim(List<E> rows, int size) {
+        return rows.size() > size ? rows.subList(0, size) : rows;
+    }
+
+    public static <E, T> CursorPageResponseDto<T> toResponse(List<E> rows, int size, Function<E, Object> key,
+                                                             Function<E, UUID> id, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = trim(rows, size);
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(key.apply(last), id.apply(last));
+        }
+        return new CursorPageResponseDto<>(page.stream().map(mapper).toList(), page.size(), hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,85 @@
+package com.petshop.api.domain.report;
+
+import com.petshop.api.dto.response.AgingBucketsDto;
+import com.petshop.api.dto.response.AgingReportDto;
+import com.petshop.api.dto.response.ClientAgingDto;
+import com.petshop.api.repository.projection.OpenReceivable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class AgingReportAccumulator {
+
+    private static final int BUCKETS = 5;
+
+    private final LocalDate asOf;
+    private final Map<UUID, ClientBuckets> clients = new HashMap<>();
+    private final ClientBuckets totals = new ClientBuckets(null);
+
+    public AgingReportAccumulator(LocalDate asOf) {
+        this.asOf = asOf;
+    }
+
+    public void add(OpenReceivable receivable) {
+        if (receivable.getBalance() == null) {
+            return;
+        }
+        int bucket = bucket(receivable.getDueDate());
+        clients.computeIfAbsent(receivable.getClientId(), id -> new ClientBuckets(receivable.getClientName()))
+                .add(bucket, receivable.getBalance());
+        totals.add(bucket, receivable.getBalance());
+    }
+
+    public AgingReportDto toReport() {
+        return new AgingReportDto(asOf, totals.toDto(), clients.entrySet().stream()
+                .map(entry -> new ClientAgingDto(entry.getKey(), entry.getValue().name, entry.getValue().toDto()))
+                .sorted(Comparator.comparing((ClientAgingDto client) -> client.getBuckets().getTotal()).reversed()
+                        .thenComparing(ClientAgingDto::getClientName, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList());
+    }
+
+    int bucket(LocalDate dueDate) {
+        long daysOverdue = dueDate == null ? 0 : ChronoUnit.DAYS.between(dueDate, asOf);
+        if (daysOverdue <= 0) {
+            return 0;
+        }
+        if (daysOverdue <= 30) {
+            return 1;
+        }
+        if (daysOverdue <= 60) {
+            return 2;
+        }
+        return daysOverdue <= 90 ? 3 : 4;
+    }
+
+    private static final class ClientBuckets {
+
+        private final String name;
+        private final BigDecimal[] amounts = new BigDecimal[BUCKETS];
+        private long installments;
+
+        private ClientBuckets(String name) {
+            this.name = name;
+            Arrays.fill(amounts, BigDecimal.ZERO);
+        }
+
+        private void add(int bucket, BigDecimal balance) {
+            amounts[bucket] = amounts[bucket].add(balance);
+            installments++;
+        }
+
+        private AgingBucketsDto toDto() {
+            BigDecimal total = BigDecimal.ZERO;
+            for (BigDecimal amount : amounts) {
+                total = total.add(amount);
+            }
+            return new AgingBucketsDto(amounts[0], amounts[1], amounts[2], amounts[3], amounts[4], total, installments);
+        }
+    }
+}
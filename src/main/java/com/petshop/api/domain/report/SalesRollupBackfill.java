@@ -0,0 +1,44 @@
+package com.petshop.api.domain.report;
+
+import com.petshop.api.service.SalesReportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "application.reports.backfill", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SalesRollupBackfill implements SmartInitializingSingleton, ApplicationRunner {
+
+    private final SalesReportService salesReportService;
+    private final int batchSize;
+
+    public SalesRollupBackfill(SalesReportService salesReportService,
+                               @Value("${application.reports.backfill.batch-size:500}") int batchSize) {
+        this.salesReportService = salesReportService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (salesReportService.resetUntrackedRollups()) {
+            log.info("Sales rollups were written without per-sale entries, rebuilding them from the sales table");
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int total = 0;
+        int found;
+        while ((found = salesReportService.backfill(batchSize)) > 0) {
+            total += found;
+        }
+        if (total > 0) {
+            log.info("Backfilled {} sales into the sales rollups", total);
+        }
+    }
+}
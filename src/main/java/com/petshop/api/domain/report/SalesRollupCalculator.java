@@ -0,0 +1,73 @@
+package com.petshop.api.domain.report;
+
+import com.petshop.api.model.entities.Product;
+import com.petshop.api.model.entities.ProductSale;
+import com.petshop.api.model.entities.Sale;
+import com.petshop.api.model.enums.RollupDimension;
+import com.petshop.api.model.enums.RollupPeriod;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class SalesRollupCalculator {
+
+    private static final Comparator<SalesRollupDelta> LOCK_ORDER = Comparator
+            .comparing(SalesRollupDelta::period)
+            .thenComparing(SalesRollupDelta::dimension)
+            .thenComparing(SalesRollupDelta::periodStart)
+            .thenComparing(SalesRollupDelta::dimensionKey);
+
+    public List<SalesRollupDelta> deltasForSale(Sale sale) {
+        return deltas(sale, 1);
+    }
+
+    public List<SalesRollupDelta> deltasForCancellation(Sale sale) {
+        return deltas(sale, -1);
+    }
+
+    public List<SalesRollupDelta> deltasForSales(List<Sale> sales) {
+        Map<String, SalesRollupDelta> merged = new LinkedHashMap<>();
+        for (Sale sale : sales) {
+            for (SalesRollupDelta delta : deltas(sale, 1)) {
+                merged.merge(delta.period() + "|" + delta.dimension() + "|" + delta.periodStart() + "|" + delta.dimensionKey(),
+                        delta, SalesRollupDelta::merge);
+            }
+        }
+        return merged.values().stream().sorted(LOCK_ORDER).toList();
+    }
+
+    private List<SalesRollupDelta> deltas(Sale sale, int sign) {
+        LocalDate saleDay = sale.getSaleDate().toLocalDate();
+        Map<String, SalesRollupDelta> deltas = new LinkedHashMap<>();
+        long totalQuantity = (long) sign * sale.getProductSales().stream().mapToLong(ProductSale::getQuantity).sum();
+        BigDecimal total = sale.getTotalValue().multiply(BigDecimal.valueOf(sign));
+        for (RollupPeriod period : RollupPeriod.values()) {
+            LocalDate periodStart = period.start(saleDay);
+            for (ProductSale item : sale.getProductSales()) {
+                Product product = item.getProduct();
+                long quantity = (long) sign * item.getQuantity();
+                BigDecimal revenue = item.getUnitPrice().multiply(BigDecimal.valueOf(quantity));
+                add(deltas, period, RollupDimension.PRODUCT, periodStart, product.getId().toString(), product.getName(),
+                        sign, quantity, revenue);
+                add(deltas, period, RollupDimension.CATEGORY, periodStart, product.getCategory().getId().toString(),
+                        product.getCategory().getName(), sign, quantity, revenue);
+            }
+            add(deltas, period, RollupDimension.PAYMENT_TYPE, periodStart, sale.getPaymentType().name(), sale.getPaymentType().name(),
+                    sign, totalQuantity, total);
+        }
+        return deltas.values().stream().sorted(LOCK_ORDER).toList();
+    }
+
+    private void add(Map<String, SalesRollupDelta> deltas, RollupPeriod period, RollupDimension dimension,
+                     LocalDate periodStart, String key, String label, long saleCount, long quantity, BigDecimal revenue) {
+        deltas.merge(period + "|" + dimension + "|" + key,
+                new SalesRollupDelta(period, dimension, periodStart, key, label, saleCount, quantity, revenue),
+                (current, added) -> current.plus(added.quantity(), added.revenue()));
+    }
+}
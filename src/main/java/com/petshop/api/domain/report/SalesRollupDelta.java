@@ -0,0 +1,27 @@
+package com.petshop.api.domain.report;
+
+import com.petshop.api.model.enums.RollupDimension;
+import com.petshop.api.model.enums.RollupPeriod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record SalesRollupDelta(RollupPeriod period,
+                               RollupDimension dimension,
+                               LocalDate periodStart,
+                               String dimensionKey,
+                               String dimensionLabel,
+                               long saleCount,
+                               long quantity,
+                               BigDecimal revenue) {
+
+    SalesRollupDelta plus(long otherQuantity, BigDecimal otherRevenue) {
+        return new SalesRollupDelta(period, dimension, periodStart, dimensionKey, dimensionLabel,
+                saleCount, quantity + otherQuantity, revenue.add(otherRevenue));
+    }
+
+    SalesRollupDelta merge(SalesRollupDelta other) {
+        return new SalesRollupDelta(period, dimension, periodStart, dimensionKey, dimensionLabel,
+                saleCount + other.saleCount, quantity + other.quantity, revenue.add(other.revenue));
+    }
+}
@@ -0,0 +1,42 @@
+package com.petshop.api.domain.report;
+
+import com.petshop.api.domain.outbox.OutboxEventHandler;
+import com.petshop.api.domain.outbox.OutboxPayloadMapper;
+import com.petshop.api.domain.outbox.SaleCreatedEvent;
+import com.petshop.api.model.entities.OutboxEvent;
+import com.petshop.api.model.enums.OutboxEventType;
+import com.petshop.api.repository.SaleRepository;
+import com.petshop.api.service.SalesReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class SalesRollupEventHandler implements OutboxEventHandler {
+
+    private final SaleRepository saleRepository;
+    private final SalesReportService salesReportService;
+    private final OutboxPayloadMapper outboxPayloadMapper;
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return Set.of(OutboxEventType.SALE_CREATED, OutboxEventType.SALE_CANCELED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        if (event.getEventType() == OutboxEventType.SALE_CREATED
+                && outboxPayloadMapper.read(event, SaleCreatedEvent.class).rollupRecorded()) {
+            return;
+        }
+        saleRepository.findDetailById(event.getAggregateId()).ifPresent(sale -> {
+            if (event.getEventType() == OutboxEventType.SALE_CREATED) {
+                salesReportService.recordSale(sale);
+            } else {
+                salesReportService.revertSale(sale);
+            }
+        });
+    }
+}
@@ -2,32 +2,34 @@ package com.petshop.api.domain.sale;
 
 import com.petshop.api.dto.request.CreateProductSaleDto;
 import com.petshop.api.dto.request.CreateSaleDto;
-import com.petshop.api.exception.ResourceNotFoundException;
 import com.petshop.api.model.entities.ProductSale;
 import com.petshop.api.model.entities.Sale;
-import com.petshop.api.repository.ProductRepository;
+import com.petshop.api.model.entities.StockMovement;
 import com.petshop.api.service.StockMovementService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class SaleGenerator {
-    private final ProductRepository productRepository;
     private final StockMovementService stockMovementService;
 
-    public ProductSale generateProductSale(CreateProductSaleDto dto, Sale sale){
-        var product = productRepository.findWithLockById(dto.getProductId())
-                .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
+    public List<ProductSale> generateProductSales(CreateSaleDto dto, Sale sale){
+        var products = stockMovementService.lockProducts(dto.getProductSales().stream()
+                .map(CreateProductSaleDto::getProductId)
+                .toList());
 
-        return ProductSale.builder()
-                .product(product)
-                .quantity(dto.getQuantity())
-                .unitPrice(dto.getPrice())
-                .sale(sale)
-                .build();
+        return dto.getProductSales().stream()
+                .map(item -> ProductSale.builder()
+                        .product(products.get(item.getProductId()))
+                        .quantity(item.getQuantity())
+                        .unitPrice(item.getPrice())
+                        .sale(sale)
+                        .build())
+                .toList();
     }
 
     public BigDecimal calculateSaleTotal(CreateSaleDto dto){
@@ -37,13 +39,16 @@ public class SaleGenerator {
     }
 
     public void registerStockMovementsFromSale(Sale sale){
-        sale.getProductSales().forEach(item -> stockMovementService.registerOutput(
-                item.getProduct(),
-                item.getQuantity(),
-                "SALE_ORDER_" + sale.getId(),
-                item.getUnitPrice(),
-                sale
-        ));
+        List<StockMovement> movements = sale.getProductSales().stream()
+                .map(item -> StockMovement.builder()
+                        .product(item.getProduct())
+                        .quantity(item.getQuantity())
+                        .description("SALE_ORDER_" + sale.getId())
+                        .price(item.getUnitPrice())
+                        .sale(sale)
+                        .build())
+                .toList();
+        stockMovementService.registerOutputs(movements);
     }
 
 }
@@ -0,0 +1,155 @@
+package com.petshop.api.domain.search;
+
+import com.petshop.api.dto.response.AutocompleteResultDto;
+import com.petshop.api.model.entities.Animal;
+import com.petshop.api.model.entities.Client;
+import com.petshop.api.model.entities.Product;
+import com.petshop.api.model.entities.Veterinarian;
+import com.petshop.api.model.enums.SearchTarget;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+@Component
+public class AutocompleteIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern NON_DIGIT = Pattern.compile("\\D+");
+    private static final Pattern DOCUMENT = Pattern.compile("[\\d.\\-/\\s]+");
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final char RANGE_END = '\uffff';
+
+    private final Map<SearchTarget, ConcurrentNavigableMap<String, UUID>> keysByTarget = new EnumMap<>(SearchTarget.class);
+    private final Map<UUID, IndexedEntry> entries = new ConcurrentHashMap<>();
+
+    public AutocompleteIndex() {
+        for (SearchTarget target : SearchTarget.values()) {
+            keysByTarget.put(target, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    public void indexClient(Client client) {
+        afterCommit(() -> putClient(client.getId(), client.getName(), client.getCpf()));
+    }
+
+    public void indexAnimal(Animal animal) {
+        afterCommit(() -> putName(SearchTarget.ANIMAL, animal.getId(), animal.getName()));
+    }
+
+    public void indexProduct(Product product) {
+        afterCommit(() -> putName(SearchTarget.PRODUCT, product.getId(), product.getName()));
+    }
+
+    public void indexVeterinarian(Veterinarian veterinarian) {
+        afterCommit(() -> putName(SearchTarget.VETERINARIAN, veterinarian.getId(), veterinarian.getName()));
+    }
+
+    public void remove(UUID id) {
+        afterCommit(() -> removeNow(id));
+    }
+
+    public void putClient(UUID id, String name, String cpf) {
+        List<String> keys = new ArrayList<>(nameKeys(name));
+        String digits = NON_DIGIT.matcher(cpf == null ? "" : cpf).replaceAll("");
+        if (!digits.isEmpty()) {
+            keys.add(digits);
+        }
+        put(SearchTarget.CLIENT, id, name, keys);
+    }
+
+    public void putName(SearchTarget target, UUID id, String name) {
+        put(target, id, name, nameKeys(name));
+    }
+
+    public List<AutocompleteResultDto> lookup(String prefix, Set<SearchTarget> targets, int limit) {
+        String normalizedPrefix = prefix != null && DOCUMENT.matcher(prefix).matches()
+                ? NON_DIGIT.matcher(prefix).replaceAll("")
+                : normalize(prefix);
+        if (normalizedPrefix.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        List<AutocompleteResultDto> results = new ArrayList<>(limit);
+        for (SearchTarget target : targets) {
+            Set<UUID> seen = new HashSet<>();
+            Collection<UUID> matches = keysByTarget.get(target)
+                    .subMap(normalizedPrefix, true, normalizedPrefix + RANGE_END, false)
+                    .values();
+            for (UUID id : matches) {
+                IndexedEntry entry = entries.get(id);
+                if (entry != null && seen.add(id)) {
+                    results.add(new AutocompleteResultDto(target, id, entry.label()));
+                    if (seen.size() == limit) {
+                        break;
+                    }
+                }
+            }
+        }
+        results.sort(Comparator.comparing(AutocompleteResultDto::getLabel, String.CASE_INSENSITIVE_ORDER));
+        return results.size() > limit ? List.copyOf(results.subList(0, limit)) : results;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private synchronized void put(SearchTarget target, UUID id, String label, List<String> keys) {
+        removeNow(id);
+        NavigableMap<String, UUID> index = keysByTarget.get(target);
+        List<String> storedKeys = keys.stream().distinct().map(key -> key + ID_SEPARATOR + id).toList();
+        entries.put(id, new IndexedEntry(target, label, storedKeys));
+        storedKeys.forEach(key -> index.put(key, id));
+    }
+
+    private synchronized void removeNow(UUID id) {
+        IndexedEntry previous = entries.remove(id);
+        if (previous != null) {
+            NavigableMap<String, UUID> index = keysByTarget.get(previous.target());
+            previous.keys().forEach(index::remove);
+        }
+    }
+
+    private static List<String> nameKeys(String name) {
+        String normalized = normalize(name);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record IndexedEntry(SearchTarget target, String label, List<String> keys) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.petshop.api.domain.search;
+
+import com.petshop.api.model.enums.SearchTarget;
+import com.petshop.api.repository.AnimalRepository;
+import com.petshop.api.repository.ClientRepository;
+import com.petshop.api.repository.ProductRepository;
+import com.petshop.api.repository.VeterinarianRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIndexLoader implements ApplicationRunner {
+
+    private final AutocompleteIndex autocompleteIndex;
+    private final ClientRepository clientRepository;
+    private final AnimalRepository animalRepository;
+    private final ProductRepository productRepository;
+    private final VeterinarianRepository veterinarianRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void run(ApplicationArguments args) {
+        clientRepository.findAllIndexedBy()
+                .forEach(client -> autocompleteIndex.putClient(client.getId(), client.getName(), client.getCpf()));
+        animalRepository.findAllIndexedBy()
+                .forEach(animal -> autocompleteIndex.putName(SearchTarget.ANIMAL, animal.getId(), animal.getName()));
+        productRepository.findAllIndexedBy()
+                .forEach(product -> autocompleteIndex.putName(SearchTarget.PRODUCT, product.getId(), product.getName()));
+        veterinarianRepository.findAllIndexedBy()
+                .forEach(veterinarian -> autocompleteIndex.putName(SearchTarget.VETERINARIAN, veterinarian.getId(), veterinarian.getName()));
+    }
+}
@@ -0,0 +1,9 @@
+package com.petshop.api.domain.stock;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PendingStockMovement(UUID productId, int quantity, String description, BigDecimal price, UUID saleId,
+                                   LocalDateTime dateMovement) {
+}
@@ -0,0 +1,85 @@
+package com.petshop.api.domain.stock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.stock", name = "mode", havingValue = "optimistic")
+public class StockConflictRetryAspect {
+
+    public static final String METRIC_NAME = "petshop.stock.checkout";
+
+    private final StockProperties stockProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(com.petshop.api.domain.stock.RetryOnStockConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        StockProperties.Optimistic optimistic = stockProperties.optimistic();
+        for (int attempt = 1; ; attempt++) {
+            counter(".attempts", "Checkout transactions started in optimistic stock mode", operation).increment();
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= optimistic.maxAttempts()) {
+                    counter(".exhausted", "Checkouts that gave up after the last optimistic retry", operation).increment();
+                    throw e;
+                }
+                counter(".retries", "Checkouts retried after a stock write conflict", operation).increment();
+                log.atDebug()
+                        .addKeyValue("operation", operation)
+                        .addKeyValue("attempt", attempt)
+                        .addKeyValue("exception", e.getClass().getSimpleName())
+                        .log("Retrying checkout after a stock write conflict");
+                backOff(operation, optimistic, attempt, e);
+            }
+        }
+    }
+
+    private void backOff(String operation, StockProperties.Optimistic optimistic, int attempt,
+                         ConcurrencyFailureException conflict) {
+        long ceiling = Math.min(optimistic.maxBackoff().toNanos(),
+                optimistic.initialBackoff().toNanos() << Math.min(attempt - 1, 20));
+        Duration delay = Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+        Timer.builder(METRIC_NAME + ".backoff")
+                .description("Time spent waiting before retrying a conflicting checkout")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(delay);
+    }
+
+    private Counter counter(String suffix, String description, String operation) {
+        return Counter.builder(METRIC_NAME + suffix)
+                .description(description)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,23 @@
+package com.petshop.api.domain.stock;
+
+import com.petshop.api.service.StockLedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.stock", name = "mode", havingValue = "ledger")
+public class StockLedgerScheduler implements SchedulingConfigurer {
+
+    private final StockLedgerService stockLedgerService;
+    private final StockProperties stockProperties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(stockLedgerService::takeSnapshots, stockProperties.ledger().snapshotInterval());
+        registrar.addFixedDelayTask(stockLedgerService::reconcile, stockProperties.ledger().reconcileInterval());
+    }
+}
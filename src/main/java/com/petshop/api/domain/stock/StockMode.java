@@ -0,0 +1,8 @@
+package com.petshop.api.domain.stock;
+
+public enum StockMode {
+    COUNTER,
+    LEDGER,
+    RESERVATION,
+    OPTIMISTIC
+}
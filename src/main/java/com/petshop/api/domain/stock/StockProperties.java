@@ -0,0 +1,43 @@
+package com.petshop.api.domain.stock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "application.stock")
+public record StockProperties(StockMode mode, Ledger ledger, Reservation reservation, Optimistic optimistic) {
+
+    public StockProperties {
+        mode = mode != null ? mode : StockMode.COUNTER;
+        ledger = ledger != null ? ledger : new Ledger(null, null, null, null);
+        reservation = reservation != null ? reservation : new Reservation(null, null);
+        optimistic = optimistic != null ? optimistic : new Optimistic(null, null, null);
+    }
+
+    public record Ledger(Duration snapshotInterval, Duration snapshotLag, Integer snapshotBatchSize, Duration reconcileInterval) {
+
+        public Ledger {
+            snapshotInterval = snapshotInterval != null ? snapshotInterval : Duration.ofMinutes(5);
+            snapshotLag = snapshotLag != null ? snapshotLag : Duration.ofMinutes(1);
+            snapshotBatchSize = snapshotBatchSize != null ? snapshotBatchSize : 500;
+            reconcileInterval = reconcileInterval != null ? reconcileInterval : Duration.ofHours(1);
+        }
+    }
+
+    public record Reservation(Duration flushInterval, Integer batchSize) {
+
+        public Reservation {
+            flushInterval = flushInterval != null ? flushInterval : Duration.ofMillis(200);
+            batchSize = batchSize != null ? batchSize : 500;
+        }
+    }
+
+    public record Optimistic(Integer maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+        public Optimistic {
+            maxAttempts = maxAttempts != null ? maxAttempts : 5;
+            initialBackoff = initialBackoff != null ? initialBackoff : Duration.ofMillis(10);
+            maxBackoff = maxBackoff != null ? maxBackoff : Duration.ofMillis(200);
+        }
+    }
+}
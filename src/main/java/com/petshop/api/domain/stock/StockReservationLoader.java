@@ -0,0 +1,21 @@
+package com.petshop.api.domain.stock;
+
+import com.petshop.api.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.stock", name = "mode", havingValue = "reservation")
+public class StockReservationLoader implements ApplicationRunner {
+
+    private final StockReservationService stockReservationService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        stockReservationService.load();
+    }
+}
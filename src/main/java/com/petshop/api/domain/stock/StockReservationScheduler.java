@@ -0,0 +1,22 @@
+package com.petshop.api.domain.stock;
+
+import com.petshop.api.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.stock", name = "mode", havingValue = "reservation")
+public class StockReservationScheduler implements SchedulingConfigurer {
+
+    private final StockReservationService stockReservationService;
+    private final StockProperties stockProperties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(stockReservationService::flush, stockProperties.reservation().flushInterval());
+    }
+}
@@ -0,0 +1,70 @@
+package com.petshop.api.domain.stock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class StockReservationTable {
+
+    private final Map<UUID, AtomicLong> available = new ConcurrentHashMap<>();
+
+    public void load(UUID productId, long quantity) {
+        available.put(productId, new AtomicLong(quantity));
+    }
+
+    public void loadIfAbsent(UUID productId, long quantity) {
+        available.computeIfAbsent(productId, id -> new AtomicLong(quantity));
+    }
+
+    public long available(UUID productId) {
+        AtomicLong quantity = available.get(productId);
+        return quantity != null ? quantity.get() : 0;
+    }
+
+    public boolean tryReserve(Map<UUID, Integer> requested) {
+        List<Map.Entry<UUID, Integer>> reserved = new ArrayList<>();
+        for (Map.Entry<UUID, Integer> entry : requested.entrySet()) {
+            if (!tryDecrement(entry.getKey(), entry.getValue())) {
+                reserved.forEach(done -> add(done.getKey(), done.getValue()));
+                return false;
+            }
+            reserved.add(entry);
+        }
+        return true;
+    }
+
+    public void release(Map<UUID, Integer> quantities) {
+        quantities.forEach(this::add);
+    }
+
+    public void add(UUID productId, int quantity) {
+        AtomicLong current = available.get(productId);
+        if (current != null) {
+            current.addAndGet(quantity);
+        }
+    }
+
+    public Map<UUID, Long> snapshot() {
+        Map<UUID, Long> copy = new ConcurrentHashMap<>();
+        available.forEach((productId, quantity) -> copy.put(productId, quantity.get()));
+        return copy;
+    }
+
+    private boolean tryDecrement(UUID productId, int quantity) {
+        AtomicLong current = available.get(productId);
+        if (current == null) {
+            return false;
+        }
+        long value;
+        do {
+            value = current.get();
+            if (value < quantity) {
+                return false;
+            }
+        } while (!current.compareAndSet(value, value - quantity));
+        return true;
+    }
+}
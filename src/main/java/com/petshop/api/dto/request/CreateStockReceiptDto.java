@@ -0,0 +1,24 @@
+package com.petshop.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class CreateStockReceiptDto {
+
+    @NotBlank(message = "The invoice cannot be null")
+    private String invoice;
+
+    @NotBlank(message = "The description cannot be null")
+    private String description;
+
+    @NotEmpty(message = "The items list is required")
+    @Valid
+    private List<CreateStockReceiptItemDto> items;
+}
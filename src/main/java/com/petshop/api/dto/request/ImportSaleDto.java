@@ -0,0 +1,21 @@
+package com.petshop.api.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class ImportSaleDto extends CreateSaleDto {
+
+    @Size(max = 100, message = "The external ID must have at most 100 characters")
+    private String externalId;
+
+    @PastOrPresent(message = "The sale date cannot be in the future")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime saleDate;
+}
@@ -0,0 +1,20 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AgingBucketsDto {
+
+    private BigDecimal current;
+    private BigDecimal days1To30;
+    private BigDecimal days31To60;
+    private BigDecimal days61To90;
+    private BigDecimal over90;
+    private BigDecimal total;
+    private Long openInstallments;
+}
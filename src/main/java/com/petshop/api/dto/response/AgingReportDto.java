@@ -0,0 +1,17 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AgingReportDto {
+
+    private LocalDate asOf;
+    private AgingBucketsDto totals;
+    private List<ClientAgingDto> clients;
+}
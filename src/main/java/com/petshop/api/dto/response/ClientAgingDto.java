@@ -0,0 +1,16 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClientAgingDto {
+
+    private UUID clientId;
+    private String clientName;
+    private AgingBucketsDto buckets;
+}
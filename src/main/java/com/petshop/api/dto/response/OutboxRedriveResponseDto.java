@@ -0,0 +1,12 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxRedriveResponseDto {
+
+    private int redriven;
+}
@@ -0,0 +1,19 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PinningReportDto {
+
+    private boolean virtualThreads;
+    private boolean monitoring;
+    private long events;
+    private long totalPinnedMillis;
+    private long maxPinnedMillis;
+    private List<PinningSiteDto> sites;
+}
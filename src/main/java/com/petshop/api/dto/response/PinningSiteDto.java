@@ -0,0 +1,14 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PinningSiteDto {
+
+    private String frame;
+    private long events;
+    private long totalPinnedMillis;
+}
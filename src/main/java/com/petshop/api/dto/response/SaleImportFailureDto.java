@@ -0,0 +1,14 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SaleImportFailureDto {
+
+    private int index;
+    private String externalId;
+    private String message;
+}
@@ -0,0 +1,17 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SaleImportResultDto {
+
+    private int received;
+    private int imported;
+    private int failed;
+    private List<SaleImportFailureDto> failures;
+}
@@ -0,0 +1,24 @@
+package com.petshop.api.dto.response;
+
+import com.petshop.api.model.enums.RollupDimension;
+import com.petshop.api.model.enums.RollupPeriod;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalesRollupResponseDto {
+
+    private RollupPeriod period;
+    private RollupDimension dimension;
+    private LocalDate periodStart;
+    private String dimensionKey;
+    private String dimensionLabel;
+    private Long saleCount;
+    private Long quantity;
+    private BigDecimal revenue;
+}
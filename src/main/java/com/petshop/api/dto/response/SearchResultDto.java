@@ -0,0 +1,18 @@
+package com.petshop.api.dto.response;
+
+import com.petshop.api.model.enums.SearchTarget;
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchResultDto {
+
+    private SearchTarget type;
+    private UUID id;
+    private String name;
+    private double score;
+}
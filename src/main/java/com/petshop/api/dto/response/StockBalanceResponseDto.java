@@ -0,0 +1,19 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockBalanceResponseDto {
+
+    private UUID productId;
+    private int snapshotQuantity;
+    private long ledgerDelta;
+    private int available;
+    private LocalDateTime snapshotTakenAt;
+}
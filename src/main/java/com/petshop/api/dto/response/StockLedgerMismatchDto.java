@@ -0,0 +1,16 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockLedgerMismatchDto {
+
+    private UUID productId;
+    private int snapshotQuantity;
+    private long ledgerQuantity;
+}
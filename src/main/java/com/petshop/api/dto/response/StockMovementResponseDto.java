@@ -0,0 +1,25 @@
+package com.petshop.api.dto.response;
+
+import com.petshop.api.model.enums.TypeMovement;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockMovementResponseDto {
+
+    private UUID id;
+    private UUID productId;
+    private TypeMovement type;
+    private Integer quantity;
+    private LocalDateTime dateMovement;
+    private String description;
+    private BigDecimal price;
+    private UUID saleId;
+    private String invoice;
+}
@@ -0,0 +1,15 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockReceiptResponseDto {
+
+    private String invoice;
+    private int products;
+    private int movements;
+    private long totalQuantity;
+}
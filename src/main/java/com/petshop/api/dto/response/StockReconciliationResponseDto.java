@@ -0,0 +1,17 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockReconciliationResponseDto {
+
+    private LocalDateTime checkedAt;
+    private long snapshots;
+    private List<StockLedgerMismatchDto> mismatches;
+}
@@ -0,0 +1,18 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockReservationCheckResponseDto {
+
+    private LocalDateTime checkedAt;
+    private int products;
+    private int pendingMovements;
+    private List<StockReservationMismatchDto> mismatches;
+}
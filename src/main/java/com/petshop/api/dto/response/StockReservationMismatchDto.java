@@ -0,0 +1,18 @@
+package com.petshop.api.dto.response;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockReservationMismatchDto {
+
+    private UUID productId;
+    private long inMemory;
+    private long database;
+    private long ledger;
+    private long unflushed;
+}
@@ -1,6 +1,8 @@
 package com.petshop.api.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -22,6 +24,23 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(e, HttpStatus.BAD_REQUEST, "Bad Request", request.getRequestURI());
     }
 
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<StandardError> idempotencyConflict(IdempotencyConflictException e, HttpServletRequest request) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(buildErrorResponse(e, HttpStatus.CONFLICT, "Conflict", request.getRequestURI()).getBody());
+    }
+
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<StandardError> invalidIdempotencyKey(InvalidIdempotencyKeyException e, HttpServletRequest request) {
+        return buildErrorResponse(e, HttpStatus.UNPROCESSABLE_ENTITY, "Unprocessable Entity", request.getRequestURI());
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<StandardError> invalidCursor(InvalidCursorException e, HttpServletRequest request) {
+        return buildErrorResponse(e, HttpStatus.BAD_REQUEST, "Bad Request", request.getRequestURI());
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<StandardError> resourceNotFound(ResourceNotFoundException e, HttpServletRequest request) {
         return buildErrorResponse(e, HttpStatus.NOT_FOUND, "Not Found", request.getRequestURI());
@@ -32,6 +51,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(e, HttpStatus.CONFLICT, "Conflict", request.getRequestURI());
     }
 
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<StandardError> concurrencyFailure(HttpServletRequest request) {
+        String customMessage = "The resource was modified by another request, please try again.";
+        return buildErrorResponse(customMessage, HttpStatus.CONFLICT, "Conflict", request.getRequestURI());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<StandardError> runtimeException(HttpServletRequest request) {
         String customMessage = "Internal error, please contact the administrator.";
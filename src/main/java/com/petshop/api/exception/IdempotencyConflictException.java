@@ -0,0 +1,16 @@
+package com.petshop.api.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class IdempotencyConflictException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public IdempotencyConflictException(String message, Duration retryAfter){
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,52 @@
+package com.petshop.api.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class LockWaitMetricsListener implements RepositoryMethodInvocationListener {
+
+    public static final String METRIC_NAME = "petshop.lock.wait";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public LockWaitMetricsListener(Supplier<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        Lock lock = invocation.getMethod().getAnnotation(Lock.class);
+        if (lock == null || !isPessimistic(lock.value())) {
+            return;
+        }
+        timers.computeIfAbsent(invocation.getMethod(), method -> timer(meterRegistry.get(),
+                        invocation.getRepositoryInterface().getSimpleName(), method.getName(), lock.value()))
+                .record(invocation.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    public static Timer timer(MeterRegistry meterRegistry, String repository, String method, LockModeType mode) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time spent on contended row writes, including the locking query or the conditional update")
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("mode", mode.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private boolean isPessimistic(LockModeType mode) {
+        return mode == LockModeType.PESSIMISTIC_READ
+                || mode == LockModeType.PESSIMISTIC_WRITE
+                || mode == LockModeType.PESSIMISTIC_FORCE_INCREMENT;
+    }
+}
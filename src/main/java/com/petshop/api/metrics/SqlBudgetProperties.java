@@ -0,0 +1,23 @@
+package com.petshop.api.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "application.sql")
+public record SqlBudgetProperties(Integer defaultBudget, Duration slowQueryThreshold, Map<String, Integer> budgets,
+                                  Map<String, Integer> unitBudgets) {
+
+    public SqlBudgetProperties {
+        defaultBudget = defaultBudget != null ? defaultBudget : 50;
+        slowQueryThreshold = slowQueryThreshold != null ? slowQueryThreshold : Duration.ofMillis(200);
+        budgets = budgets != null ? Map.copyOf(budgets) : Map.of();
+        unitBudgets = unitBudgets != null ? Map.copyOf(unitBudgets) : Map.of();
+    }
+
+    public int budgetFor(String method, String uri, int units) {
+        String endpoint = method + " " + uri;
+        return budgets.getOrDefault(endpoint, defaultBudget) + unitBudgets.getOrDefault(endpoint, 0) * units;
+    }
+}
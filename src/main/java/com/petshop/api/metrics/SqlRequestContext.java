@@ -0,0 +1,32 @@
+package com.petshop.api.metrics;
+
+import java.time.Duration;
+
+public final class SqlRequestContext {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private SqlRequestContext() {
+    }
+
+    public static SqlRequestStats begin(Duration slowQueryThreshold) {
+        SqlRequestStats stats = new SqlRequestStats(slowQueryThreshold);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    public static void addBudgetUnits(int units) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.addBudgetUnits(units);
+        }
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+}
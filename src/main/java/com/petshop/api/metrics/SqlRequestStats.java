@@ -0,0 +1,64 @@
+package com.petshop.api.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SqlRequestStats {
+
+    private final long slowQueryThresholdNanos;
+    private final List<SlowQuery> slowQueries = new ArrayList<>();
+    private int statements;
+    private int budgetUnits;
+    private long jdbcNanos;
+    private String lastSql;
+    private long executionStartedAt;
+
+    public SqlRequestStats(Duration slowQueryThreshold) {
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    void statementPrepared(String sql) {
+        statements++;
+        lastSql = sql;
+    }
+
+    void executionStarted() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    void executionEnded() {
+        if (executionStartedAt == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - executionStartedAt;
+        executionStartedAt = 0;
+        jdbcNanos += elapsed;
+        if (elapsed >= slowQueryThresholdNanos && lastSql != null) {
+            slowQueries.add(new SlowQuery(SqlRedactor.redact(lastSql), Duration.ofNanos(elapsed)));
+        }
+    }
+
+    void addBudgetUnits(int units) {
+        budgetUnits += units;
+    }
+
+    public int getBudgetUnits() {
+        return budgetUnits;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public Duration getJdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    public List<SlowQuery> getSlowQueries() {
+        return slowQueries;
+    }
+
+    public record SlowQuery(String sql, Duration elapsed) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.petshop.api.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestStats stats = SqlRequestContext.current();
+        if (stats != null) {
+            stats.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
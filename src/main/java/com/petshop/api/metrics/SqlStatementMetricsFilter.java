@@ -0,0 +1,86 @@
+package com.petshop.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "petshop.hibernate.statements";
+    public static final String JDBC_TIME_METRIC_NAME = "petshop.hibernate.jdbc.time";
+
+    private final SqlBudgetProperties budgetProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestContext.begin(budgetProperties.slowQueryThreshold());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestContext.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            report(request.getMethod(), pattern != null ? pattern.toString() : "UNKNOWN", stats);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    private void report(String method, String uri, SqlRequestStats stats) {
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements prepared by Hibernate per HTTP request")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder(JDBC_TIME_METRIC_NAME)
+                .description("Time spent executing JDBC statements per HTTP request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getJdbcTime());
+
+        int budget = budgetProperties.budgetFor(method, uri, stats.getBudgetUnits());
+        if (stats.getStatements() > budget) {
+            log.atWarn()
+                    .addKeyValue("method", method)
+                    .addKeyValue("uri", uri)
+                    .addKeyValue("statements", stats.getStatements())
+                    .addKeyValue("budget", budget)
+                    .addKeyValue("jdbcTimeMs", stats.getJdbcTime().toMillis())
+                    .log("SQL statement budget exceeded");
+        }
+        for (SqlRequestStats.SlowQuery slowQuery : stats.getSlowQueries()) {
+            log.atWarn()
+                    .addKeyValue("method", method)
+                    .addKeyValue("uri", uri)
+                    .addKeyValue("elapsedMs", slowQuery.elapsed().toMillis())
+                    .addKeyValue("sql", slowQuery.sql())
+                    .log("Slow SQL statement");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.petshop.api.metrics;
+
+import org.hibernate.SessionEventListener;
+
+public class SqlTimingListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlRequestStats stats = SqlRequestContext.current();
+        if (stats != null) {
+            stats.executionStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlRequestStats stats = SqlRequestContext.current();
+        if (stats != null) {
+            stats.executionEnded();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
@@ -1,5 +1,6 @@
 package com.petshop.api.model.entities;
 
+import com.petshop.api.model.generator.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -15,11 +16,16 @@ import java.util.UUID;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "financial")
+@NamedEntityGraph(name = "Financial.detail", attributeNodes = {
+        @NamedAttributeNode("client"),
+        @NamedAttributeNode("sale")
+})
+@NamedEntityGraph(name = "Financial.payment", attributeNodes = @NamedAttributeNode("client"))
+@Table(name = "financial", indexes = @Index(name = "idx_financial_date_created_id", columnList = "date_created, id"))
 public class Financial {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -48,11 +54,11 @@ public class Financial {
 
     private String notes;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", nullable = false)
     private Client client;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sale_id")
     private Sale sale;
 
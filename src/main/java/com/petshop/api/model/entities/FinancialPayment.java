@@ -1,5 +1,6 @@
 package com.petshop.api.model.entities;
 
+import com.petshop.api.model.generator.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,11 +14,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@NamedEntityGraph(name = "FinancialPayment.refund", attributeNodes = @NamedAttributeNode(value = "financial", subgraph = "financial"),
+        subgraphs = @NamedSubgraph(name = "financial", attributeNodes = @NamedAttributeNode("client")))
 @Table(name = "financial_payments")
 public class FinancialPayment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -28,11 +31,11 @@ public class FinancialPayment {
 
     private String notes;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "monetary_type")
     private MonetaryType monetaryType;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "financial_id", nullable = false)
     private Financial financial;
 }
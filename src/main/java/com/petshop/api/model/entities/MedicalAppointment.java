@@ -1,6 +1,7 @@
 package com.petshop.api.model.entities;
 
 import com.petshop.api.model.enums.AppointmentStatus;
+import com.petshop.api.model.generator.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,10 +14,15 @@ import java.util.UUID;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@NamedEntityGraph(name = "MedicalAppointment.detail", attributeNodes = {
+        @NamedAttributeNode("client"),
+        @NamedAttributeNode("animal"),
+        @NamedAttributeNode("veterinarian")
+})
 public class MedicalAppointment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     private String notes;
@@ -27,15 +33,15 @@ public class MedicalAppointment {
 
     private String treatment;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", nullable = false)
     private Client client;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "animal_id", nullable = false)
     private Animal animal;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "veterinarian_id", nullable = false)
     private Veterinarian veterinarian;
 
@@ -2,6 +2,7 @@ package com.petshop.api.model.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -13,6 +14,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@NamedEntityGraph(name = "Product.withCategory", attributeNodes = @NamedAttributeNode("category"))
 @Table(name = "products")
 public class Product {
 
@@ -31,7 +33,12 @@ public class Product {
     @Column(name = "quantity_in_stock")
     private Integer quantityInStock = 0;
 
-    @ManyToOne
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private ProductCategory category;
 
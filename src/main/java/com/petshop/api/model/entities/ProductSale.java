@@ -1,5 +1,6 @@
 package com.petshop.api.model.entities;
 
+import com.petshop.api.model.generator.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,18 +17,18 @@ import java.util.UUID;
 public class ProductSale {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     private Integer quantity;
 
     private BigDecimal unitPrice;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id",nullable = false)
     private Product product;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sale_id",nullable = false)
     private Sale sale;
 
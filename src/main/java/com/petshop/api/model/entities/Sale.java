@@ -2,6 +2,7 @@ package com.petshop.api.model.entities;
 
 import com.petshop.api.model.enums.SalePaymentType;
 import com.petshop.api.model.enums.SaleStatus;
+import com.petshop.api.model.generator.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -17,11 +18,18 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "sales")
+@NamedEntityGraph(name = "Sale.listRow", attributeNodes = @NamedAttributeNode("client"))
+@NamedEntityGraph(name = "Sale.items", attributeNodes = @NamedAttributeNode(value = "productSales", subgraph = "items"),
+        subgraphs = @NamedSubgraph(name = "items", attributeNodes = @NamedAttributeNode("product")))
+@NamedEntityGraph(name = "Sale.detail", attributeNodes = {
+        @NamedAttributeNode("client"),
+        @NamedAttributeNode(value = "productSales", subgraph = "items")
+}, subgraphs = @NamedSubgraph(name = "items", attributeNodes = @NamedAttributeNode("product")))
+@Table(name = "sales", indexes = @Index(name = "idx_sales_sale_date_id", columnList = "sale_date, id"))
 public class Sale {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "sale_date", nullable = false)
@@ -40,11 +48,14 @@ public class Sale {
 
     private String notes;
 
+    @Column(name = "external_id", length = 100, unique = true)
+    private String externalId;
+
     @OneToMany(mappedBy = "sale", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Financial> financial = new ArrayList<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", nullable = false)
     private Client client;
 
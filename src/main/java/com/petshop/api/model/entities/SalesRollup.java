@@ -0,0 +1,50 @@
+package com.petshop.api.model.entities;
+
+import com.petshop.api.model.enums.RollupDimension;
+import com.petshop.api.model.enums.RollupPeriod;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "sales_rollups", uniqueConstraints = @UniqueConstraint(name = "uk_sales_rollups_bucket",
+        columnNames = {"period", "dimension", "period_start", "dimension_key"}))
+public class SalesRollup {
+
+    @Id
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RollupPeriod period;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RollupDimension dimension;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "dimension_key", nullable = false, length = 64)
+    private String dimensionKey;
+
+    @Column(name = "dimension_label")
+    private String dimensionLabel;
+
+    @Column(name = "sale_count", nullable = false)
+    private Long saleCount;
+
+    @Column(nullable = false)
+    private Long quantity;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+}
@@ -0,0 +1,24 @@
+package com.petshop.api.model.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "sales_rollup_entries")
+public class SalesRollupEntry {
+
+    @Id
+    @Column(name = "sale_id")
+    private UUID saleId;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
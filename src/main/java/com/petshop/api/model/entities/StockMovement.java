@@ -1,6 +1,7 @@
 package com.petshop.api.model.entities;
 
 import com.petshop.api.model.enums.TypeMovement;
+import com.petshop.api.model.generator.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,17 +13,21 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
-@Table(name = "stock_movements")
+@Table(name = "stock_movements", indexes = {
+        @Index(name = "idx_stock_movements_product_date_id", columnList = "product_id, date_movement, id"),
+        @Index(name = "idx_stock_movements_date_id", columnList = "date_movement, id"),
+        @Index(name = "idx_stock_movements_product_id", columnList = "product_id, id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class StockMovement {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
@@ -33,7 +38,7 @@ public class StockMovement {
     @Column(nullable = false)
     private Integer quantity;
 
-    @Column(nullable = false)
+    @Column(name = "date_movement", nullable = false)
     private LocalDateTime dateMovement;
 
     private String description;
@@ -41,7 +46,7 @@ public class StockMovement {
     @Column(nullable = false)
     private BigDecimal price;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sale_id")
     private Sale sale;
 
@@ -0,0 +1,33 @@
+package com.petshop.api.model.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "stock_snapshots")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockSnapshot {
+
+    @Id
+    @Column(name = "product_id")
+    private UUID productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false)
+    private Integer baseline;
+
+    @Column(name = "last_movement_id", nullable = false)
+    private UUID lastMovementId;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+}
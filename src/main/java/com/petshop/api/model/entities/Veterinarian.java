@@ -2,6 +2,8 @@ package com.petshop.api.model.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 
 import java.util.UUID;
@@ -12,6 +14,9 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "veterinarian")
+@NamedEntityGraph(name = "Veterinarian.withCategory", attributeNodes = @NamedAttributeNode("category"))
 public class Veterinarian {
 
     @Id
@@ -27,7 +32,7 @@ public class Veterinarian {
     @Column(nullable = false)
     private String phone;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private VeterinarianCategory category;
 
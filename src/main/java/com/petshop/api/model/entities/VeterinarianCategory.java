@@ -2,6 +2,8 @@ package com.petshop.api.model.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
@@ -11,8 +13,9 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "veterinarianCategory")
 @Table(name = "veterinarian_categories")
-
 public class VeterinarianCategory {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
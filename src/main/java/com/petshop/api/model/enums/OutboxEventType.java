@@ -0,0 +1,8 @@
+package com.petshop.api.model.enums;
+
+public enum OutboxEventType {
+    SALE_CREATED,
+    SALE_CANCELED,
+    PAYMENT_REGISTERED,
+    STOCK_CHANGED
+}
@@ -0,0 +1,7 @@
+package com.petshop.api.model.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    PROCESSED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.petshop.api.model.enums;
+
+public enum RollupDimension {
+    PRODUCT,
+    CATEGORY,
+    PAYMENT_TYPE
+}
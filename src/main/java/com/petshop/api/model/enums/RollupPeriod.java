@@ -0,0 +1,12 @@
+package com.petshop.api.model.enums;
+
+import java.time.LocalDate;
+
+public enum RollupPeriod {
+    DAILY,
+    MONTHLY;
+
+    public LocalDate start(LocalDate date) {
+        return this == MONTHLY ? date.withDayOfMonth(1) : date;
+    }
+}
@@ -0,0 +1,18 @@
+package com.petshop.api.model.enums;
+
+public enum SearchTarget {
+    CLIENT("clients"),
+    PRODUCT("products"),
+    ANIMAL("animals"),
+    VETERINARIAN("veterinarian");
+
+    private final String table;
+
+    SearchTarget(String table) {
+        this.table = table;
+    }
+
+    public String getTable() {
+        return table;
+    }
+}
@@ -0,0 +1,6 @@
+package com.petshop.api.model.enums;
+
+public enum UserRole {
+    USER,
+    ADMIN
+}
@@ -0,0 +1,51 @@
+package com.petshop.api.model.generator;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class UuidV7Generator implements IdentifierGenerator {
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static long lastTimestamp = -1L;
+    private static int sequence;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    public static UUID nextId() {
+        long timestamp;
+        int counter;
+        LOCK.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                sequence = ThreadLocalRandom.current().nextInt(MAX_SEQUENCE / 2);
+            } else if (sequence < MAX_SEQUENCE) {
+                sequence++;
+            } else {
+                lastTimestamp++;
+                sequence = 0;
+            }
+            timestamp = lastTimestamp;
+            counter = sequence;
+        } finally {
+            LOCK.unlock();
+        }
+
+        long mostSignificantBits = (timestamp << 16) | 0x7000L | counter;
+        long leastSignificantBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static UUID lowerBound(long epochMillis) {
+        return new UUID(epochMillis << 16, 0L);
+    }
+}
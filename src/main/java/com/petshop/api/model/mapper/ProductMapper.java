@@ -12,6 +12,7 @@ public interface ProductMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "quantityInStock", defaultValue= "0")
+    @Mapping(target = "version", ignore = true)
     Product toEntity(CreateProductDto dto);
 
 
@@ -22,6 +23,7 @@ public interface ProductMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "category", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateProductFromDto(UpdateProductDto updateProductDto, @MappingTarget Product product);
 }
@@ -0,0 +1,11 @@
+package com.petshop.api.model.mapper;
+
+import com.petshop.api.dto.response.SalesRollupResponseDto;
+import com.petshop.api.model.entities.SalesRollup;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface SalesRollupMapper {
+
+    SalesRollupResponseDto toResponseDto(SalesRollup salesRollup);
+}
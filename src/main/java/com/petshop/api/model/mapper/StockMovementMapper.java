@@ -0,0 +1,14 @@
+package com.petshop.api.model.mapper;
+
+import com.petshop.api.dto.response.StockMovementResponseDto;
+import com.petshop.api.model.entities.StockMovement;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface StockMovementMapper {
+
+    @Mapping(target = "productId", source = "product.id")
+    @Mapping(target = "saleId", source = "sale.id")
+    StockMovementResponseDto toResponseDto(StockMovement stockMovement);
+}
@@ -1,15 +1,24 @@
 package com.petshop.api.repository;
 
 import com.petshop.api.model.entities.Client;
+import com.petshop.api.repository.projection.IndexedClient;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface ClientRepository extends JpaRepository<Client, UUID> {
 
     Page<Client> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"animals"})
+    List<Client> findAllWithAnimalsByIdIn(Collection<UUID> ids);
+
     boolean existsByCpf(String cpf);
+
+    List<IndexedClient> findAllIndexedBy();
 }
@@ -2,10 +2,15 @@ package com.petshop.api.repository;
 
 import com.petshop.api.model.entities.FinancialPayment;
 import com.petshop.api.model.entities.MonetaryType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface FinancialPaymentRepository extends JpaRepository<FinancialPayment, UUID> {
     boolean existsByMonetaryType(MonetaryType monetaryType);
+
+    @EntityGraph("FinancialPayment.refund")
+    Optional<FinancialPayment> findForRefundById(UUID id);
 }
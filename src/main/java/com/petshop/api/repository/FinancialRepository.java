@@ -1,15 +1,63 @@
 package com.petshop.api.repository;
 
 import com.petshop.api.model.entities.Financial;
+import com.petshop.api.repository.projection.FinancialExportRow;
+import com.petshop.api.repository.projection.OpenReceivable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface FinancialRepository extends JpaRepository<Financial, UUID> {
 
+    @Override
+    @EntityGraph("Financial.detail")
+    Page<Financial> findAll(Pageable pageable);
+
+    @EntityGraph("Financial.detail")
     Page<Financial> findByClientNameContainingIgnoreCase(String name, Pageable pageable);
 
+    @EntityGraph("Financial.detail")
+    Optional<Financial> findDetailById(UUID id);
+
+    @EntityGraph("Financial.payment")
+    Optional<Financial> findForPaymentById(UUID id);
+
+    @EntityGraph("Financial.detail")
+    @Query("SELECT f FROM Financial f ORDER BY f.dateCreated DESC, f.id DESC")
+    List<Financial> findFirstKeysetPage(Limit limit);
+
+    @EntityGraph("Financial.detail")
+    @Query("SELECT f FROM Financial f WHERE (f.dateCreated, f.id) < (:dateCreated, :id) ORDER BY f.dateCreated DESC, f.id DESC")
+    List<Financial> findKeysetPageAfter(@Param("dateCreated") LocalDate dateCreated, @Param("id") UUID id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c.id AS clientId, c.name AS clientName, f.dueDate AS dueDate, COALESCE(f.balance, f.amount) AS balance " +
+            "FROM Financial f JOIN f.client c WHERE f.isPaid = false")
+    Stream<OpenReceivable> streamOpenReceivables();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.petshop.api.repository.projection.FinancialExportRow(f.id, f.description, f.amount, f.balance, " +
+            "f.dateCreated, f.dueDate, f.paymentDate, f.isPaid, f.installment, f.client.id, f.sale.id) FROM Financial f " +
+            "WHERE (:from IS NULL OR f.dateCreated >= :from) AND (:to IS NULL OR f.dateCreated < :to) " +
+            "ORDER BY f.dateCreated, f.id")
+    Stream<FinancialExportRow> streamForExport(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
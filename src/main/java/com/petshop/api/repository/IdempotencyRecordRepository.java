@@ -0,0 +1,49 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.IdempotencyRecord;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM IdempotencyRecord r WHERE r.keyHash = :keyHash AND r.responseStatus IS NULL"
+            + " AND r.expiresAt = :lockedUntil")
+    Optional<IdempotencyRecord> findClaimWithLock(@Param("keyHash") String keyHash,
+                                                  @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.fingerprint = :fingerprint, r.responseStatus = NULL, r.responseBody = NULL,"
+            + " r.expiresAt = :expiresAt WHERE r.keyHash = :keyHash AND r.responseStatus IS NOT NULL AND r.expiresAt <= :now")
+    int reclaimExpired(@Param("keyHash") String keyHash, @Param("fingerprint") String fingerprint,
+                       @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.expiresAt = :expiresAt"
+            + " WHERE r.keyHash = :keyHash AND r.fingerprint = :fingerprint AND r.responseStatus IS NULL"
+            + " AND r.expiresAt = :staleUntil")
+    int reclaimStale(@Param("keyHash") String keyHash, @Param("fingerprint") String fingerprint,
+                     @Param("staleUntil") LocalDateTime staleUntil, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.responseStatus = :status, r.responseBody = :body, r.expiresAt = :expiresAt"
+            + " WHERE r.keyHash = :keyHash")
+    int complete(@Param("keyHash") String keyHash, @Param("status") Integer status, @Param("body") String body,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.keyHash = :keyHash AND r.responseStatus IS NULL"
+            + " AND r.expiresAt = :lockedUntil")
+    int release(@Param("keyHash") String keyHash, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
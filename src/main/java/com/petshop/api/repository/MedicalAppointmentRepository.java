@@ -6,11 +6,13 @@ import com.petshop.api.model.entities.MedicalAppointment;
 import com.petshop.api.model.entities.Veterinarian;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface MedicalAppointmentRepository extends JpaRepository<MedicalAppointment, UUID> {
@@ -29,10 +31,19 @@ public interface MedicalAppointmentRepository extends JpaRepository<MedicalAppoi
             @Param("end") LocalDateTime end
     );
 
+    @Override
+    @EntityGraph("MedicalAppointment.detail")
+    Page<MedicalAppointment> findAll(Pageable pageable);
+
+    @EntityGraph("MedicalAppointment.detail")
     Page<MedicalAppointment> findByClientNameContainingIgnoreCase(String name, Pageable pageable);
 
+    @EntityGraph("MedicalAppointment.detail")
     Page<MedicalAppointment> findByVeterinarianNameContainingIgnoreCase(String name, Pageable pageable);
 
+    @EntityGraph("MedicalAppointment.detail")
+    Optional<MedicalAppointment> findDetailById(UUID id);
+
     boolean existsByVeterinarian(Veterinarian veterinarian);
     boolean existsByAnimal(Animal animal);
     boolean existsByClient(Client client);
@@ -0,0 +1,61 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.config.DatabaseFeatures;
+import com.petshop.api.dto.response.SearchResultDto;
+import com.petshop.api.model.enums.SearchTarget;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class NameSearchRepository {
+
+    private static final String TRIGRAM_SQL = """
+            SELECT id, name, similarity(upper(name), :term) AS score FROM %s
+            WHERE upper(name) LIKE :pattern ESCAPE '\\' OR upper(name) %% :term
+            ORDER BY score DESC, name""";
+
+    private static final String LIKE_SQL = """
+            SELECT id, name, CASE WHEN upper(name) = :term THEN 1.0
+                                  WHEN upper(name) LIKE :prefix ESCAPE '\\' THEN 0.75
+                                  ELSE 0.5 END AS score FROM %s
+            WHERE upper(name) LIKE :pattern ESCAPE '\\'
+            ORDER BY score DESC, name""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DatabaseFeatures databaseFeatures;
+
+    public List<SearchResultDto> search(SearchTarget target, String term, int limit) {
+        String normalized = term.trim().toUpperCase(Locale.ROOT);
+        String escaped = escapeLike(normalized);
+        var query = databaseFeatures.isPostgres()
+                ? entityManager.createNativeQuery(TRIGRAM_SQL.formatted(target.getTable()))
+                : entityManager.createNativeQuery(LIKE_SQL.formatted(target.getTable()))
+                        .setParameter("prefix", escaped + "%");
+        List<?> rows = query
+                .setParameter("term", normalized)
+                .setParameter("pattern", "%" + escaped + "%")
+                .setMaxResults(limit)
+                .getResultList();
+        return rows.stream()
+                .map(Object[].class::cast)
+                .map(row -> new SearchResultDto(target, toUuid(row[0]), (String) row[1], ((Number) row[2]).doubleValue()))
+                .toList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static UUID toUuid(Object value) {
+        return value instanceof UUID uuid ? uuid : UUID.fromString(value.toString());
+    }
+}
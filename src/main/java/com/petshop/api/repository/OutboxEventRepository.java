@@ -0,0 +1,51 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    String PENDING = "com.petshop.api.model.enums.OutboxStatus.PENDING";
+    String PROCESSED = "com.petshop.api.model.enums.OutboxStatus.PROCESSED";
+    String FAILED = "com.petshop.api.model.enums.OutboxStatus.FAILED";
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = " + PENDING + " AND e.nextAttemptAt <= :now"
+            + " AND NOT EXISTS (SELECT 1 FROM OutboxEvent o WHERE o.aggregateId = e.aggregateId AND o.id < e.id"
+            + " AND (o.status = " + FAILED + " OR (o.status = " + PENDING + " AND o.nextAttemptAt > :now)))"
+            + " ORDER BY e.id")
+    List<OutboxEvent> findDeliverable(@Param("now") LocalDateTime now, Limit limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = " + PROCESSED + ", e.processedAt = :processedAt, e.attempts = e.attempts + 1"
+            + " WHERE e.id = :id AND e.status = " + PENDING)
+    int markProcessed(@Param("id") UUID id, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.nextAttemptAt = :nextAttemptAt,"
+            + " e.status = CASE WHEN e.attempts + 1 >= :maxAttempts THEN " + FAILED + " ELSE " + PENDING + " END"
+            + " WHERE e.id = :id AND e.status = " + PENDING)
+    int recordFailure(@Param("id") UUID id, @Param("error") String error, @Param("maxAttempts") int maxAttempts,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = " + PENDING + ", e.attempts = 0, e.nextAttemptAt = :now"
+            + " WHERE e.id = :id AND e.status = " + FAILED)
+    int redrive(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = " + PENDING + ", e.attempts = 0, e.nextAttemptAt = :now"
+            + " WHERE e.status = " + FAILED)
+    int redriveFailed(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = " + PROCESSED + " AND e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -2,23 +2,48 @@ package com.petshop.api.repository;
 
 import com.petshop.api.model.entities.Product;
 import com.petshop.api.model.entities.ProductCategory;
+import com.petshop.api.repository.projection.IndexedName;
+import com.petshop.api.repository.projection.ProductQuantity;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ProductRepository extends JpaRepository<Product, UUID> {
+public interface ProductRepository extends JpaRepository<Product, UUID>, ProductStockRepository {
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<Product> findWithLockById(UUID id);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllWithLockByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT p.id AS productId, p.quantityInStock AS quantity FROM Product p")
+    List<ProductQuantity> findAllStockLevels();
+
+    @Override
+    @EntityGraph("Product.withCategory")
+    Page<Product> findAll(Pageable pageable);
+
+    @EntityGraph("Product.withCategory")
+    Optional<Product> findDetailById(UUID id);
+
+    @EntityGraph("Product.withCategory")
     Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
+    @EntityGraph("Product.withCategory")
     Page<Product> findByCategory(ProductCategory category, Pageable pageable);
 
     boolean existsByCategory(ProductCategory category);
+
+    List<IndexedName> findAllIndexedBy();
 }
@@ -0,0 +1,11 @@
+package com.petshop.api.repository;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface ProductStockRepository {
+
+    int adjustStock(Map<UUID, Integer> quantityDeltas);
+
+    boolean decrementStockIfUnchanged(UUID productId, long version, int quantity);
+}
@@ -0,0 +1,71 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class ProductStockRepositoryImpl implements ProductStockRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int adjustStock(Map<UUID, Integer> quantityDeltas) {
+        if (quantityDeltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<UUID, Integer>> entries = new ArrayList<>(quantityDeltas.entrySet());
+        StringBuilder jpql = new StringBuilder("UPDATE Product p SET p.version = p.version + 1, p.quantityInStock = p.quantityInStock + CASE p.id");
+        for (int i = 0; i < entries.size(); i++) {
+            jpql.append(" WHEN :id").append(i).append(" THEN :delta").append(i);
+        }
+        jpql.append(" ELSE 0 END WHERE p.id IN :ids");
+
+        Query query = entityManager.createQuery(jpql.toString());
+        for (int i = 0; i < entries.size(); i++) {
+            query.setParameter("id" + i, entries.get(i).getKey());
+            query.setParameter("delta" + i, entries.get(i).getValue());
+        }
+        query.setParameter("ids", quantityDeltas.keySet());
+        int updated = query.executeUpdate();
+        quantityDeltas.forEach(this::applyToManaged);
+        return updated;
+    }
+
+    @Override
+    public boolean decrementStockIfUnchanged(UUID productId, long version, int quantity) {
+        boolean decremented = entityManager.createQuery("UPDATE Product p SET p.version = p.version + 1,"
+                        + " p.quantityInStock = p.quantityInStock - :quantity"
+                        + " WHERE p.id = :id AND p.version = :version AND p.quantityInStock >= :quantity")
+                .setParameter("id", productId)
+                .setParameter("version", version)
+                .setParameter("quantity", quantity)
+                .executeUpdate() == 1;
+        if (decremented) {
+            applyToManaged(productId, -quantity);
+        }
+        return decremented;
+    }
+
+    private void applyToManaged(UUID productId, int delta) {
+        Product product = entityManager.getReference(Product.class, productId);
+        if (!Hibernate.isInitialized(product)) {
+            return;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        boolean readOnly = session.isReadOnly(product);
+        session.setReadOnly(product, true);
+        product.setQuantityInStock(product.getQuantityInStock() + delta);
+        product.setVersion(product.getVersion() + 1);
+        session.setReadOnly(product, readOnly);
+    }
+}
@@ -1,14 +1,59 @@
 package com.petshop.api.repository;
 
 import com.petshop.api.model.entities.Sale;
+import com.petshop.api.repository.projection.SaleExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface SaleRepository extends JpaRepository<Sale, UUID> {
 
+    @Override
+    @EntityGraph("Sale.listRow")
+    Page<Sale> findAll(Pageable pageable);
+
+    @EntityGraph("Sale.listRow")
     Page<Sale> findByClientNameContainingIgnoreCase(String name, Pageable pageable);
 
+    @EntityGraph("Sale.items")
+    List<Sale> findAllWithProductSalesByIdIn(Collection<UUID> ids);
+
+    @EntityGraph("Sale.detail")
+    Optional<Sale> findDetailById(UUID id);
+
+    @Query("SELECT s.externalId FROM Sale s WHERE s.externalId IN :externalIds")
+    Set<String> findExistingExternalIds(@Param("externalIds") Collection<String> externalIds);
+
+    @EntityGraph("Sale.listRow")
+    @Query("SELECT s FROM Sale s ORDER BY s.saleDate DESC, s.id DESC")
+    List<Sale> findFirstKeysetPage(Limit limit);
+
+    @EntityGraph("Sale.listRow")
+    @Query("SELECT s FROM Sale s WHERE (s.saleDate, s.id) < (:saleDate, :id) ORDER BY s.saleDate DESC, s.id DESC")
+    List<Sale> findKeysetPageAfter(@Param("saleDate") LocalDateTime saleDate, @Param("id") UUID id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.petshop.api.repository.projection.SaleExportRow(s.id, s.saleDate, c.id, c.name, s.paymentType, " +
+            "s.status, s.totalValue, s.notes) FROM Sale s JOIN s.client c " +
+            "WHERE (:from IS NULL OR s.saleDate >= :from) AND (:to IS NULL OR s.saleDate < :to) " +
+            "ORDER BY s.saleDate, s.id")
+    Stream<SaleExportRow> streamForExport(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
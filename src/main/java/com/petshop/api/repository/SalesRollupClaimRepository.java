@@ -0,0 +1,16 @@
+package com.petshop.api.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface SalesRollupClaimRepository {
+
+    boolean claim(UUID saleId);
+
+    int claimAll(Collection<UUID> saleIds);
+
+    List<UUID> findUnrecordedSaleIds(int limit);
+
+    void lockEntries();
+}
@@ -0,0 +1,83 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.config.DatabaseFeatures;
+import com.petshop.api.model.entities.SalesRollupEntry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class SalesRollupClaimRepositoryImpl implements SalesRollupClaimRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DatabaseFeatures databaseFeatures;
+
+    @Override
+    public boolean claim(UUID saleId) {
+        String sql = databaseFeatures.isPostgres()
+                ? "INSERT INTO sales_rollup_entries (sale_id, recorded_at) VALUES (:saleId, :recordedAt)"
+                + " ON CONFLICT (sale_id) DO NOTHING"
+                : "INSERT INTO sales_rollup_entries (sale_id, recorded_at) SELECT :saleId, :recordedAt"
+                + " WHERE NOT EXISTS (SELECT 1 FROM sales_rollup_entries WHERE sale_id = :saleId)";
+        return nativeQuery(sql)
+                .setParameter("saleId", saleId)
+                .setParameter("recordedAt", LocalDateTime.now())
+                .executeUpdate() == 1;
+    }
+
+    @Override
+    public int claimAll(Collection<UUID> saleIds) {
+        if (saleIds.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = new ArrayList<>(saleIds);
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < ids.size(); i++) {
+            values.append(i == 0 ? "" : ", ").append("(:id").append(i).append(", :recordedAt)");
+        }
+        String sql = databaseFeatures.isPostgres()
+                ? "INSERT INTO sales_rollup_entries (sale_id, recorded_at) VALUES " + values + " ON CONFLICT (sale_id) DO NOTHING"
+                : "MERGE INTO sales_rollup_entries (sale_id, recorded_at) KEY (sale_id) VALUES " + values;
+
+        NativeQuery<?> query = nativeQuery(sql);
+        for (int i = 0; i < ids.size(); i++) {
+            query.setParameter("id" + i, ids.get(i));
+        }
+        query.setParameter("recordedAt", LocalDateTime.now());
+        return query.executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UUID> findUnrecordedSaleIds(int limit) {
+        String sql = "SELECT s.id FROM sales s WHERE s.status = 'COMPLETED'"
+                + " AND NOT EXISTS (SELECT 1 FROM sales_rollup_entries e WHERE e.sale_id = s.id)"
+                + " ORDER BY s.id LIMIT :limit"
+                + (databaseFeatures.isPostgres() ? " FOR SHARE OF s" : "");
+        return nativeQuery(sql)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    @Override
+    public void lockEntries() {
+        if (databaseFeatures.isPostgres()) {
+            nativeQuery("LOCK TABLE sales_rollup_entries IN SHARE ROW EXCLUSIVE MODE").executeUpdate();
+        }
+    }
+
+    private NativeQuery<?> nativeQuery(String sql) {
+        return entityManager.createNativeQuery(sql).unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(SalesRollupEntry.class);
+    }
+}
@@ -0,0 +1,16 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.SalesRollupEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+public interface SalesRollupEntryRepository extends JpaRepository<SalesRollupEntry, UUID>, SalesRollupClaimRepository {
+
+    @Modifying
+    @Query("DELETE FROM SalesRollupEntry e WHERE e.saleId = :saleId")
+    int release(@Param("saleId") UUID saleId);
+}
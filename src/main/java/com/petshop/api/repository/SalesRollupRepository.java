@@ -0,0 +1,19 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.SalesRollup;
+import com.petshop.api.model.enums.RollupDimension;
+import com.petshop.api.model.enums.RollupPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, UUID>, SalesRollupUpsertRepository {
+
+    List<SalesRollup> findByPeriodAndDimensionAndPeriodStartBetweenOrderByPeriodStartAscRevenueDesc(
+            RollupPeriod period, RollupDimension dimension, LocalDate from, LocalDate to);
+
+    List<SalesRollup> findByPeriodAndDimensionAndDimensionKeyAndPeriodStartBetweenOrderByPeriodStartAsc(
+            RollupPeriod period, RollupDimension dimension, String dimensionKey, LocalDate from, LocalDate to);
+}
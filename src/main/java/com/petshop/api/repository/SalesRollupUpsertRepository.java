@@ -0,0 +1,10 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.domain.report.SalesRollupDelta;
+
+import java.util.List;
+
+public interface SalesRollupUpsertRepository {
+
+    int applyDeltas(List<SalesRollupDelta> deltas);
+}
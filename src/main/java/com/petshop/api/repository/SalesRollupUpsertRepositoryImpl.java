@@ -0,0 +1,70 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.config.DatabaseFeatures;
+import com.petshop.api.domain.report.SalesRollupDelta;
+import com.petshop.api.model.entities.SalesRollup;
+import com.petshop.api.model.generator.UuidV7Generator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class SalesRollupUpsertRepositoryImpl implements SalesRollupUpsertRepository {
+
+    private static final String COLUMNS = "id, period, dimension, period_start, dimension_key, dimension_label, sale_count, quantity, revenue";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DatabaseFeatures databaseFeatures;
+
+    @Override
+    public int applyDeltas(List<SalesRollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < deltas.size(); i++) {
+            values.append(i == 0 ? "" : ", ")
+                    .append("(:id").append(i).append(", :period").append(i).append(", :dimension").append(i)
+                    .append(", :periodStart").append(i).append(", :key").append(i).append(", :label").append(i)
+                    .append(", :saleCount").append(i).append(", :quantity").append(i).append(", :revenue").append(i).append(")");
+        }
+
+        String sql = databaseFeatures.isPostgres()
+                ? "INSERT INTO sales_rollups (" + COLUMNS + ") VALUES " + values
+                + " ON CONFLICT (period, dimension, period_start, dimension_key) DO UPDATE SET"
+                + " sale_count = sales_rollups.sale_count + EXCLUDED.sale_count,"
+                + " quantity = sales_rollups.quantity + EXCLUDED.quantity,"
+                + " revenue = sales_rollups.revenue + EXCLUDED.revenue,"
+                + " dimension_label = COALESCE(EXCLUDED.dimension_label, sales_rollups.dimension_label)"
+                : "MERGE INTO sales_rollups r USING (VALUES " + values + ") AS d(" + COLUMNS + ")"
+                + " ON r.period = d.period AND r.dimension = d.dimension AND r.period_start = d.period_start"
+                + " AND r.dimension_key = d.dimension_key"
+                + " WHEN MATCHED THEN UPDATE SET sale_count = r.sale_count + d.sale_count,"
+                + " quantity = r.quantity + d.quantity, revenue = r.revenue + d.revenue,"
+                + " dimension_label = COALESCE(d.dimension_label, r.dimension_label)"
+                + " WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ") VALUES (d.id, d.period, d.dimension, d.period_start,"
+                + " d.dimension_key, d.dimension_label, d.sale_count, d.quantity, d.revenue)";
+
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(SalesRollup.class);
+        for (int i = 0; i < deltas.size(); i++) {
+            SalesRollupDelta delta = deltas.get(i);
+            query.setParameter("id" + i, UuidV7Generator.nextId());
+            query.setParameter("period" + i, delta.period().name());
+            query.setParameter("dimension" + i, delta.dimension().name());
+            query.setParameter("periodStart" + i, delta.periodStart());
+            query.setParameter("key" + i, delta.dimensionKey());
+            query.setParameter("label" + i, delta.dimensionLabel());
+            query.setParameter("saleCount" + i, delta.saleCount());
+            query.setParameter("quantity" + i, delta.quantity());
+            query.setParameter("revenue" + i, delta.revenue());
+        }
+        return query.executeUpdate();
+    }
+}
@@ -0,0 +1,17 @@
+package com.petshop.api.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface StockLedgerRepository {
+
+    int openMissingSnapshots(Collection<UUID> productIds, UUID watermark, LocalDateTime takenAt);
+
+    List<UUID> lockSnapshotRange(UUID after, int limit);
+
+    int advanceSnapshots(UUID after, UUID upTo, UUID watermark, LocalDateTime takenAt);
+
+    int refreshProductCounters(UUID after, UUID upTo);
+}
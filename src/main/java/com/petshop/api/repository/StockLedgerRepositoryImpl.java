@@ -0,0 +1,80 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.Product;
+import com.petshop.api.model.entities.StockSnapshot;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class StockLedgerRepositoryImpl implements StockLedgerRepository {
+
+    private static final String LEDGER_DELTA = "CASE WHEN m.type = 'INPUT' THEN m.quantity ELSE -m.quantity END";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int openMissingSnapshots(Collection<UUID> productIds, UUID watermark, LocalDateTime takenAt) {
+        String sql = "INSERT INTO stock_snapshots (product_id, quantity, baseline, last_movement_id, taken_at)"
+                + " SELECT p.id, COALESCE(p.quantity_in_stock, 0), COALESCE(p.quantity_in_stock, 0) - COALESCE(("
+                + "SELECT SUM(" + LEDGER_DELTA + ") FROM stock_movements m WHERE m.product_id = p.id AND m.id < :watermark), 0),"
+                + " CAST(:watermark AS UUID), CAST(:takenAt AS TIMESTAMP) FROM products p"
+                + " WHERE NOT EXISTS (SELECT 1 FROM stock_snapshots s WHERE s.product_id = p.id)"
+                + (productIds != null ? " AND p.id IN (:ids)" : "");
+
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(StockSnapshot.class);
+        query.setParameter("watermark", watermark);
+        query.setParameter("takenAt", takenAt);
+        if (productIds != null) {
+            query.setParameter("ids", productIds);
+        }
+        return query.executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UUID> lockSnapshotRange(UUID after, int limit) {
+        String sql = "SELECT product_id FROM stock_snapshots WHERE product_id > :after ORDER BY product_id LIMIT :limit FOR UPDATE";
+
+        return entityManager.createNativeQuery(sql, UUID.class)
+                .setParameter("after", after)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    @Override
+    public int advanceSnapshots(UUID after, UUID upTo, UUID watermark, LocalDateTime takenAt) {
+        String sql = "UPDATE stock_snapshots SET quantity = quantity + COALESCE(("
+                + "SELECT SUM(" + LEDGER_DELTA + ") FROM stock_movements m WHERE m.product_id = stock_snapshots.product_id"
+                + " AND m.id > stock_snapshots.last_movement_id AND m.id < :watermark), 0),"
+                + " last_movement_id = :watermark, taken_at = :takenAt"
+                + " WHERE product_id > :after AND product_id <= :upTo AND last_movement_id < :watermark";
+
+        return entityManager.createNativeQuery(sql).unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(StockSnapshot.class)
+                .setParameter("after", after)
+                .setParameter("upTo", upTo)
+                .setParameter("watermark", watermark)
+                .setParameter("takenAt", takenAt)
+                .executeUpdate();
+    }
+
+    @Override
+    public int refreshProductCounters(UUID after, UUID upTo) {
+        String sql = "UPDATE products SET version = version + 1, quantity_in_stock = (SELECT s.quantity FROM stock_snapshots s WHERE s.product_id = products.id)"
+                + " WHERE id > :after AND id <= :upTo AND EXISTS (SELECT 1 FROM stock_snapshots s WHERE s.product_id = products.id"
+                + " AND (products.quantity_in_stock IS NULL OR s.quantity <> products.quantity_in_stock))";
+
+        return entityManager.createNativeQuery(sql).unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Product.class)
+                .setParameter("after", after)
+                .setParameter("upTo", upTo)
+                .executeUpdate();
+    }
+}
@@ -1,9 +1,49 @@
 package com.petshop.api.repository;
 
 import com.petshop.api.model.entities.StockMovement;
+import com.petshop.api.repository.projection.ProductQuantity;
+import com.petshop.api.repository.projection.StockMovementExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface StockMovementRepository extends JpaRepository<StockMovement, UUID> {
+
+    @Query("SELECT m FROM StockMovement m WHERE m.product.id = :productId ORDER BY m.dateMovement DESC, m.id DESC")
+    List<StockMovement> findFirstKeysetPage(@Param("productId") UUID productId, Limit limit);
+
+    @Query("SELECT m FROM StockMovement m WHERE m.product.id = :productId AND (m.dateMovement, m.id) < (:dateMovement, :id) " +
+            "ORDER BY m.dateMovement DESC, m.id DESC")
+    List<StockMovement> findKeysetPageAfter(@Param("productId") UUID productId, @Param("dateMovement") LocalDateTime dateMovement,
+                                            @Param("id") UUID id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.petshop.api.repository.projection.StockMovementExportRow(m.id, p.id, p.name, m.type, m.quantity, " +
+            "m.dateMovement, m.price, m.description, m.sale.id, m.invoice) FROM StockMovement m JOIN m.product p " +
+            "WHERE (:from IS NULL OR m.dateMovement >= :from) AND (:to IS NULL OR m.dateMovement < :to) " +
+            "ORDER BY m.dateMovement, m.id")
+    Stream<StockMovementExportRow> streamForExport(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT m.product.id AS productId, " +
+            "SUM(CASE WHEN m.type = com.petshop.api.model.enums.TypeMovement.INPUT THEN m.quantity ELSE -m.quantity END) AS quantity " +
+            "FROM StockMovement m WHERE m.id > :watermark GROUP BY m.product.id")
+    List<ProductQuantity> sumQuantitiesAfter(@Param("watermark") UUID watermark);
+
+    @Query("SELECT m.product.id AS productId, " +
+            "SUM(CASE WHEN m.type = com.petshop.api.model.enums.TypeMovement.INPUT THEN m.quantity ELSE -m.quantity END) AS quantity " +
+            "FROM StockMovement m WHERE m.id > :watermark AND m.product.id IN :ids GROUP BY m.product.id")
+    List<ProductQuantity> sumQuantitiesAfter(@Param("watermark") UUID watermark, @Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,50 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.StockSnapshot;
+import com.petshop.api.repository.projection.LedgerBalance;
+import com.petshop.api.repository.projection.LedgerMismatch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, UUID>, StockLedgerRepository {
+
+    String LEDGER_DELTA = "CASE WHEN m.type = com.petshop.api.model.enums.TypeMovement.INPUT THEN m.quantity ELSE -m.quantity END";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StockSnapshot s WHERE s.productId IN :ids ORDER BY s.productId")
+    List<StockSnapshot> findAllWithLockByProductIdIn(@Param("ids") Collection<UUID> ids);
+
+    long countByProductIdIn(Collection<UUID> productIds);
+
+    @Query("SELECT s.productId AS productId, s.quantity AS snapshotQuantity, COALESCE(SUM(" + LEDGER_DELTA + "), 0) AS ledgerDelta, " +
+            "s.takenAt AS takenAt FROM StockSnapshot s " +
+            "LEFT JOIN StockMovement m ON m.product.id = s.productId AND m.id > s.lastMovementId " +
+            "WHERE s.productId IN :ids GROUP BY s.productId, s.quantity, s.takenAt")
+    List<LedgerBalance> findBalances(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT s.productId AS productId, s.quantity AS snapshotQuantity, " +
+            "s.baseline + COALESCE(SUM(" + LEDGER_DELTA + "), 0) AS ledgerQuantity FROM StockSnapshot s " +
+            "LEFT JOIN StockMovement m ON m.product.id = s.productId AND m.id < s.lastMovementId " +
+            "GROUP BY s.productId, s.quantity, s.baseline " +
+            "HAVING s.baseline + COALESCE(SUM(" + LEDGER_DELTA + "), 0) <> s.quantity ORDER BY s.productId")
+    List<LedgerMismatch> findLedgerMismatches();
+
+    @Query("SELECT s.productId AS productId, s.quantity AS snapshotQuantity, " +
+            "s.baseline + COALESCE(SUM(" + LEDGER_DELTA + "), 0) AS ledgerQuantity FROM StockSnapshot s " +
+            "LEFT JOIN StockMovement m ON m.product.id = s.productId AND m.id < s.lastMovementId " +
+            "WHERE s.productId IN :ids GROUP BY s.productId, s.quantity, s.baseline " +
+            "HAVING s.baseline + COALESCE(SUM(" + LEDGER_DELTA + "), 0) <> s.quantity ORDER BY s.productId")
+    List<LedgerMismatch> findLedgerMismatches(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE StockSnapshot s SET s.quantity = :quantity WHERE s.productId = :productId")
+    int correctQuantity(@Param("productId") UUID productId, @Param("quantity") Integer quantity);
+}
@@ -2,14 +2,28 @@ package com.petshop.api.repository;
 
 import com.petshop.api.model.entities.Veterinarian;
 import com.petshop.api.model.entities.VeterinarianCategory;
+import com.petshop.api.repository.projection.IndexedName;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface VeterinarianRepository extends JpaRepository<Veterinarian, UUID> {
+    @Override
+    @EntityGraph("Veterinarian.withCategory")
+    Page<Veterinarian> findAll(Pageable pageable);
+
+    @EntityGraph("Veterinarian.withCategory")
+    Optional<Veterinarian> findDetailById(UUID id);
+
+    @EntityGraph("Veterinarian.withCategory")
     Page<Veterinarian> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
     boolean existsByCategory(VeterinarianCategory category);
+
+    List<IndexedName> findAllIndexedBy();
 }
@@ -0,0 +1,10 @@
+package com.petshop.api.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record FinancialExportRow(UUID id, String description, BigDecimal amount, BigDecimal balance,
+                                 LocalDate dateCreated, LocalDate dueDate, LocalDate paymentDate, Boolean isPaid,
+                                 Integer installment, UUID clientId, UUID saleId) {
+}
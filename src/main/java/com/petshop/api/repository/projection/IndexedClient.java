@@ -0,0 +1,6 @@
+package com.petshop.api.repository.projection;
+
+public interface IndexedClient extends IndexedName {
+
+    String getCpf();
+}
@@ -0,0 +1,10 @@
+package com.petshop.api.repository.projection;
+
+import java.util.UUID;
+
+public interface IndexedName {
+
+    UUID getId();
+
+    String getName();
+}
@@ -0,0 +1,15 @@
+package com.petshop.api.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface LedgerBalance {
+
+    UUID getProductId();
+
+    Integer getSnapshotQuantity();
+
+    Long getLedgerDelta();
+
+    LocalDateTime getTakenAt();
+}
@@ -0,0 +1,12 @@
+package com.petshop.api.repository.projection;
+
+import java.util.UUID;
+
+public interface LedgerMismatch {
+
+    UUID getProductId();
+
+    Integer getSnapshotQuantity();
+
+    Long getLedgerQuantity();
+}
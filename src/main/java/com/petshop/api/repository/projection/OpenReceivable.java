@@ -0,0 +1,16 @@
+package com.petshop.api.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface OpenReceivable {
+
+    UUID getClientId();
+
+    String getClientName();
+
+    LocalDate getDueDate();
+
+    BigDecimal getBalance();
+}
@@ -0,0 +1,12 @@
+package com.petshop.api.repository.projection;
+
+import com.petshop.api.model.enums.SalePaymentType;
+import com.petshop.api.model.enums.SaleStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SaleExportRow(UUID id, LocalDateTime saleDate, UUID clientId, String clientName,
+                            SalePaymentType paymentType, SaleStatus status, BigDecimal totalValue, String notes) {
+}
@@ -0,0 +1,12 @@
+package com.petshop.api.repository.projection;
+
+import com.petshop.api.model.enums.TypeMovement;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record StockMovementExportRow(UUID id, UUID productId, String productName, TypeMovement type, Integer quantity,
+                                     LocalDateTime dateMovement, BigDecimal price, String description, UUID saleId,
+                                     String invoice) {
+}
@@ -0,0 +1,81 @@
+package com.petshop.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.petshop.api.model.entities.User;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+public class AuthenticatedTokenCache {
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final Duration userDetailsTtl;
+    private final Cache<String, AuthenticatedToken> tokens;
+
+    public AuthenticatedTokenCache(JwtService jwtService,
+                                   UserDetailsService userDetailsService,
+                                   @Value("${application.security.jwt.cache.max-size:10000}") long maxSize,
+                                   @Value("${application.security.jwt.cache.user-details-ttl:5m}") Duration userDetailsTtl) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.userDetailsTtl = userDetailsTtl;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String token, AuthenticatedToken authenticated) -> timeToLive(authenticated)))
+                .build();
+    }
+
+    public Optional<UserDetails> resolve(String token) {
+        AuthenticatedToken cached = tokens.getIfPresent(token);
+        if (cached != null) {
+            return Optional.of(cached.userDetails());
+        }
+        Claims claims = jwtService.extractAllClaims(token);
+        if (claims.getSubject() == null) {
+            return Optional.empty();
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        if (!jwtService.isTokenValid(claims, userDetails)) {
+            return Optional.empty();
+        }
+        Instant tokenExpiration = claims.getExpiration().toInstant();
+        Instant detailsExpiration = Instant.now().plus(userDetailsTtl);
+        Instant expiresAt = tokenExpiration.isBefore(detailsExpiration) ? tokenExpiration : detailsExpiration;
+        tokens.put(token, new AuthenticatedToken(userDetails, expiresAt));
+        return Optional.of(userDetails);
+    }
+
+    public void evict(User user) {
+        tokens.asMap().values().removeIf(authenticated -> belongsTo(authenticated.userDetails(), user));
+    }
+
+    public long size() {
+        tokens.cleanUp();
+        return tokens.estimatedSize();
+    }
+
+    private static boolean belongsTo(UserDetails userDetails, User user) {
+        if (userDetails.getUsername().equals(user.getUsername())) {
+            return true;
+        }
+        return userDetails instanceof User cached && cached.getId() != null && cached.getId().equals(user.getId());
+    }
+
+    private static Duration timeToLive(AuthenticatedToken authenticated) {
+        Duration remaining = Duration.between(Instant.now(), authenticated.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private record AuthenticatedToken(UserDetails userDetails, Instant expiresAt) {
+    }
+}
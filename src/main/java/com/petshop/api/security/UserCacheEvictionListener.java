@@ -0,0 +1,33 @@
+package com.petshop.api.security;
+
+import com.petshop.api.model.entities.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictionListener {
+
+    private final ObjectProvider<AuthenticatedTokenCache> authenticatedTokenCache;
+
+    @PostUpdate
+    @PostRemove
+    public void userChanged(User user) {
+        authenticatedTokenCache.ifAvailable(cache -> {
+            cache.evict(user);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        cache.evict(user);
+                    }
+                });
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.petshop.api.service;
 
+import com.petshop.api.domain.search.AutocompleteIndex;
 import com.petshop.api.domain.validator.ValidatorEntities;
 import com.petshop.api.dto.update.UpdateAnimalDto;
 import com.petshop.api.dto.response.AnimalResponseDto;
@@ -27,6 +28,7 @@ public class AnimalService {
     private final MedicalAppointmentRepository medicalAppointmentRepository;
     private final AnimalMapper animalMapper;
     private final ValidatorEntities validatorEntities;
+    private final AutocompleteIndex autocompleteIndex;
 
 
     public Page<AnimalResponseDto> getAllAnimals(Pageable pageable){
@@ -53,14 +55,18 @@ public class AnimalService {
     public AnimalResponseDto createAnimal(CreateAnimalDto dto){
         var animal = animalMapper.toEntity(dto);
         animal.setClient(validatorEntities.validate(dto.getClientId(),clientRepository, "Client"));
-        return animalMapper.toResponseDto(animalRepository.save(animal));
+        var savedAnimal = animalRepository.save(animal);
+        autocompleteIndex.indexAnimal(savedAnimal);
+        return animalMapper.toResponseDto(savedAnimal);
     }
 
     @Transactional
     public AnimalResponseDto updateAnimal(UUID id, UpdateAnimalDto updateDto){
         var animal = validatorEntities.validate(id, animalRepository, "Animal");
         animalMapper.updateAnimalFromDto(updateDto, animal);
-        return animalMapper.toResponseDto(animalRepository.save(animal));
+        var savedAnimal = animalRepository.save(animal);
+        autocompleteIndex.indexAnimal(savedAnimal);
+        return animalMapper.toResponseDto(savedAnimal);
     }
 
     @Transactional
@@ -68,6 +74,7 @@ public class AnimalService {
         var animal = validatorEntities.validate(id, animalRepository, "Animal");
         canDelete(animal);
         animalRepository.delete(animal);
+        autocompleteIndex.remove(id);
     }
 
     private void canDelete(Animal animal) {
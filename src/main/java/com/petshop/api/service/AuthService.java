@@ -4,6 +4,7 @@ import com.petshop.api.dto.response.AuthResponseDto;
 import com.petshop.api.dto.request.CreateLoginDto;
 import com.petshop.api.dto.request.CreateRegisterDto;
 import com.petshop.api.model.entities.User;
+import com.petshop.api.model.enums.UserRole;
 import com.petshop.api.repository.UserRepository;
 import com.petshop.api.security.JwtService;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ public class AuthService {
         user.setEmail(createRegisterDTO.getEmail());
         user.setName(createRegisterDTO.getName());
         user.setPassword(passwordEncoder.encode(createRegisterDTO.getPassword()));
+        user.setRole(UserRole.USER);
 
         User savedUser = userRepository.save(user);
 
@@ -1,12 +1,14 @@
 package com.petshop.api.service;
 
 
+import com.petshop.api.domain.search.AutocompleteIndex;
 import com.petshop.api.domain.validator.ValidatorEntities;
 import com.petshop.api.dto.request.CreateClientDto;
 import com.petshop.api.dto.update.UpdateClientDto;
 import com.petshop.api.dto.response.ClientResponseDto;
 import com.petshop.api.exception.BusinessException;
 import com.petshop.api.exception.CpfAlreadyExistsException;
+import com.petshop.api.model.entities.Animal;
 import com.petshop.api.model.entities.Client;
 import com.petshop.api.model.mapper.AddressMapper;
 import com.petshop.api.model.mapper.ClientMapper;
@@ -18,6 +20,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -29,11 +32,12 @@ public class ClientService {
     private final ClientMapper clientMapper;
     private final AddressMapper addressMapper;
     private final ValidatorEntities validatorEntities;
+    private final AutocompleteIndex autocompleteIndex;
 
 
+    @Transactional(readOnly = true)
     public Page<ClientResponseDto> getAllClients(Pageable pageable) {
-        return clientRepository.findAll(pageable)
-                .map(clientMapper::toResponseDto);
+        return toResponsePage(clientRepository.findAll(pageable));
     }
 
     public ClientResponseDto getClientById(UUID id) {
@@ -42,9 +46,9 @@ public class ClientService {
 
     }
 
+    @Transactional(readOnly = true)
     public Page<ClientResponseDto> getClientByNameContainingIgnoreCase(String name, Pageable pageable) {
-        return clientRepository.findByNameContainingIgnoreCase(name,pageable)
-                .map(clientMapper::toResponseDto);
+        return toResponsePage(clientRepository.findByNameContainingIgnoreCase(name,pageable));
     }
 
     @Transactional
@@ -53,7 +57,9 @@ public class ClientService {
             throw new CpfAlreadyExistsException("This CPF already exists");
         }
         var client = clientMapper.toEntity(dto);
-        return clientMapper.toResponseDto(clientRepository.save(client));
+        var savedClient = clientRepository.save(client);
+        autocompleteIndex.indexClient(savedClient);
+        return clientMapper.toResponseDto(savedClient);
     }
 
     @Transactional
@@ -61,14 +67,26 @@ public class ClientService {
         var client = validatorEntities.validate(id, clientRepository, "Client");
         clientMapper.updateClientFromDto(updateDto, client) ;
         addressMapper.updateAddressFromDto(updateDto.getAddress(), client.getAddress());
-        return clientMapper.toResponseDto(clientRepository.save(client));
+        var savedClient = clientRepository.save(client);
+        autocompleteIndex.indexClient(savedClient);
+        return clientMapper.toResponseDto(savedClient);
     }
 
     @Transactional
     public void deleteClient(UUID id) {
         var client = validatorEntities.validate(id, clientRepository, "Client");
         canDelete(client);
+        List<UUID> animalIds = client.getAnimals().stream().map(Animal::getId).toList();
         clientRepository.delete(client);
+        autocompleteIndex.remove(id);
+        animalIds.forEach(autocompleteIndex::remove);
+    }
+
+    private Page<ClientResponseDto> toResponsePage(Page<Client> clients) {
+        if (clients.hasContent()) {
+            clientRepository.findAllWithAnimalsByIdIn(clients.map(Client::getId).getContent());
+        }
+        return clients.map(clientMapper::toResponseDto);
     }
 
     private void canDelete(Client client) {
@@ -0,0 +1,28 @@
+package com.petshop.api.service;
+
+import com.petshop.api.config.VirtualThreadPinningMonitor;
+import com.petshop.api.dto.response.PinningReportDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class DiagnosticsService {
+
+    private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+    private final Environment environment;
+
+    public PinningReportDto getPinningReport() {
+        boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        VirtualThreadPinningMonitor monitor = pinningMonitor.getIfAvailable();
+        if (monitor == null) {
+            return new PinningReportDto(virtualThreads, false, 0, 0, 0, List.of());
+        }
+        return new PinningReportDto(virtualThreads, monitor.isRunning(), monitor.getEvents(),
+                monitor.getTotalPinnedMillis(), monitor.getMaxPinnedMillis(), monitor.getSites());
+    }
+}
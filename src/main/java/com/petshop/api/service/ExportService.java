@@ -0,0 +1,134 @@
+package com.petshop.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petshop.api.domain.export.ExportColumn;
+import com.petshop.api.domain.export.ExportFormat;
+import com.petshop.api.domain.export.RowStreamWriter;
+import com.petshop.api.repository.FinancialRepository;
+import com.petshop.api.repository.SaleRepository;
+import com.petshop.api.repository.StockMovementRepository;
+import com.petshop.api.repository.projection.FinancialExportRow;
+import com.petshop.api.repository.projection.SaleExportRow;
+import com.petshop.api.repository.projection.StockMovementExportRow;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Service
+public class ExportService {
+
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private static final List<ExportColumn<SaleExportRow>> SALE_COLUMNS = List.of(
+            ExportColumn.of("id", SaleExportRow::id),
+            ExportColumn.of("saleDate", SaleExportRow::saleDate),
+            ExportColumn.of("clientId", SaleExportRow::clientId),
+            ExportColumn.of("clientName", SaleExportRow::clientName),
+            ExportColumn.of("paymentType", SaleExportRow::paymentType),
+            ExportColumn.of("status", SaleExportRow::status),
+            ExportColumn.of("totalValue", SaleExportRow::totalValue),
+            ExportColumn.of("notes", SaleExportRow::notes));
+
+    private static final List<ExportColumn<FinancialExportRow>> FINANCIAL_COLUMNS = List.of(
+            ExportColumn.of("id", FinancialExportRow::id),
+            ExportColumn.of("description", FinancialExportRow::description),
+            ExportColumn.of("amount", FinancialExportRow::amount),
+            ExportColumn.of("balance", FinancialExportRow::balance),
+            ExportColumn.of("dateCreated", FinancialExportRow::dateCreated),
+            ExportColumn.of("dueDate", FinancialExportRow::dueDate),
+            ExportColumn.of("paymentDate", FinancialExportRow::paymentDate),
+            ExportColumn.of("isPaid", FinancialExportRow::isPaid),
+            ExportColumn.of("installment", FinancialExportRow::installment),
+            ExportColumn.of("clientId", FinancialExportRow::clientId),
+            ExportColumn.of("saleId", FinancialExportRow::saleId));
+
+    private static final List<ExportColumn<StockMovementExportRow>> STOCK_MOVEMENT_COLUMNS = List.of(
+            ExportColumn.of("id", StockMovementExportRow::id),
+            ExportColumn.of("productId", StockMovementExportRow::productId),
+            ExportColumn.of("productName", StockMovementExportRow::productName),
+            ExportColumn.of("type", StockMovementExportRow::type),
+            ExportColumn.of("quantity", StockMovementExportRow::quantity),
+            ExportColumn.of("dateMovement", StockMovementExportRow::dateMovement),
+            ExportColumn.of("price", StockMovementExportRow::price),
+            ExportColumn.of("description", StockMovementExportRow::description),
+            ExportColumn.of("saleId", StockMovementExportRow::saleId),
+            ExportColumn.of("invoice", StockMovementExportRow::invoice));
+
+    private final SaleRepository saleRepository;
+    private final FinancialRepository financialRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExportService(SaleRepository saleRepository,
+                         FinancialRepository financialRepository,
+                         StockMovementRepository stockMovementRepository,
+                         EntityManager entityManager,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.saleRepository = saleRepository;
+        this.financialRepository = financialRepository;
+        this.stockMovementRepository = stockMovementRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public StreamingResponseBody exportSales(ExportFormat format, LocalDate from, LocalDate to) {
+        return output -> export(output, format, SALE_COLUMNS,
+                () -> saleRepository.streamForExport(startOf(from), startOf(nextDay(to))));
+    }
+
+    public StreamingResponseBody exportFinancial(ExportFormat format, LocalDate from, LocalDate to) {
+        return output -> export(output, format, FINANCIAL_COLUMNS,
+                () -> financialRepository.streamForExport(from, nextDay(to)));
+    }
+
+    public StreamingResponseBody exportStockMovements(ExportFormat format, LocalDate from, LocalDate to) {
+        return output -> export(output, format, STOCK_MOVEMENT_COLUMNS,
+                () -> stockMovementRepository.streamForExport(startOf(from), startOf(nextDay(to))));
+    }
+
+    private <T> void export(OutputStream output, ExportFormat format, List<ExportColumn<T>> columns,
+                            Supplier<Stream<T>> rows) throws IOException {
+        try (RowStreamWriter<T> writer = new RowStreamWriter<>(output, format, columns, objectMapper)) {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    Iterator<T> iterator = stream.iterator();
+                    long written = 0;
+                    while (iterator.hasNext()) {
+                        writer.write(iterator.next());
+                        if (++written % CLEAR_INTERVAL == 0) {
+                            entityManager.clear();
+                            writer.flush();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private static LocalDate nextDay(LocalDate date) {
+        return date != null ? date.plusDays(1) : null;
+    }
+
+    private static LocalDateTime startOf(LocalDate date) {
+        return date != null ? date.atStartOfDay() : null;
+    }
+}
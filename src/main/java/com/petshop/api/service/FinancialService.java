@@ -2,18 +2,27 @@ package com.petshop.api.service;
 
 import com.petshop.api.domain.financial.FinancialInstallmentGenerator;
 import com.petshop.api.domain.financial.FinancialPaymentGenerator;
+import com.petshop.api.domain.outbox.PaymentRegisteredEvent;
+import com.petshop.api.domain.pagination.KeysetCursor;
+import com.petshop.api.domain.pagination.KeysetPage;
+import com.petshop.api.domain.report.AgingReportAccumulator;
 import com.petshop.api.domain.validator.ValidatorEntities;
 import com.petshop.api.dto.request.CreateFinancialDto;
 import com.petshop.api.dto.request.CreateFinancialPaymentDto;
+import com.petshop.api.dto.response.AgingReportDto;
+import com.petshop.api.dto.response.CursorPageResponseDto;
 import com.petshop.api.dto.response.FinancialResponseDto;
 import com.petshop.api.exception.BusinessException;
+import com.petshop.api.exception.ResourceNotFoundException;
 import com.petshop.api.model.entities.Financial;
 import com.petshop.api.model.entities.Sale;
+import com.petshop.api.model.enums.OutboxEventType;
 import com.petshop.api.model.mapper.FinancialMapper;
 import com.petshop.api.repository.ClientRepository;
 import com.petshop.api.repository.FinancialPaymentRepository;
 import com.petshop.api.repository.FinancialRepository;
 import com.petshop.api.repository.MonetaryTypeRepository;
+import com.petshop.api.repository.projection.OpenReceivable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,6 +33,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 
 @Service
@@ -37,10 +47,12 @@ public class FinancialService {
     private final FinancialInstallmentGenerator installmentGenerator;
     private final ValidatorEntities validatorEntities;
     private final FinancialPaymentGenerator paymentGenerator;
+    private final OutboxService outboxService;
 
 
     public FinancialResponseDto getFinancialById(UUID id) {
-        var financial = validatorEntities.validate(id, financialRepository, "Financial");
+        var financial = financialRepository.findDetailById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Financial not found"));
         return financialMapper.toResponseDto(financial);
     }
 
@@ -49,6 +61,29 @@ public class FinancialService {
                 .map(financialMapper::toResponseDto);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<FinancialResponseDto> scrollFinancial(String cursor, Integer size){
+        int pageSize = KeysetPage.size(size);
+        List<Financial> financials;
+        if (cursor == null || cursor.isBlank()) {
+            financials = financialRepository.findFirstKeysetPage(KeysetPage.fetchLimit(pageSize));
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            financials = financialRepository.findKeysetPageAfter(position.keyAsDate(), position.id(), KeysetPage.fetchLimit(pageSize));
+        }
+        return KeysetPage.toResponse(financials, pageSize, Financial::getDateCreated, Financial::getId,
+                financialMapper::toResponseDto);
+    }
+
+    @Transactional(readOnly = true)
+    public AgingReportDto getAgingReport(LocalDate asOf) {
+        var accumulator = new AgingReportAccumulator(asOf != null ? asOf : LocalDate.now());
+        try (Stream<OpenReceivable> receivables = financialRepository.streamOpenReceivables()) {
+            receivables.forEach(accumulator::add);
+        }
+        return accumulator.toReport();
+    }
+
     public Page<FinancialResponseDto> getByClientNameContainingIgnoreCase(String name, Pageable pageable) {
         return financialRepository.findByClientNameContainingIgnoreCase(name, pageable)
                 .map(financialMapper::toResponseDto);
@@ -83,7 +118,8 @@ public class FinancialService {
 
     @Transactional
     public FinancialResponseDto payFinancial(UUID id, CreateFinancialPaymentDto paymentDto){
-        var financial = validatorEntities.validate(id,financialRepository, "Financial");
+        var financial = financialRepository.findForPaymentById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Financial not found"));
         if(paymentDto.getPaidAmount().compareTo(financial.getBalance()) > 0){
             throw new BusinessException("The paid amount cannot be greater than the financial amount.");
         }
@@ -93,12 +129,18 @@ public class FinancialService {
         if(!financial.getIsPaid()&& paymentDto.getNextDueDate() != null){
             financial.setDueDate(paymentDto.getNextDueDate());
         }
-        return financialMapper.toResponseDto(financialRepository.save(financial));
+        var savedFinancial = financialRepository.save(financial);
+        outboxService.append(OutboxEventType.PAYMENT_REGISTERED, "Financial", savedFinancial.getId(),
+                new PaymentRegisteredEvent(savedFinancial.getId(),
+                        savedFinancial.getSale() != null ? savedFinancial.getSale().getId() : null,
+                        paymentDto.getPaidAmount(), paymentDto.getPaymentDate(), savedFinancial.getIsPaid()));
+        return financialMapper.toResponseDto(savedFinancial);
     }
 
     @Transactional
     public FinancialResponseDto refundFinancial(UUID id){
-        var financialPayment = validatorEntities.validate(id, financialPaymentRepository, "Financial Payment");
+        var financialPayment = financialPaymentRepository.findForRefundById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Financial Payment not found"));
         var financial = financialPayment.getFinancial();
         paymentGenerator.revertPayment(financial, financialPayment);
         financialPaymentRepository.delete(financialPayment);
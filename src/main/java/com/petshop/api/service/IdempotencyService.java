@@ -0,0 +1,234 @@
+package com.petshop.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.petshop.api.domain.idempotency.IdempotencyProperties;
+import com.petshop.api.domain.idempotency.StoredResponse;
+import com.petshop.api.domain.stock.RetryOnStockConflict;
+import com.petshop.api.exception.IdempotencyConflictException;
+import com.petshop.api.exception.InvalidIdempotencyKeyException;
+import com.petshop.api.model.entities.IdempotencyRecord;
+import com.petshop.api.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties idempotencyProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, StoredResponse> responses;
+    private final Counter cacheReplays;
+    private final Counter databaseReplays;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              ObjectMapper objectMapper,
+                              IdempotencyProperties idempotencyProperties,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.idempotencyProperties = idempotencyProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(idempotencyProperties.cacheSize())
+                .expireAfterWrite(idempotencyProperties.ttl())
+                .build();
+        this.cacheReplays = replays(meterRegistry, "cache");
+        this.databaseReplays = replays(meterRegistry, "database");
+    }
+
+    @RetryOnStockConflict
+    public <T> ResponseEntity<T> execute(String key, String operation, Object request, Class<T> responseType,
+                                         HttpStatus status, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return ResponseEntity.status(status).body(action.get());
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException("Idempotency-Key must have at most %s characters".formatted(MAX_KEY_LENGTH));
+        }
+        String keyHash = sha256(principal() + "\n" + key);
+        String fingerprint = sha256(operation + "\n" + toJson(request));
+
+        StoredResponse cached = responses.getIfPresent(keyHash);
+        if (cached != null) {
+            cacheReplays.increment();
+            return replay(cached, fingerprint, responseType);
+        }
+
+        LocalDateTime lockedUntil = LocalDateTime.now().plus(idempotencyProperties.lockTimeout()).truncatedTo(ChronoUnit.MILLIS);
+        Optional<IdempotencyRecord> existing = claim(keyHash, fingerprint, lockedUntil);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (!record.getFingerprint().equals(fingerprint)) {
+                throw mismatch();
+            }
+            if (record.getResponseStatus() == null) {
+                throw inProgress(record.getExpiresAt());
+            }
+            StoredResponse stored = new StoredResponse(record.getFingerprint(), record.getResponseStatus(), record.getResponseBody());
+            responses.put(keyHash, stored);
+            databaseReplays.increment();
+            return replay(stored, fingerprint, responseType);
+        }
+
+        Completed<T> completed;
+        try {
+            completed = transactionTemplate.execute(transaction -> {
+                if (idempotencyRecordRepository.findClaimWithLock(keyHash, lockedUntil).isEmpty()) {
+                    throw inProgress(null);
+                }
+                T body = action.get();
+                String json = toJson(body);
+                idempotencyRecordRepository.complete(keyHash, status.value(), json,
+                        LocalDateTime.now().plus(idempotencyProperties.ttl()));
+                return new Completed<>(body, json);
+            });
+        } catch (IdempotencyConflictException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            release(keyHash, lockedUntil);
+            throw e;
+        }
+        responses.put(keyHash, new StoredResponse(fingerprint, status.value(), completed.json()));
+        return ResponseEntity.status(status).body(completed.body());
+    }
+
+    public void deleteExpired() {
+        Integer deleted = transactionTemplate.execute(transaction -> idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+        log.debug("Deleted {} expired idempotency keys", deleted);
+    }
+
+    private Optional<IdempotencyRecord> claim(String keyHash, String fingerprint, LocalDateTime lockedUntil) {
+        try {
+            return transactionTemplate.execute(transaction -> {
+                LocalDateTime now = LocalDateTime.now();
+                Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findById(keyHash);
+                if (existing.isEmpty()) {
+                    idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                            .keyHash(keyHash)
+                            .fingerprint(fingerprint)
+                            .expiresAt(lockedUntil)
+                            .build());
+                    return Optional.empty();
+                }
+                IdempotencyRecord record = existing.get();
+                if (record.getExpiresAt().isAfter(now)) {
+                    return existing;
+                }
+                if (record.getResponseStatus() == null) {
+                    if (!record.getFingerprint().equals(fingerprint)) {
+                        return existing;
+                    }
+                    if (idempotencyRecordRepository.reclaimStale(keyHash, fingerprint, record.getExpiresAt(), lockedUntil) == 0) {
+                        throw inProgress(null);
+                    }
+                    log.info("Took over idempotency key {} abandoned since {}", keyHash, record.getExpiresAt());
+                    return Optional.empty();
+                }
+                if (idempotencyRecordRepository.reclaimExpired(keyHash, fingerprint, now, lockedUntil) == 0) {
+                    throw inProgress(null);
+                }
+                return Optional.empty();
+            });
+        } catch (DataIntegrityViolationException e) {
+            Optional<IdempotencyRecord> winner = transactionTemplate.execute(transaction -> idempotencyRecordRepository.findById(keyHash));
+            if (winner.isEmpty()) {
+                throw inProgress(null);
+            }
+            return winner;
+        }
+    }
+
+    private void release(String keyHash, LocalDateTime lockedUntil) {
+        try {
+            transactionTemplate.executeWithoutResult(transaction -> idempotencyRecordRepository.release(keyHash, lockedUntil));
+        } catch (RuntimeException e) {
+            log.warn("Could not release idempotency key {}, it will be removed after the lock timeout", keyHash, e);
+        }
+    }
+
+    private IdempotencyConflictException inProgress(LocalDateTime lockedUntil) {
+        Duration retryAfter = lockedUntil != null ? Duration.between(LocalDateTime.now(), lockedUntil) : Duration.ZERO;
+        if (retryAfter.isNegative() || retryAfter.isZero()) {
+            retryAfter = Duration.ofSeconds(1);
+        }
+        return new IdempotencyConflictException("A request with this Idempotency-Key is still being processed", retryAfter);
+    }
+
+    private <T> ResponseEntity<T> replay(StoredResponse stored, String fingerprint, Class<T> responseType) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            throw mismatch();
+        }
+        try {
+            return ResponseEntity.status(stored.status())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(objectMapper.readValue(stored.body(), responseType));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read the stored idempotent response", e);
+        }
+    }
+
+    private InvalidIdempotencyKeyException mismatch() {
+        return new InvalidIdempotencyKeyException("Idempotency-Key was already used with a different request");
+    }
+
+    private String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the idempotent request", e);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter replays(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("petshop.idempotency.replays")
+                .description("Requests answered with a stored response for a repeated Idempotency-Key")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private record Completed<T>(T body, String json) {
+    }
+}
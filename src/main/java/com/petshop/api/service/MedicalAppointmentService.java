@@ -7,6 +7,7 @@ import com.petshop.api.dto.request.CreateMedicalAppointmentDto;
 import com.petshop.api.dto.update.UpdateMedicalAppointmentDto;
 import com.petshop.api.dto.response.MedicalAppointmentResponseDto;
 import com.petshop.api.exception.BusinessException;
+import com.petshop.api.exception.ResourceNotFoundException;
 import com.petshop.api.model.entities.MedicalAppointment;
 import com.petshop.api.model.enums.AppointmentStatus;
 import com.petshop.api.model.mapper.MedicalAppointmentMapper;
@@ -42,7 +43,8 @@ public class MedicalAppointmentService {
     }
 
     public MedicalAppointmentResponseDto getMedicalAppointmentById(UUID id) {
-        var medicalAppointment = validatorEntities.validate(id, medicalAppointmentRepository, "Medical Appointment");
+        var medicalAppointment = medicalAppointmentRepository.findDetailById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Medical Appointment not found"));
         return medicalAppointmentMapper.toResponseDto(medicalAppointment);
     }
 
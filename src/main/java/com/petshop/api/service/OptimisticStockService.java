@@ -0,0 +1,53 @@
+package com.petshop.api.service;
+
+import com.petshop.api.domain.stock.StockMode;
+import com.petshop.api.domain.stock.StockProperties;
+import com.petshop.api.exception.InsufficientStockException;
+import com.petshop.api.metrics.LockWaitMetricsListener;
+import com.petshop.api.model.entities.Product;
+import com.petshop.api.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class OptimisticStockService {
+
+    private final ProductRepository productRepository;
+    private final StockProperties stockProperties;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+
+    public boolean isEnabled() {
+        return stockProperties.mode() == StockMode.OPTIMISTIC;
+    }
+
+    @Transactional
+    public void decrement(Map<UUID, Integer> requested, Map<UUID, Product> products) {
+        Timer contention = LockWaitMetricsListener.timer(meterRegistry, ProductRepository.class.getSimpleName(),
+                "decrementStockIfUnchanged", LockModeType.OPTIMISTIC);
+        new TreeMap<>(requested).forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            long version = product.getVersion();
+            Boolean decremented = contention.record(() -> productRepository.decrementStockIfUnchanged(productId, version, quantity));
+            if (!Boolean.TRUE.equals(decremented)) {
+                entityManager.refresh(product);
+                if (product.getQuantityInStock() < quantity) {
+                    throw new InsufficientStockException("Not enough stock for product %s. Requested: %s, Available: %s"
+                            .formatted(product.getName(), quantity, product.getQuantityInStock()));
+                }
+                throw new ObjectOptimisticLockingFailureException(Product.class, productId);
+            }
+        });
+    }
+}
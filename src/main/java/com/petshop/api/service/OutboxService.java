@@ -0,0 +1,208 @@
+package com.petshop.api.service;
+
+import com.petshop.api.domain.outbox.OutboxEventHandler;
+import com.petshop.api.domain.outbox.OutboxPayloadMapper;
+import com.petshop.api.domain.outbox.OutboxProperties;
+import com.petshop.api.exception.ResourceNotFoundException;
+import com.petshop.api.model.entities.OutboxEvent;
+import com.petshop.api.model.enums.OutboxEventType;
+import com.petshop.api.model.enums.OutboxStatus;
+import com.petshop.api.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class OutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPayloadMapper outboxPayloadMapper;
+    private final OutboxProperties outboxProperties;
+    private final Map<OutboxEventType, List<OutboxEventHandler>> handlers = new EnumMap<>(OutboxEventType.class);
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+
+    public OutboxService(OutboxEventRepository outboxEventRepository,
+                         OutboxPayloadMapper outboxPayloadMapper,
+                         OutboxProperties outboxProperties,
+                         List<OutboxEventHandler> handlers,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPayloadMapper = outboxPayloadMapper;
+        this.outboxProperties = outboxProperties;
+        handlers.forEach(handler -> handler.eventTypes()
+                .forEach(type -> this.handlers.computeIfAbsent(type, key -> new ArrayList<>()).add(handler)));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        ThreadFactory threads = virtualThreads
+                ? Thread.ofVirtual().name("outbox-", 0).factory()
+                : Thread.ofPlatform().name("outbox-", 0).daemon().factory();
+        this.executor = Executors.newFixedThreadPool(outboxProperties.concurrency(), threads);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, String aggregateType, UUID aggregateId, Object payload) {
+        outboxEventRepository.save(event(type, aggregateType, aggregateId, payload));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(OutboxEventType type, String aggregateType, Map<UUID, ?> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        outboxEventRepository.saveAll(payloads.entrySet().stream()
+                .map(entry -> event(type, aggregateType, entry.getKey(), entry.getValue()))
+                .toList());
+    }
+
+    public int dispatch() {
+        if (!dispatchLock.tryLock()) {
+            return 0;
+        }
+        try {
+            List<OutboxEvent> batch = transactionTemplate.execute(status -> outboxEventRepository
+                    .findDeliverable(LocalDateTime.now(), Limit.of(outboxProperties.batchSize())));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            Map<UUID, List<OutboxEvent>> byAggregate = batch.stream()
+                    .collect(Collectors.groupingBy(OutboxEvent::getAggregateId, LinkedHashMap::new, Collectors.toList()));
+            List<Callable<Integer>> deliveries = byAggregate.values().stream()
+                    .map(events -> (Callable<Integer>) () -> deliver(events))
+                    .toList();
+            int delivered = 0;
+            for (Future<Integer> delivery : executor.invokeAll(deliveries)) {
+                delivered += delivery.get();
+            }
+            return delivered;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Outbox delivery failed", e.getCause());
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    public void redrive(UUID id) {
+        Integer redriven = transactionTemplate.execute(status -> outboxEventRepository.redrive(id, LocalDateTime.now()));
+        if (redriven == 0) {
+            throw new ResourceNotFoundException("Failed outbox event not found");
+        }
+        log.info("Re-drove failed outbox event {}", id);
+    }
+
+    public int redriveFailed() {
+        Integer redriven = transactionTemplate.execute(status -> outboxEventRepository.redriveFailed(LocalDateTime.now()));
+        log.info("Re-drove {} failed outbox events", redriven);
+        return redriven;
+    }
+
+    public void deleteProcessed() {
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository
+                .deleteProcessedBefore(LocalDateTime.now().minus(outboxProperties.retention())));
+        log.debug("Deleted {} processed outbox events", deleted);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private int deliver(List<OutboxEvent> events) {
+        int delivered = 0;
+        for (OutboxEvent event : events) {
+            try {
+                boolean handled = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                    if (outboxEventRepository.markProcessed(event.getId(), LocalDateTime.now()) == 0) {
+                        return false;
+                    }
+                    handlers.getOrDefault(event.getEventType(), List.of()).forEach(handler -> handler.handle(event));
+                    return true;
+                }));
+                if (handled) {
+                    delivered++;
+                    counter("petshop.outbox.dispatched", "Outbox events delivered to their handlers", event).increment();
+                    Timer.builder("petshop.outbox.lag")
+                            .description("Time between writing an outbox event and delivering it")
+                            .tag("type", event.getEventType().name())
+                            .register(meterRegistry)
+                            .record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+                }
+            } catch (RuntimeException e) {
+                recordFailure(event, e);
+                return delivered;
+            }
+        }
+        return delivered;
+    }
+
+    private void recordFailure(OutboxEvent event, RuntimeException failure) {
+        counter("petshop.outbox.failures", "Outbox deliveries that failed and will be retried", event).increment();
+        String error = String.valueOf(failure.getMessage());
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.recordFailure(event.getId(),
+                    error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error,
+                    outboxProperties.maxAttempts(), LocalDateTime.now().plus(backoff(event.getAttempts()))));
+        } catch (RuntimeException e) {
+            log.error("Could not record the failure of outbox event {}", event.getId(), e);
+        }
+        log.atWarn()
+                .addKeyValue("eventId", event.getId())
+                .addKeyValue("type", event.getEventType())
+                .addKeyValue("aggregateId", event.getAggregateId())
+                .addKeyValue("attempt", event.getAttempts() + 1)
+                .setCause(failure)
+                .log("Outbox delivery failed, later events of the aggregate wait for the retry or re-drive");
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = outboxProperties.initialBackoff().multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(outboxProperties.maxBackoff()) > 0 ? outboxProperties.maxBackoff() : backoff;
+    }
+
+    private OutboxEvent event(OutboxEventType type, String aggregateType, UUID aggregateId, Object payload) {
+        LocalDateTime now = LocalDateTime.now();
+        return OutboxEvent.builder()
+                .eventType(type)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .payload(outboxPayloadMapper.write(payload))
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    private Counter counter(String name, String description, OutboxEvent event) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("type", event.getEventType().name())
+                .register(meterRegistry);
+    }
+}
@@ -1,10 +1,12 @@
 package com.petshop.api.service;
 
+import com.petshop.api.domain.search.AutocompleteIndex;
 import com.petshop.api.domain.validator.ValidatorEntities;
 import com.petshop.api.dto.request.CreateProductDto;
 import com.petshop.api.dto.update.UpdateProductDto;
 import com.petshop.api.dto.response.ProductResponseDto;
 import com.petshop.api.exception.BusinessException;
+import com.petshop.api.exception.ResourceNotFoundException;
 import com.petshop.api.model.entities.Product;
 import com.petshop.api.model.mapper.ProductMapper;
 import com.petshop.api.repository.ProductCategoryRepository;
@@ -27,10 +29,12 @@ public class ProductService {
     private final ProductCategoryRepository productCategoryRepository;
     private final ProductMapper productMapper;
     private final ValidatorEntities validatorEntities;
+    private final AutocompleteIndex autocompleteIndex;
 
 
     public ProductResponseDto getProductById(UUID id) {
-        var product = validatorEntities.validate(id, productRepository, "Product");
+        var product = productRepository.findDetailById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
         return productMapper.toResponseDto(product);
     }
 
@@ -56,7 +60,9 @@ public class ProductService {
     public ProductResponseDto createProduct(CreateProductDto dto) {
         var product = productMapper.toEntity(dto);
         product.setCategory(validatorEntities.validate(dto.getCategoryId(), productCategoryRepository, "Product Category"));
-        return productMapper.toResponseDto(productRepository.save(product));
+        var savedProduct = productRepository.save(product);
+        autocompleteIndex.indexProduct(savedProduct);
+        return productMapper.toResponseDto(savedProduct);
     }
 
     @Transactional
@@ -64,7 +70,9 @@ public class ProductService {
         var product = validatorEntities.validate(id, productRepository, "Product");
         productMapper.updateProductFromDto(updateDto, product);
         product.setCategory(validatorEntities.validate(updateDto.getCategoryId(), productCategoryRepository, "Product Category"));
-        return productMapper.toResponseDto(productRepository.save(product));
+        var savedProduct = productRepository.save(product);
+        autocompleteIndex.indexProduct(savedProduct);
+        return productMapper.toResponseDto(savedProduct);
     }
 
     @Transactional
@@ -72,6 +80,7 @@ public class ProductService {
         var product = validatorEntities.validate(id, productRepository, "Product");
         canDelete(product);
         productRepository.delete(product);
+        autocompleteIndex.remove(id);
     }
 
     private void canDelete(Product product) {
@@ -0,0 +1,51 @@
+package com.petshop.api.service;
+
+import com.petshop.api.dto.response.CacheRegionStatsDto;
+import com.petshop.api.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ReferenceCacheService {
+
+    public static final List<String> REGIONS = List.of(
+            "productCategory",
+            "veterinarianCategory",
+            "monetaryType",
+            "veterinarian"
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatsDto> getRegionStats() {
+        return REGIONS.stream()
+                .map(this::toStats)
+                .toList();
+    }
+
+    public void evictRegion(String region) {
+        if (!REGIONS.contains(region)) {
+            throw new ResourceNotFoundException("Cache region not found");
+        }
+        sessionFactory().getCache().evictRegion(region);
+    }
+
+    private CacheRegionStatsDto toStats(String region) {
+        CacheRegionStatistics statistics = sessionFactory().getStatistics().getCacheRegionStatistics(region);
+        if (statistics == null) {
+            return new CacheRegionStatsDto(region, 0, 0, 0, 0);
+        }
+        return new CacheRegionStatsDto(region, statistics.getHitCount(), statistics.getMissCount(),
+                statistics.getPutCount(), Math.max(statistics.getElementCountInMemory(), 0));
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,287 @@
+package com.petshop.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.petshop.api.domain.financial.FinancialInstallmentGenerator;
+import com.petshop.api.domain.outbox.SaleCreatedEvent;
+import com.petshop.api.domain.sale.SaleGenerator;
+import com.petshop.api.dto.request.CreateProductSaleDto;
+import com.petshop.api.dto.request.ImportSaleDto;
+import com.petshop.api.dto.response.SaleImportFailureDto;
+import com.petshop.api.dto.response.SaleImportResultDto;
+import com.petshop.api.metrics.SqlRequestContext;
+import com.petshop.api.model.entities.*;
+import com.petshop.api.model.enums.OutboxEventType;
+import com.petshop.api.model.enums.SaleStatus;
+import com.petshop.api.repository.ClientRepository;
+import com.petshop.api.repository.FinancialRepository;
+import com.petshop.api.repository.SaleRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class SaleImportService {
+
+    private final SaleRepository saleRepository;
+    private final ClientRepository clientRepository;
+    private final FinancialRepository financialRepository;
+    private final StockMovementService stockMovementService;
+    private final SalesReportService salesReportService;
+    private final OutboxService outboxService;
+    private final SaleGenerator saleGenerator;
+    private final FinancialInstallmentGenerator installmentGenerator;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ObjectReader saleReader;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public SaleImportService(SaleRepository saleRepository,
+                             ClientRepository clientRepository,
+                             FinancialRepository financialRepository,
+                             StockMovementService stockMovementService,
+                             SalesReportService salesReportService,
+                             OutboxService outboxService,
+                             SaleGenerator saleGenerator,
+                             FinancialInstallmentGenerator installmentGenerator,
+                             Validator validator,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${application.sale-import.chunk-size:500}") int chunkSize) {
+        this.saleRepository = saleRepository;
+        this.clientRepository = clientRepository;
+        this.financialRepository = financialRepository;
+        this.stockMovementService = stockMovementService;
+        this.salesReportService = salesReportService;
+        this.outboxService = outboxService;
+        this.saleGenerator = saleGenerator;
+        this.installmentGenerator = installmentGenerator;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.saleReader = objectMapper.readerFor(ImportSaleDto.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public SaleImportResultDto importSales(InputStream body) throws IOException {
+        List<SaleImportFailureDto> failures = new ArrayList<>();
+        List<IndexedSale> chunk = new ArrayList<>(chunkSize);
+        int received = 0;
+        int imported = 0;
+        try (MappingIterator<ImportSaleDto> sales = saleReader.readValues(body)) {
+            while (hasNext(sales, received, failures)) {
+                int index = received++;
+                try {
+                    chunk.add(new IndexedSale(index, sales.nextValue()));
+                } catch (JsonMappingException e) {
+                    failures.add(new SaleImportFailureDto(index, null, "Invalid sale payload: " + e.getOriginalMessage()));
+                    continue;
+                } catch (JsonProcessingException e) {
+                    failures.add(new SaleImportFailureDto(index, null, "Malformed sale payload: " + e.getOriginalMessage()));
+                    break;
+                }
+                if (chunk.size() == chunkSize) {
+                    imported += importChunk(chunk, failures);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += importChunk(chunk, failures);
+        }
+        failures.sort(Comparator.comparingInt(SaleImportFailureDto::getIndex));
+        return new SaleImportResultDto(received, imported, failures.size(), failures);
+    }
+
+    private boolean hasNext(MappingIterator<ImportSaleDto> sales, int index, List<SaleImportFailureDto> failures) {
+        try {
+            return sales.hasNextValue();
+        } catch (JsonProcessingException e) {
+            failures.add(new SaleImportFailureDto(index, null, "Malformed sale payload: " + e.getOriginalMessage()));
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int importChunk(List<IndexedSale> chunk, List<SaleImportFailureDto> failures) {
+        List<SaleImportFailureDto> chunkFailures = new ArrayList<>();
+        SqlRequestContext.addBudgetUnits(chunk.size());
+        try {
+            Integer imported = transactionTemplate.execute(status -> persistChunk(chunk, chunkFailures));
+            failures.addAll(chunkFailures);
+            return imported != null ? imported : 0;
+        } catch (RuntimeException e) {
+            log.warn("Sale import chunk starting at index {} was rolled back, importing its sales one by one: {}",
+                    chunk.get(0).index(), e.getMessage());
+            entityManager.clear();
+            return chunk.stream().mapToInt(sale -> importSale(sale, failures)).sum();
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private int importSale(IndexedSale sale, List<SaleImportFailureDto> failures) {
+        List<SaleImportFailureDto> saleFailures = new ArrayList<>();
+        SqlRequestContext.addBudgetUnits(1);
+        try {
+            Integer imported = transactionTemplate.execute(status -> persistChunk(List.of(sale), saleFailures));
+            failures.addAll(saleFailures);
+            return imported != null ? imported : 0;
+        } catch (RuntimeException e) {
+            failures.add(failure(sale, "Sale rolled back: " + e.getMessage()));
+            return 0;
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private int persistChunk(List<IndexedSale> chunk, List<SaleImportFailureDto> failures) {
+        List<IndexedSale> valid = chunk.stream()
+                .filter(sale -> isValid(sale, failures))
+                .toList();
+        Map<UUID, Client> clients = clientRepository.findAllById(valid.stream()
+                        .map(sale -> sale.dto().getClientId())
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Client::getId, Function.identity()));
+        Map<UUID, Product> products = stockMovementService.lockExistingProducts(valid.stream()
+                .flatMap(sale -> sale.dto().getProductSales().stream())
+                .map(CreateProductSaleDto::getProductId)
+                .toList());
+        Map<UUID, Integer> available = stockMovementService.availableStock(products.values());
+        Set<String> externalIds = existingExternalIds(valid);
+
+        List<Sale> sales = new ArrayList<>();
+        Map<Sale, ImportSaleDto> dtos = new IdentityHashMap<>();
+        for (IndexedSale indexed : valid) {
+            ImportSaleDto dto = indexed.dto();
+            if (dto.getExternalId() != null && !externalIds.add(dto.getExternalId())) {
+                failures.add(failure(indexed, "Sale already imported"));
+                continue;
+            }
+            Client client = clients.get(dto.getClientId());
+            if (client == null) {
+                failures.add(failure(indexed, "Client not found"));
+                continue;
+            }
+            String stockProblem = reserveStock(dto, products, available);
+            if (stockProblem != null) {
+                failures.add(failure(indexed, stockProblem));
+                continue;
+            }
+            Sale sale = buildSale(dto, client, products);
+            sales.add(sale);
+            dtos.put(sale, dto);
+        }
+        if (sales.isEmpty()) {
+            return 0;
+        }
+
+        saleRepository.saveAll(sales);
+        stockMovementService.registerOutputs(sales.stream()
+                .flatMap(sale -> sale.getProductSales().stream()
+                        .map(item -> StockMovement.builder()
+                                .product(item.getProduct())
+                                .quantity(item.getQuantity())
+                                .description("SALE_ORDER_" + sale.getId())
+                                .price(item.getUnitPrice())
+                                .sale(sale)
+                                .build()))
+                .toList());
+        financialRepository.saveAll(sales.stream()
+                .flatMap(sale -> installmentGenerator.generateInstallmentsFromSale(sale,
+                        dtos.get(sale).getInstallments(),
+                        dtos.get(sale).getIntervalDays(),
+                        sale.getSaleDate().toLocalDate()).stream())
+                .toList());
+        salesReportService.recordSales(sales);
+        outboxService.appendAll(OutboxEventType.SALE_CREATED, "Sale", sales.stream()
+                .collect(Collectors.toMap(Sale::getId, sale -> new SaleCreatedEvent(sale.getId(), sale.getClient().getId(),
+                        sale.getSaleDate(), sale.getTotalValue(), true), (first, second) -> first, LinkedHashMap::new)));
+        return sales.size();
+    }
+
+    private Set<String> existingExternalIds(List<IndexedSale> sales) {
+        Set<String> externalIds = sales.stream()
+                .map(sale -> sale.dto().getExternalId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return externalIds.isEmpty() ? new HashSet<>() : new HashSet<>(saleRepository.findExistingExternalIds(externalIds));
+    }
+
+    private boolean isValid(IndexedSale sale, List<SaleImportFailureDto> failures) {
+        Set<ConstraintViolation<ImportSaleDto>> violations = validator.validate(sale.dto());
+        if (violations.isEmpty()) {
+            return true;
+        }
+        failures.add(failure(sale, violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "))));
+        return false;
+    }
+
+    private String reserveStock(ImportSaleDto dto, Map<UUID, Product> products, Map<UUID, Integer> available) {
+        Map<UUID, Integer> requested = dto.getProductSales().stream()
+                .collect(Collectors.groupingBy(CreateProductSaleDto::getProductId, Collectors.summingInt(CreateProductSaleDto::getQuantity)));
+        for (Map.Entry<UUID, Integer> entry : requested.entrySet()) {
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                return "Product not found: " + entry.getKey();
+            }
+            if (available.get(entry.getKey()) < entry.getValue()) {
+                return "Not enough stock for product %s. Requested: %s, Available: %s"
+                        .formatted(product.getName(), entry.getValue(), available.get(entry.getKey()));
+            }
+        }
+        requested.forEach((productId, quantity) -> available.merge(productId, -quantity, Integer::sum));
+        return null;
+    }
+
+    private Sale buildSale(ImportSaleDto dto, Client client, Map<UUID, Product> products) {
+        Sale sale = new Sale();
+        sale.setClient(client);
+        sale.setStatus(SaleStatus.COMPLETED);
+        sale.setPaymentType(dto.getPaymentType());
+        sale.setNotes(dto.getNotes());
+        sale.setExternalId(dto.getExternalId());
+        sale.setSaleDate(dto.getSaleDate());
+        sale.setTotalValue(saleGenerator.calculateSaleTotal(dto));
+        dto.getProductSales().forEach(item -> sale.getProductSales().add(ProductSale.builder()
+                .product(products.get(item.getProductId()))
+                .quantity(item.getQuantity())
+                .unitPrice(item.getPrice())
+                .sale(sale)
+                .build()));
+        if (sale.getSaleDate() == null) {
+            sale.setSaleDate(LocalDateTime.now());
+        }
+        return sale;
+    }
+
+    private SaleImportFailureDto failure(IndexedSale sale, String message) {
+        return new SaleImportFailureDto(sale.index(), sale.dto().getExternalId(), message);
+    }
+
+    private record IndexedSale(int index, ImportSaleDto dto) {
+    }
+}
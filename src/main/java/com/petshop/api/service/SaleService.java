@@ -1,12 +1,20 @@
 package com.petshop.api.service;
 
 
+import com.petshop.api.domain.outbox.SaleCanceledEvent;
+import com.petshop.api.domain.outbox.SaleCreatedEvent;
+import com.petshop.api.domain.pagination.KeysetCursor;
+import com.petshop.api.domain.pagination.KeysetPage;
 import com.petshop.api.domain.sale.SaleCancel;
 import com.petshop.api.domain.sale.SaleGenerator;
+import com.petshop.api.domain.stock.RetryOnStockConflict;
 import com.petshop.api.domain.validator.ValidatorEntities;
 import com.petshop.api.dto.request.CreateSaleDto;
+import com.petshop.api.dto.response.CursorPageResponseDto;
 import com.petshop.api.dto.response.SaleResponseDto;
+import com.petshop.api.exception.ResourceNotFoundException;
 import com.petshop.api.model.entities.*;
+import com.petshop.api.model.enums.OutboxEventType;
 import com.petshop.api.model.enums.SaleStatus;
 import com.petshop.api.model.mapper.SaleMapper;
 import com.petshop.api.repository.ClientRepository;
@@ -17,6 +25,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 
@@ -32,24 +41,43 @@ public class SaleService {
     private final SaleGenerator saleGenerator;
     private final ValidatorEntities validatorEntities;
     private final SaleCancel saleCancel;
+    private final OutboxService outboxService;
 
 
+    @Transactional(readOnly = true)
     public Page<SaleResponseDto> getSaleByClientNameContainingIgnoreCase(String name, Pageable pageable){
-        return saleRepository.findByClientNameContainingIgnoreCase(name,pageable)
-                .map(saleMapper::toResponseDto);
+        return toResponsePage(saleRepository.findByClientNameContainingIgnoreCase(name,pageable));
     }
 
+    @Transactional(readOnly = true)
     public Page<SaleResponseDto> getAllSales(Pageable pageable) {
-        return saleRepository.findAll(pageable)
-                .map(saleMapper::toResponseDto);
+        return toResponsePage(saleRepository.findAll(pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<SaleResponseDto> scrollSales(String cursor, Integer size) {
+        int pageSize = KeysetPage.size(size);
+        List<Sale> sales;
+        if (cursor == null || cursor.isBlank()) {
+            sales = saleRepository.findFirstKeysetPage(KeysetPage.fetchLimit(pageSize));
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            sales = saleRepository.findKeysetPageAfter(position.keyAsDateTime(), position.id(), KeysetPage.fetchLimit(pageSize));
+        }
+        List<Sale> page = KeysetPage.trim(sales, pageSize);
+        if (!page.isEmpty()) {
+            saleRepository.findAllWithProductSalesByIdIn(page.stream().map(Sale::getId).toList());
+        }
+        return KeysetPage.toResponse(sales, pageSize, Sale::getSaleDate, Sale::getId, saleMapper::toResponseDto);
     }
 
     public SaleResponseDto getSaleById(UUID id) {
-        var sale = validatorEntities.validate(id, saleRepository, "Sale");
+        var sale = findSaleDetail(id);
         return saleMapper.toResponseDto(sale);
 
     }
 
+    @RetryOnStockConflict
     @Transactional
     public SaleResponseDto createSale(CreateSaleDto dto) {
         Sale newSale = new Sale();
@@ -57,10 +85,7 @@ public class SaleService {
         newSale.setStatus(SaleStatus.COMPLETED);
         newSale.setPaymentType(dto.getPaymentType());
         newSale.setNotes(dto.getNotes());
-        dto.getProductSales().forEach(item -> {
-            var productSale = saleGenerator.generateProductSale(item, newSale);
-            newSale.getProductSales().add(productSale);
-        });
+        newSale.getProductSales().addAll(saleGenerator.generateProductSales(dto, newSale));
         BigDecimal totalValue = saleGenerator.calculateSaleTotal(dto);
         newSale.setTotalValue(totalValue);
         var savedSale = saleRepository.save(newSale);
@@ -70,31 +95,46 @@ public class SaleService {
                 dto.getInstallments(),
                 dto.getIntervalDays()
         );
+        outboxService.append(OutboxEventType.SALE_CREATED, "Sale", savedSale.getId(), new SaleCreatedEvent(savedSale.getId(),
+                savedSale.getClient().getId(), savedSale.getSaleDate(), savedSale.getTotalValue(), false));
         return saleMapper.toResponseDto(savedSale);
     }
 
     @Transactional
     public SaleResponseDto cancelSale(UUID id) {
-        var sale = validatorEntities.validate(id, saleRepository, "Sale");
+        var sale = findSaleDetail(id);
         saleCancel.cancel(sale);
         returnItemsToStock(sale);
         var canceledSale = saleRepository.save(sale);
+        outboxService.append(OutboxEventType.SALE_CANCELED, "Sale", canceledSale.getId(), new SaleCanceledEvent(canceledSale.getId(),
+                canceledSale.getClient().getId(), canceledSale.getTotalValue()));
         return saleMapper.toResponseDto(canceledSale);
     }
 
+    private Sale findSaleDetail(UUID id){
+        return saleRepository.findDetailById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Sale not found"));
+    }
+
+    private Page<SaleResponseDto> toResponsePage(Page<Sale> sales){
+        if (sales.hasContent()) {
+            saleRepository.findAllWithProductSalesByIdIn(sales.map(Sale::getId).getContent());
+        }
+        return sales.map(saleMapper::toResponseDto);
+    }
+
     private void returnItemsToStock(Sale sale){
-        sale.getProductSales().forEach(productSold -> {
-            String description = "CANCELLATION_OF_SALE_ORDER_" + sale.getId();
-
-            stockMovementService.registerInput(
-                    productSold.getProduct(),
-                    productSold.getQuantity(),
-                    description,
-                    null,
-                    productSold.getUnitPrice(),
-                    sale
-            );
-        });
+        String description = "CANCELLATION_OF_SALE_ORDER_" + sale.getId();
+        List<StockMovement> movements = sale.getProductSales().stream()
+                .map(productSold -> StockMovement.builder()
+                        .product(productSold.getProduct())
+                        .quantity(productSold.getQuantity())
+                        .description(description)
+                        .price(productSold.getUnitPrice())
+                        .sale(sale)
+                        .build())
+                .toList();
+        stockMovementService.registerInputs(movements);
     }
 }
 
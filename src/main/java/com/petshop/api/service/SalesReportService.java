@@ -0,0 +1,106 @@
+package com.petshop.api.service;
+
+import com.petshop.api.domain.report.SalesRollupCalculator;
+import com.petshop.api.dto.response.SalesRollupResponseDto;
+import com.petshop.api.exception.BusinessException;
+import com.petshop.api.model.entities.Sale;
+import com.petshop.api.model.enums.RollupDimension;
+import com.petshop.api.model.enums.RollupPeriod;
+import com.petshop.api.model.mapper.SalesRollupMapper;
+import com.petshop.api.repository.SaleRepository;
+import com.petshop.api.repository.SalesRollupEntryRepository;
+import com.petshop.api.repository.SalesRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class SalesReportService {
+
+    private static final long MAX_DAILY_RANGE_DAYS = 366;
+    private static final long MAX_MONTHLY_RANGE_MONTHS = 60;
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final SalesRollupEntryRepository salesRollupEntryRepository;
+    private final SaleRepository saleRepository;
+    private final SalesRollupCalculator salesRollupCalculator;
+    private final SalesRollupMapper salesRollupMapper;
+
+    @Transactional
+    public void recordSale(Sale sale) {
+        if (salesRollupEntryRepository.claim(sale.getId())) {
+            salesRollupRepository.applyDeltas(salesRollupCalculator.deltasForSale(sale));
+        }
+    }
+
+    @Transactional
+    public void recordSales(List<Sale> sales) {
+        salesRollupEntryRepository.claimAll(sales.stream().map(Sale::getId).toList());
+        salesRollupRepository.applyDeltas(salesRollupCalculator.deltasForSales(sales));
+    }
+
+    @Transactional
+    public void revertSale(Sale sale) {
+        if (salesRollupEntryRepository.release(sale.getId()) > 0) {
+            salesRollupRepository.applyDeltas(salesRollupCalculator.deltasForCancellation(sale));
+        }
+    }
+
+    @Transactional
+    public boolean resetUntrackedRollups() {
+        salesRollupEntryRepository.lockEntries();
+        if (salesRollupEntryRepository.count() > 0 || salesRollupRepository.count() == 0) {
+            return false;
+        }
+        salesRollupRepository.deleteAllInBatch();
+        return true;
+    }
+
+    @Transactional
+    public int backfill(int batchSize) {
+        List<UUID> saleIds = salesRollupEntryRepository.findUnrecordedSaleIds(batchSize);
+        if (saleIds.isEmpty()) {
+            return 0;
+        }
+        List<Sale> sales = saleRepository.findAllWithProductSalesByIdIn(saleIds).stream()
+                .filter(sale -> salesRollupEntryRepository.claim(sale.getId()))
+                .toList();
+        salesRollupRepository.applyDeltas(salesRollupCalculator.deltasForSales(sales));
+        return saleIds.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesRollupResponseDto> getRollups(RollupPeriod period, RollupDimension dimension,
+                                                   LocalDate from, LocalDate to, String key) {
+        LocalDate end = period.start(to != null ? to : LocalDate.now());
+        LocalDate start = from != null ? period.start(from)
+                : period == RollupPeriod.DAILY ? end.minusDays(30) : end.minusMonths(11);
+        validateRange(period, start, end);
+        var rollups = key == null || key.isBlank()
+                ? salesRollupRepository.findByPeriodAndDimensionAndPeriodStartBetweenOrderByPeriodStartAscRevenueDesc(
+                        period, dimension, start, end)
+                : salesRollupRepository.findByPeriodAndDimensionAndDimensionKeyAndPeriodStartBetweenOrderByPeriodStartAsc(
+                        period, dimension, key, start, end);
+        return rollups.stream()
+                .map(salesRollupMapper::toResponseDto)
+                .toList();
+    }
+
+    private void validateRange(RollupPeriod period, LocalDate start, LocalDate end) {
+        if (start.isAfter(end)) {
+            throw new BusinessException("The report start date must be before the end date.");
+        }
+        if (period == RollupPeriod.DAILY && ChronoUnit.DAYS.between(start, end) > MAX_DAILY_RANGE_DAYS) {
+            throw new BusinessException("Daily reports are limited to " + MAX_DAILY_RANGE_DAYS + " days.");
+        }
+        if (period == RollupPeriod.MONTHLY && ChronoUnit.MONTHS.between(start, end) > MAX_MONTHLY_RANGE_MONTHS) {
+            throw new BusinessException("Monthly reports are limited to " + MAX_MONTHLY_RANGE_MONTHS + " months.");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.petshop.api.service;
+
+import com.petshop.api.domain.search.AutocompleteIndex;
+import com.petshop.api.dto.response.AutocompleteResultDto;
+import com.petshop.api.dto.response.SearchResultDto;
+import com.petshop.api.model.enums.SearchTarget;
+import com.petshop.api.repository.NameSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+    private final NameSearchRepository nameSearchRepository;
+    private final AutocompleteIndex autocompleteIndex;
+
+    @Transactional(readOnly = true)
+    public List<SearchResultDto> search(String term, Set<SearchTarget> types, Integer limit) {
+        if (term == null || term.isBlank()) {
+            return List.of();
+        }
+        int maxResults = maxResults(limit);
+        Set<SearchTarget> targets = types == null || types.isEmpty() ? EnumSet.allOf(SearchTarget.class) : types;
+        return targets.stream()
+                .flatMap(target -> nameSearchRepository.search(target, term, maxResults).stream())
+                .sorted(Comparator.comparingDouble(SearchResultDto::getScore).reversed()
+                        .thenComparing(SearchResultDto::getName))
+                .limit(maxResults)
+                .toList();
+    }
+
+    public List<AutocompleteResultDto> autocomplete(String prefix, Set<SearchTarget> types, Integer limit) {
+        Set<SearchTarget> targets = types == null || types.isEmpty() ? EnumSet.allOf(SearchTarget.class) : types;
+        return autocompleteIndex.lookup(prefix, targets, maxResults(limit));
+    }
+
+    private int maxResults(Integer limit) {
+        return limit == null || limit < 1 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    }
+}
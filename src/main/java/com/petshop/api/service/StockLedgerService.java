@@ -0,0 +1,149 @@
+package com.petshop.api.service;
+
+import com.petshop.api.domain.stock.StockMode;
+import com.petshop.api.domain.stock.StockProperties;
+import com.petshop.api.dto.response.StockBalanceResponseDto;
+import com.petshop.api.dto.response.StockLedgerMismatchDto;
+import com.petshop.api.dto.response.StockReconciliationResponseDto;
+import com.petshop.api.exception.BusinessException;
+import com.petshop.api.model.generator.UuidV7Generator;
+import com.petshop.api.repository.StockSnapshotRepository;
+import com.petshop.api.repository.projection.LedgerBalance;
+import com.petshop.api.repository.projection.LedgerMismatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
+@Service
+public class StockLedgerService {
+
+    private static final UUID FIRST_PRODUCT_ID = new UUID(0L, 0L);
+
+    private final StockSnapshotRepository stockSnapshotRepository;
+    private final StockProperties stockProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter mismatchCounter;
+
+    public StockLedgerService(StockSnapshotRepository stockSnapshotRepository, StockProperties stockProperties,
+                              PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.stockSnapshotRepository = stockSnapshotRepository;
+        this.stockProperties = stockProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mismatchCounter = Counter.builder("petshop.stock.ledger.mismatches")
+                .description("Stock snapshots corrected because they disagreed with the movement ledger")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return stockProperties.mode() == StockMode.LEDGER;
+    }
+
+    @Transactional
+    public void ensureSnapshots(Collection<UUID> productIds) {
+        Set<UUID> ids = new TreeSet<>(productIds);
+        if (!ids.isEmpty() && stockSnapshotRepository.countByProductIdIn(ids) < ids.size()) {
+            stockSnapshotRepository.openMissingSnapshots(ids, UuidV7Generator.nextId(), LocalDateTime.now());
+        }
+    }
+
+    @Transactional
+    public void lockSnapshots(Collection<UUID> productIds) {
+        Set<UUID> ids = new TreeSet<>(productIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        this.ensureSnapshots(ids);
+        stockSnapshotRepository.findAllWithLockByProductIdIn(ids);
+    }
+
+    @Transactional
+    public Map<UUID, Integer> availableStock(Collection<UUID> productIds) {
+        Map<UUID, Integer> available = new HashMap<>();
+        stockSnapshotRepository.findBalances(productIds)
+                .forEach(balance -> available.put(balance.getProductId(), available(balance)));
+        return available;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<StockBalanceResponseDto> findBalance(UUID productId) {
+        return stockSnapshotRepository.findBalances(List.of(productId)).stream()
+                .findFirst()
+                .map(balance -> new StockBalanceResponseDto(balance.getProductId(), balance.getSnapshotQuantity(),
+                        balance.getLedgerDelta(), available(balance), balance.getTakenAt()));
+    }
+
+    public void takeSnapshots() {
+        LocalDateTime takenAt = LocalDateTime.now();
+        Integer opened = transactionTemplate.execute(status ->
+                stockSnapshotRepository.openMissingSnapshots(null, UuidV7Generator.nextId(), takenAt));
+        UUID watermark = UuidV7Generator.lowerBound(System.currentTimeMillis() - stockProperties.ledger().snapshotLag().toMillis());
+        int batchSize = stockProperties.ledger().snapshotBatchSize();
+        int advanced = 0;
+        int refreshed = 0;
+        UUID after = FIRST_PRODUCT_ID;
+        SnapshotBatch batch;
+        do {
+            UUID from = after;
+            batch = transactionTemplate.execute(status -> advanceBatch(from, batchSize, watermark, takenAt));
+            if (batch == null) {
+                break;
+            }
+            advanced += batch.advanced();
+            refreshed += batch.refreshed();
+            after = batch.upTo();
+        } while (batch.size() == batchSize);
+        log.info("Stock snapshots taken: {} opened, {} advanced, {} product counters refreshed", opened, advanced, refreshed);
+    }
+
+    @Transactional
+    public StockReconciliationResponseDto reconcile() {
+        if (!isEnabled()) {
+            throw new BusinessException("Stock ledger mode is not enabled");
+        }
+        List<UUID> candidates = stockSnapshotRepository.findLedgerMismatches().stream()
+                .map(LedgerMismatch::getProductId)
+                .toList();
+        List<StockLedgerMismatchDto> mismatches = new ArrayList<>();
+        if (!candidates.isEmpty()) {
+            stockSnapshotRepository.findAllWithLockByProductIdIn(candidates);
+            for (LedgerMismatch mismatch : stockSnapshotRepository.findLedgerMismatches(candidates)) {
+                log.atWarn()
+                        .addKeyValue("productId", mismatch.getProductId())
+                        .addKeyValue("snapshotQuantity", mismatch.getSnapshotQuantity())
+                        .addKeyValue("ledgerQuantity", mismatch.getLedgerQuantity())
+                        .log("Stock snapshot disagrees with the movement ledger, correcting it");
+                stockSnapshotRepository.correctQuantity(mismatch.getProductId(), Math.toIntExact(mismatch.getLedgerQuantity()));
+                mismatches.add(new StockLedgerMismatchDto(mismatch.getProductId(), mismatch.getSnapshotQuantity(),
+                        mismatch.getLedgerQuantity()));
+            }
+            mismatchCounter.increment(mismatches.size());
+        }
+        return new StockReconciliationResponseDto(LocalDateTime.now(), stockSnapshotRepository.count(), mismatches);
+    }
+
+    private SnapshotBatch advanceBatch(UUID after, int batchSize, UUID watermark, LocalDateTime takenAt) {
+        List<UUID> productIds = stockSnapshotRepository.lockSnapshotRange(after, batchSize);
+        if (productIds.isEmpty()) {
+            return null;
+        }
+        UUID upTo = productIds.getLast();
+        return new SnapshotBatch(productIds.size(), upTo,
+                stockSnapshotRepository.advanceSnapshots(after, upTo, watermark, takenAt),
+                stockSnapshotRepository.refreshProductCounters(after, upTo));
+    }
+
+    private int available(LedgerBalance balance) {
+        return Math.toIntExact(balance.getSnapshotQuantity() + balance.getLedgerDelta());
+    }
+
+    private record SnapshotBatch(int size, UUID upTo, int advanced, int refreshed) {
+    }
+}
@@ -1,13 +1,25 @@
 package com.petshop.api.service;
 
+import com.petshop.api.domain.outbox.StockChangedEvent;
+import com.petshop.api.domain.pagination.KeysetCursor;
+import com.petshop.api.domain.pagination.KeysetPage;
+import com.petshop.api.domain.stock.RetryOnStockConflict;
 import com.petshop.api.domain.validator.ValidatorEntities;
 import com.petshop.api.dto.request.CreateStockMovementDto;
+import com.petshop.api.dto.request.CreateStockReceiptDto;
+import com.petshop.api.dto.request.CreateStockReceiptItemDto;
+import com.petshop.api.dto.response.CursorPageResponseDto;
+import com.petshop.api.dto.response.StockBalanceResponseDto;
+import com.petshop.api.dto.response.StockMovementResponseDto;
+import com.petshop.api.dto.response.StockReceiptResponseDto;
 import com.petshop.api.exception.InsufficientStockException;
 import com.petshop.api.exception.ResourceNotFoundException;
 import com.petshop.api.model.entities.Product;
 import com.petshop.api.model.entities.Sale;
 import com.petshop.api.model.entities.StockMovement;
+import com.petshop.api.model.enums.OutboxEventType;
 import com.petshop.api.model.enums.TypeMovement;
+import com.petshop.api.model.mapper.StockMovementMapper;
 import com.petshop.api.repository.ProductRepository;
 import com.petshop.api.repository.StockMovementRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +27,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -25,6 +39,37 @@ public class StockMovementService {
     private final StockMovementRepository stockMovementRepository;
     private final ProductRepository productRepository;
     private final ValidatorEntities validatorEntities;
+    private final StockMovementMapper stockMovementMapper;
+    private final StockLedgerService stockLedgerService;
+    private final StockReservationService stockReservationService;
+    private final OptimisticStockService optimisticStockService;
+    private final OutboxService outboxService;
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<StockMovementResponseDto> getHistory(UUID productId, String cursor, Integer size){
+        int pageSize = KeysetPage.size(size);
+        List<StockMovement> movements;
+        if (cursor == null || cursor.isBlank()) {
+            movements = stockMovementRepository.findFirstKeysetPage(productId, KeysetPage.fetchLimit(pageSize));
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            movements = stockMovementRepository.findKeysetPageAfter(productId, position.keyAsDateTime(), position.id(),
+                    KeysetPage.fetchLimit(pageSize));
+        }
+        return KeysetPage.toResponse(movements, pageSize, StockMovement::getDateMovement, StockMovement::getId,
+                stockMovementMapper::toResponseDto);
+    }
+
+    @Transactional(readOnly = true)
+    public StockBalanceResponseDto getBalance(UUID productId){
+        Optional<StockBalanceResponseDto> ledgerBalance = stockLedgerService.isEnabled()
+                ? stockLedgerService.findBalance(productId)
+                : Optional.empty();
+        return ledgerBalance.orElseGet(() -> {
+            Product product = validatorEntities.validate(productId, productRepository, "Product");
+            return new StockBalanceResponseDto(productId, product.getQuantityInStock(), 0, product.getQuantityInStock(), null);
+        });
+    }
 
     @Transactional
     public void registerInput(Product product, Integer quantity, String description, String invoice, BigDecimal price, Sale sale){
@@ -42,15 +87,50 @@ public class StockMovementService {
                 .type(TypeMovement.INPUT)
                 .build();
         stockMovementRepository.save(stockMovement);
+        this.publishStockChanged(Map.of(productSaved.getId(), quantity), TypeMovement.INPUT);
     }
 
+    @RetryOnStockConflict
     @Transactional
     public void registerInput(UUID id, CreateStockMovementDto dto){
+        if (!this.locksProductRows()) {
+            Product product = this.findProductsForInput(List.of(id)).get(id);
+            this.registerInputs(List.of(StockMovement.builder()
+                    .product(product)
+                    .quantity(dto.getQuantity())
+                    .description(dto.getDescription())
+                    .invoice(dto.getInvoice())
+                    .price(dto.getPrice())
+                    .build()));
+            return;
+        }
         var product = productRepository.findWithLockById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
         this.registerInput(product, dto.getQuantity(), dto.getDescription(), dto.getInvoice(), dto.getPrice(), null);
     }
 
+    @RetryOnStockConflict
+    @Transactional
+    public StockReceiptResponseDto registerReceipt(CreateStockReceiptDto dto){
+        Map<UUID, Product> products = this.findProductsForInput(dto.getItems().stream()
+                .map(CreateStockReceiptItemDto::getProductId)
+                .toList());
+
+        List<StockMovement> movements = dto.getItems().stream()
+                .map(item -> StockMovement.builder()
+                        .product(products.get(item.getProductId()))
+                        .quantity(item.getQuantity())
+                        .description(item.getDescription() != null ? item.getDescription() : dto.getDescription())
+                        .invoice(dto.getInvoice())
+                        .price(item.getPrice())
+                        .build())
+                .toList();
+        this.registerInputs(movements);
+
+        long totalQuantity = movements.stream().mapToLong(StockMovement::getQuantity).sum();
+        return new StockReceiptResponseDto(dto.getInvoice(), products.size(), movements.size(), totalQuantity);
+    }
+
     @Transactional
     public void registerOutput(Product product, Integer quantity, String description, BigDecimal price, Sale sale){
         var productSaved = validatorEntities.validate(product.getId(), productRepository, "Product");
@@ -70,12 +150,149 @@ public class StockMovementService {
                 .type(TypeMovement.OUTPUT)
                 .build();
         stockMovementRepository.save(stockMovement);
+        this.publishStockChanged(Map.of(productSaved.getId(), quantity), TypeMovement.OUTPUT);
     }
 
+    @RetryOnStockConflict
     @Transactional
     public void registerOutput( UUID id, CreateStockMovementDto dto){
+        if (!this.locksProductRows()) {
+            Product product = this.lockProducts(List.of(id)).get(id);
+            this.registerOutputs(List.of(StockMovement.builder()
+                    .product(product)
+                    .quantity(dto.getQuantity())
+                    .description(dto.getDescription())
+                    .price(dto.getPrice())
+                    .build()));
+            return;
+        }
         Product product = productRepository.findWithLockById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
         this.registerOutput(product, dto.getQuantity(), dto.getDescription(), dto.getPrice(), null);
     }
+
+    @Transactional
+    public Map<UUID, Product> lockProducts(Collection<UUID> productIds){
+        Set<UUID> distinctIds = new TreeSet<>(productIds);
+        Map<UUID, Product> products = this.lockExistingProducts(distinctIds);
+        if (products.size() != distinctIds.size()) {
+            throw new ResourceNotFoundException("Product not found");
+        }
+        return products;
+    }
+
+    @Transactional
+    public Map<UUID, Product> lockExistingProducts(Collection<UUID> productIds){
+        Set<UUID> distinctIds = new TreeSet<>(productIds);
+        if (this.locksProductRows()) {
+            return toMap(productRepository.findAllWithLockByIdIn(distinctIds));
+        }
+        Map<UUID, Product> products = toMap(productRepository.findAllById(distinctIds));
+        if (stockLedgerService.isEnabled()) {
+            stockLedgerService.ensureSnapshots(products.keySet());
+        }
+        return products;
+    }
+
+    @Transactional
+    public Map<UUID, Integer> availableStock(Collection<Product> products){
+        if (stockReservationService.isEnabled()) {
+            return stockReservationService.availableStock(products);
+        }
+        Map<UUID, Integer> available = new HashMap<>();
+        products.forEach(product -> available.put(product.getId(), product.getQuantityInStock()));
+        if (stockLedgerService.isEnabled()) {
+            available.putAll(stockLedgerService.availableStock(available.keySet()));
+        }
+        return available;
+    }
+
+    @Transactional
+    public void registerInputs(List<StockMovement> movements){
+        movements.forEach(movement -> movement.setType(TypeMovement.INPUT));
+        Map<UUID, Integer> quantities = sumQuantitiesByProduct(movements);
+        if (stockLedgerService.isEnabled()) {
+            stockLedgerService.ensureSnapshots(quantities.keySet());
+        } else {
+            productRepository.adjustStock(quantities);
+        }
+        stockMovementRepository.saveAll(movements);
+        this.publishStockChanged(quantities, TypeMovement.INPUT);
+        if (stockReservationService.isEnabled()) {
+            stockReservationService.recordInputs(quantities);
+        }
+    }
+
+    @Transactional
+    public void registerOutputs(List<StockMovement> movements){
+        if (stockReservationService.isEnabled()) {
+            movements.forEach(movement -> movement.setType(TypeMovement.OUTPUT));
+            stockReservationService.reserve(movements);
+            this.publishStockChanged(sumQuantitiesByProduct(movements), TypeMovement.OUTPUT);
+            return;
+        }
+        Map<UUID, Integer> requested = sumQuantitiesByProduct(movements);
+        Map<UUID, Product> products = movements.stream()
+                .map(StockMovement::getProduct)
+                .collect(Collectors.toMap(Product::getId, Function.identity(), (first, second) -> first));
+        movements.forEach(movement -> movement.setType(TypeMovement.OUTPUT));
+
+        if (stockLedgerService.isEnabled()) {
+            stockLedgerService.lockSnapshots(requested.keySet());
+        }
+        Map<UUID, Integer> available = this.availableStock(products.values());
+        requested.forEach((productId, quantity) -> requireStock(products.get(productId), quantity, available.get(productId)));
+        if (optimisticStockService.isEnabled()) {
+            optimisticStockService.decrement(requested, products);
+        } else if (!stockLedgerService.isEnabled()) {
+            Map<UUID, Integer> deltas = new TreeMap<>();
+            requested.forEach((productId, quantity) -> deltas.put(productId, -quantity));
+            productRepository.adjustStock(deltas);
+        }
+        stockMovementRepository.saveAll(movements);
+        this.publishStockChanged(requested, TypeMovement.OUTPUT);
+    }
+
+    private Map<UUID, Product> findProductsForInput(Collection<UUID> productIds){
+        if (this.locksProductRows()) {
+            return this.lockProducts(productIds);
+        }
+        Set<UUID> distinctIds = new TreeSet<>(productIds);
+        Map<UUID, Product> products = toMap(productRepository.findAllById(distinctIds));
+        if (products.size() != distinctIds.size()) {
+            throw new ResourceNotFoundException("Product not found");
+        }
+        return products;
+    }
+
+    private void requireStock(Product product, Integer quantity, Integer available){
+        if(available < quantity){
+            throw new InsufficientStockException("Not enough stock for product %s. Requested: %s, Available: %s"
+                    .formatted(product.getName(), quantity, available));
+        }
+    }
+
+    private void publishStockChanged(Map<UUID, Integer> quantities, TypeMovement type){
+        Map<UUID, StockChangedEvent> events = new TreeMap<>();
+        quantities.forEach((productId, quantity) -> events.put(productId, new StockChangedEvent(productId, type, quantity)));
+        outboxService.appendAll(OutboxEventType.STOCK_CHANGED, "Product", events);
+    }
+
+    private boolean locksProductRows(){
+        return !stockLedgerService.isEnabled() && !stockReservationService.isEnabled() && !optimisticStockService.isEnabled();
+    }
+
+    private Map<UUID, Product> toMap(List<Product> products){
+        return products.stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    private Map<UUID, Integer> sumQuantitiesByProduct(List<StockMovement> movements){
+        return movements.stream()
+                .collect(Collectors.groupingBy(
+                        movement -> movement.getProduct().getId(),
+                        TreeMap::new,
+                        Collectors.summingInt(StockMovement::getQuantity)
+                ));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,263 @@
+package com.petshop.api.service;
+
+import com.petshop.api.domain.stock.PendingStockMovement;
+import com.petshop.api.domain.stock.StockMode;
+import com.petshop.api.domain.stock.StockProperties;
+import com.petshop.api.domain.stock.StockReservationTable;
+import com.petshop.api.dto.response.StockReservationCheckResponseDto;
+import com.petshop.api.dto.response.StockReservationMismatchDto;
+import com.petshop.api.exception.BusinessException;
+import com.petshop.api.exception.InsufficientStockException;
+import com.petshop.api.model.entities.Product;
+import com.petshop.api.model.entities.Sale;
+import com.petshop.api.model.entities.StockMovement;
+import com.petshop.api.model.enums.TypeMovement;
+import com.petshop.api.model.generator.UuidV7Generator;
+import com.petshop.api.repository.ProductRepository;
+import com.petshop.api.repository.StockMovementRepository;
+import com.petshop.api.repository.projection.ProductQuantity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class StockReservationService {
+
+    private final ProductRepository productRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final EntityManager entityManager;
+    private final StockProperties stockProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final StockReservationTable table = new StockReservationTable();
+    private final Deque<PendingStockMovement> pending = new ConcurrentLinkedDeque<>();
+    private final Map<UUID, AtomicLong> unflushed = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> baselines = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final UUID loadWatermark = UuidV7Generator.nextId();
+    private final Counter rejected;
+
+    public StockReservationService(ProductRepository productRepository,
+                                   StockMovementRepository stockMovementRepository,
+                                   EntityManager entityManager,
+                                   StockProperties stockProperties,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.stockMovementRepository = stockMovementRepository;
+        this.entityManager = entityManager;
+        this.stockProperties = stockProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rejected = Counter.builder("petshop.stock.reservation.rejected")
+                .description("Stock outputs rejected by the in-memory reservation table")
+                .register(meterRegistry);
+        Gauge.builder("petshop.stock.reservation.pending", pending, Deque::size)
+                .description("Reserved stock outputs waiting to be written to the database")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return stockProperties.mode() == StockMode.RESERVATION;
+    }
+
+    public void load() {
+        List<ProductQuantity> levels = transactionTemplate.execute(status -> productRepository.findAllStockLevels());
+        levels.forEach(level -> {
+            long quantity = level.getQuantity() != null ? level.getQuantity() : 0;
+            if (baselines.putIfAbsent(level.getProductId(), quantity) == null) {
+                table.loadIfAbsent(level.getProductId(), quantity);
+            }
+        });
+        log.info("Stock reservation table loaded with {} products", levels.size());
+    }
+
+    public Map<UUID, Integer> availableStock(Collection<Product> products) {
+        Map<UUID, Integer> available = new HashMap<>();
+        products.forEach(product -> {
+            loadIfAbsent(product);
+            available.put(product.getId(), Math.toIntExact(table.available(product.getId())));
+        });
+        return available;
+    }
+
+    public void reserve(List<StockMovement> movements) {
+        Map<UUID, Integer> requested = new TreeMap<>();
+        Map<UUID, Product> products = new HashMap<>();
+        movements.forEach(movement -> {
+            requested.merge(movement.getProduct().getId(), movement.getQuantity(), Integer::sum);
+            products.putIfAbsent(movement.getProduct().getId(), movement.getProduct());
+        });
+        products.values().forEach(this::loadIfAbsent);
+
+        if (!table.tryReserve(requested)) {
+            rejected.increment();
+            Map.Entry<UUID, Integer> shortage = requested.entrySet().stream()
+                    .filter(entry -> table.available(entry.getKey()) < entry.getValue())
+                    .findFirst()
+                    .orElse(requested.entrySet().iterator().next());
+            throw new InsufficientStockException("Not enough stock for product %s. Requested: %s, Available: %s"
+                    .formatted(products.get(shortage.getKey()).getName(), shortage.getValue(), table.available(shortage.getKey())));
+        }
+        requested.forEach((productId, quantity) -> unflushed(productId).addAndGet(quantity));
+
+        afterTransaction(committed -> {
+            if (committed) {
+                movements.forEach(movement -> pending.add(new PendingStockMovement(movement.getProduct().getId(),
+                        movement.getQuantity(), movement.getDescription(), movement.getPrice(),
+                        movement.getSale() != null ? movement.getSale().getId() : null, LocalDateTime.now())));
+            } else {
+                table.release(requested);
+                requested.forEach((productId, quantity) -> unflushed(productId).addAndGet(-quantity));
+            }
+        });
+    }
+
+    public void recordInputs(Map<UUID, Integer> quantities) {
+        afterTransaction(committed -> {
+            if (committed) {
+                quantities.forEach(table::add);
+            }
+        });
+    }
+
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!isEnabled()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            flushPending();
+            if (!pending.isEmpty()) {
+                log.error("Shutting down with {} reserved stock movements that could not be written", pending.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public StockReservationCheckResponseDto check() {
+        if (!isEnabled()) {
+            throw new BusinessException("Stock reservation mode is not enabled");
+        }
+        flushLock.lock();
+        try {
+            Map<UUID, Long> inMemory = table.snapshot();
+            Map<UUID, Long> database = productRepository.findAllStockLevels().stream()
+                    .collect(Collectors.toMap(ProductQuantity::getProductId,
+                            level -> level.getQuantity() != null ? level.getQuantity() : 0L));
+            Map<UUID, Long> ledger = new HashMap<>(baselines);
+            stockMovementRepository.sumQuantitiesAfter(loadWatermark)
+                    .forEach(sum -> ledger.computeIfPresent(sum.getProductId(), (productId, baseline) -> baseline + sum.getQuantity()));
+
+            List<StockReservationMismatchDto> mismatches = new ArrayList<>();
+            for (UUID productId : new TreeSet<>(inMemory.keySet())) {
+                long reserved = unflushed(productId).get();
+                long persisted = database.getOrDefault(productId, 0L);
+                long expected = ledger.getOrDefault(productId, persisted);
+                if (inMemory.get(productId) != persisted - reserved || persisted != expected) {
+                    mismatches.add(new StockReservationMismatchDto(productId, inMemory.get(productId), persisted, expected, reserved));
+                }
+            }
+            return new StockReservationCheckResponseDto(LocalDateTime.now(), inMemory.size(), pending.size(), mismatches);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        int batchSize = stockProperties.reservation().batchSize();
+        while (!pending.isEmpty()) {
+            List<PendingStockMovement> batch = new ArrayList<>(batchSize);
+            PendingStockMovement next;
+            while (batch.size() < batchSize && (next = pending.pollFirst()) != null) {
+                batch.add(next);
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+            } catch (RuntimeException e) {
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    pending.addFirst(batch.get(i));
+                }
+                log.error("Could not write {} reserved stock movements, retrying on the next flush", batch.size(), e);
+                return;
+            }
+            batch.forEach(movement -> unflushed(movement.productId()).addAndGet(-movement.quantity()));
+        }
+    }
+
+    private void write(List<PendingStockMovement> batch) {
+        Map<UUID, Integer> deltas = new TreeMap<>();
+        batch.forEach(movement -> deltas.merge(movement.productId(), -movement.quantity(), Integer::sum));
+        productRepository.adjustStock(deltas);
+        stockMovementRepository.saveAll(batch.stream()
+                .map(movement -> StockMovement.builder()
+                        .product(entityManager.getReference(Product.class, movement.productId()))
+                        .sale(movement.saleId() != null ? entityManager.getReference(Sale.class, movement.saleId()) : null)
+                        .type(TypeMovement.OUTPUT)
+                        .quantity(movement.quantity())
+                        .description(movement.description())
+                        .price(movement.price())
+                        .dateMovement(movement.dateMovement())
+                        .build())
+                .toList());
+    }
+
+    private void loadIfAbsent(Product product) {
+        if (baselines.containsKey(product.getId())) {
+            return;
+        }
+        long quantity = product.getQuantityInStock() != null ? product.getQuantityInStock() : 0;
+        long sinceLoad = stockMovementRepository.sumQuantitiesAfter(loadWatermark, List.of(product.getId())).stream()
+                .mapToLong(ProductQuantity::getQuantity)
+                .sum();
+        if (baselines.putIfAbsent(product.getId(), quantity - sinceLoad) == null) {
+            table.loadIfAbsent(product.getId(), quantity);
+        }
+    }
+
+    private AtomicLong unflushed(UUID productId) {
+        return unflushed.computeIfAbsent(productId, id -> new AtomicLong());
+    }
+
+    private void afterTransaction(Consumer<Boolean> callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
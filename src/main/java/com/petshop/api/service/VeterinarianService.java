@@ -1,10 +1,12 @@
 package com.petshop.api.service;
 
+import com.petshop.api.domain.search.AutocompleteIndex;
 import com.petshop.api.domain.validator.ValidatorEntities;
 import com.petshop.api.dto.request.CreateVeterinarianDto;
 import com.petshop.api.dto.update.UpdateVeterinarianDto;
 import com.petshop.api.dto.response.VeterinarianResponseDto;
 import com.petshop.api.exception.BusinessException;
+import com.petshop.api.exception.ResourceNotFoundException;
 import com.petshop.api.model.entities.Veterinarian;
 import com.petshop.api.model.mapper.VeterinarianMapper;
 import com.petshop.api.repository.MedicalAppointmentRepository;
@@ -26,6 +28,7 @@ public class VeterinarianService {
     private final VeterinarianCategoryRepository veterinarianCategoryRepository;
     private final VeterinarianMapper veterinarianMapper;
     private final ValidatorEntities validatorEntities;
+    private final AutocompleteIndex autocompleteIndex;
 
 
 
@@ -35,7 +38,8 @@ public class VeterinarianService {
     }
 
     public VeterinarianResponseDto getVeterinarianById(UUID id){
-        var veterinarian = validatorEntities.validate(id, veterinarianRepository, "Veterinarian");
+        var veterinarian = veterinarianRepository.findDetailById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Veterinarian not found"));
         return veterinarianMapper.toResponseDto(veterinarian);
     }
 
@@ -48,14 +52,18 @@ public class VeterinarianService {
     public VeterinarianResponseDto createVeterinarian(CreateVeterinarianDto dto){
         var veterinarian = veterinarianMapper.toEntity(dto);
         veterinarian.setCategory(validatorEntities.validate(dto.getCategoryId(), veterinarianCategoryRepository, "Veterinarian Category"));
-        return veterinarianMapper.toResponseDto(veterinarianRepository.save(veterinarian));
+        var savedVeterinarian = veterinarianRepository.save(veterinarian);
+        autocompleteIndex.indexVeterinarian(savedVeterinarian);
+        return veterinarianMapper.toResponseDto(savedVeterinarian);
     }
 
     @Transactional
     public VeterinarianResponseDto updateVeterinarian(UUID id, UpdateVeterinarianDto updateDto){
         var veterinarian = validatorEntities.validate(id, veterinarianRepository, "Veterinarian");
         veterinarianMapper.updateVeterinarianFromDto(updateDto, veterinarian);
-        return veterinarianMapper.toResponseDto(veterinarianRepository.save(veterinarian));
+        var savedVeterinarian = veterinarianRepository.save(veterinarian);
+        autocompleteIndex.indexVeterinarian(savedVeterinarian);
+        return veterinarianMapper.toResponseDto(savedVeterinarian);
     }
 
     @Transactional
@@ -63,6 +71,7 @@ public class VeterinarianService {
         var veterinarian = validatorEntities.validate(id, veterinarianRepository, "Veterinarian");
         canDelete(veterinarian);
         veterinarianRepository.delete(veterinarian);
+        autocompleteIndex.remove(id);
     }
 
     private void canDelete(Veterinarian veterinarian) {
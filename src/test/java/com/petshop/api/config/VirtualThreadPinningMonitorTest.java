@@ -0,0 +1,48 @@
+package com.petshop.api.config;
+
+import com.petshop.api.dto.response.PinningSiteDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(5));
+
+
+    @Test
+    @DisplayName("Should aggregate pinning events per frame ordered by pinned time")
+    void recordPinning_ShouldAggregatePerFrame() {
+
+        monitor.recordPinning("org.postgresql.core.v3.QueryExecutorImpl.execute:350", Duration.ofMillis(30));
+        monitor.recordPinning("org.postgresql.core.v3.QueryExecutorImpl.execute:350", Duration.ofMillis(10));
+        monitor.recordPinning("com.zaxxer.hikari.pool.HikariPool.getConnection:181", Duration.ofMillis(25));
+
+        assertThat(monitor.getEvents()).isEqualTo(3);
+        assertThat(monitor.getTotalPinnedMillis()).isEqualTo(65);
+        assertThat(monitor.getMaxPinnedMillis()).isEqualTo(30);
+        assertThat(monitor.getSites())
+                .extracting(PinningSiteDto::getFrame, PinningSiteDto::getEvents, PinningSiteDto::getTotalPinnedMillis)
+                .containsExactly(
+                        tuple("org.postgresql.core.v3.QueryExecutorImpl.execute:350", 2L, 40L),
+                        tuple("com.zaxxer.hikari.pool.HikariPool.getConnection:181", 1L, 25L));
+    }
+
+
+    @Test
+    @DisplayName("Should report running only between start and stop")
+    void startAndStop_ShouldToggleRunning() {
+
+        assertThat(monitor.isRunning()).isFalse();
+
+        monitor.start();
+        assertThat(monitor.isRunning()).isTrue();
+
+        monitor.stop();
+        assertThat(monitor.isRunning()).isFalse();
+    }
+}
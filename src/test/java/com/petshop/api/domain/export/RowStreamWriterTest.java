@@ -0,0 +1,61 @@
+package com.petshop.api.domain.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowStreamWriterTest {
+
+    private record Row(String name, BigDecimal amount, LocalDate date) {
+    }
+
+    private static final List<ExportColumn<Row>> COLUMNS = List.of(
+            ExportColumn.of("name", Row::name),
+            ExportColumn.of("amount", Row::amount),
+            ExportColumn.of("date", Row::date));
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("Should write a CSV header and quote values with separators")
+    void write_ShouldProduceCsv() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (RowStreamWriter<Row> writer = new RowStreamWriter<>(output, ExportFormat.CSV, COLUMNS, objectMapper)) {
+            writer.write(new Row("Ração, 10kg", new BigDecimal("99.90"), LocalDate.of(2025, 1, 2)));
+            writer.write(new Row("Coleira \"G\"", null, null));
+        }
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "name,amount,date\r\n" +
+                "\"Ração, 10kg\",99.90,2025-01-02\r\n" +
+                "\"Coleira \"\"G\"\"\",,\r\n");
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void write_ShouldProduceNdjson() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (RowStreamWriter<Row> writer = new RowStreamWriter<>(output, ExportFormat.NDJSON, COLUMNS, objectMapper)) {
+            writer.write(new Row("Ração", new BigDecimal("99.90"), LocalDate.of(2025, 1, 2)));
+            writer.write(new Row("Coleira", null, null));
+        }
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"name\":\"Ração\",\"amount\":99.90,\"date\":\"2025-01-02\"}\n" +
+                "{\"name\":\"Coleira\",\"amount\":null,\"date\":null}\n");
+    }
+}
@@ -0,0 +1,65 @@
+package com.petshop.api.domain.pagination;
+
+import com.petshop.api.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should round trip a date time key and id through an opaque cursor")
+    void decode_ShouldReturnEncodedDateTimeAndId() {
+
+        LocalDateTime saleDate = LocalDateTime.of(2025, 3, 14, 10, 30, 15, 123456000);
+        UUID id = UUID.randomUUID();
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(saleDate, id));
+
+        assertThat(cursor.keyAsDateTime()).isEqualTo(saleDate);
+        assertThat(cursor.id()).isEqualTo(id);
+    }
+
+
+    @Test
+    @DisplayName("Should round trip a date key and id through an opaque cursor")
+    void decode_ShouldReturnEncodedDateAndId() {
+
+        LocalDate dateCreated = LocalDate.of(2025, 1, 31);
+        UUID id = UUID.randomUUID();
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(dateCreated, id));
+
+        assertThat(cursor.keyAsDate()).isEqualTo(dateCreated);
+        assertThat(cursor.id()).isEqualTo(id);
+    }
+
+
+    @Test
+    @DisplayName("Should produce URL safe cursors")
+    void encode_ShouldBeUrlSafe() {
+
+        String cursor = KeysetCursor.encode(LocalDateTime.now(), UUID.randomUUID());
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+
+    @Test
+    @DisplayName("Should reject tampered cursors")
+    void decode_ShouldThrowWhenCursorIsInvalid() {
+
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.encode("2025-01-01", UUID.randomUUID()).substring(4)))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.encode("yesterday", UUID.randomUUID())).keyAsDate())
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.petshop.api.domain.report;
+
+import com.petshop.api.dto.response.AgingReportDto;
+import com.petshop.api.dto.response.ClientAgingDto;
+import com.petshop.api.repository.projection.OpenReceivable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AgingReportAccumulatorTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2025, 6, 30);
+
+    private final AgingReportAccumulator accumulator = new AgingReportAccumulator(AS_OF);
+
+    @Test
+    @DisplayName("Should place balances in the bucket of their days overdue")
+    void bucket_ShouldFollowDaysOverdue() {
+
+        assertThat(accumulator.bucket(null)).isZero();
+        assertThat(accumulator.bucket(AS_OF.plusDays(10))).isZero();
+        assertThat(accumulator.bucket(AS_OF)).isZero();
+        assertThat(accumulator.bucket(AS_OF.minusDays(1))).isEqualTo(1);
+        assertThat(accumulator.bucket(AS_OF.minusDays(30))).isEqualTo(1);
+        assertThat(accumulator.bucket(AS_OF.minusDays(31))).isEqualTo(2);
+        assertThat(accumulator.bucket(AS_OF.minusDays(61))).isEqualTo(3);
+        assertThat(accumulator.bucket(AS_OF.minusDays(90))).isEqualTo(3);
+        assertThat(accumulator.bucket(AS_OF.minusDays(91))).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should aggregate open balances per client and in total")
+    void toReport_ShouldGroupByClient() {
+        UUID ana = UUID.randomUUID();
+        UUID bruno = UUID.randomUUID();
+        accumulator.add(receivable(ana, "Ana", AS_OF.plusDays(5), "100.00"));
+        accumulator.add(receivable(ana, "Ana", AS_OF.minusDays(45), "50.00"));
+        accumulator.add(receivable(bruno, "Bruno", AS_OF.minusDays(120), "20.00"));
+
+        AgingReportDto report = accumulator.toReport();
+
+        assertThat(report.getAsOf()).isEqualTo(AS_OF);
+        assertThat(report.getTotals().getTotal()).isEqualByComparingTo("170.00");
+        assertThat(report.getTotals().getOpenInstallments()).isEqualTo(3);
+        assertThat(report.getClients()).extracting(ClientAgingDto::getClientName).containsExactly("Ana", "Bruno");
+        ClientAgingDto first = report.getClients().get(0);
+        assertThat(first.getBuckets().getCurrent()).isEqualByComparingTo("100.00");
+        assertThat(first.getBuckets().getDays31To60()).isEqualByComparingTo("50.00");
+        assertThat(report.getClients().get(1).getBuckets().getOver90()).isEqualByComparingTo("20.00");
+    }
+
+    private OpenReceivable receivable(UUID clientId, String clientName, LocalDate dueDate, String balance) {
+        return new OpenReceivable() {
+            @Override
+            public UUID getClientId() {
+                return clientId;
+            }
+
+            @Override
+            public String getClientName() {
+                return clientName;
+            }
+
+            @Override
+            public LocalDate getDueDate() {
+                return dueDate;
+            }
+
+            @Override
+            public BigDecimal getBalance() {
+                return new BigDecimal(balance);
+            }
+        };
+    }
+}
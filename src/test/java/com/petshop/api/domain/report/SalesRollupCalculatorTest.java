@@ -0,0 +1,82 @@
+package com.petshop.api.domain.report;
+
+import com.petshop.api.model.entities.Product;
+import com.petshop.api.model.entities.ProductCategory;
+import com.petshop.api.model.entities.ProductSale;
+import com.petshop.api.model.entities.Sale;
+import com.petshop.api.model.enums.RollupDimension;
+import com.petshop.api.model.enums.RollupPeriod;
+import com.petshop.api.model.enums.SalePaymentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalesRollupCalculatorTest {
+
+    private final SalesRollupCalculator calculator = new SalesRollupCalculator();
+    private Sale sale;
+    private Product food;
+
+    @BeforeEach
+    void setUp() {
+        ProductCategory category = ProductCategory.builder().id(UUID.randomUUID()).name("Alimentação").build();
+        food = Product.builder().id(UUID.randomUUID()).name("Ração").category(category).build();
+        Product snack = Product.builder().id(UUID.randomUUID()).name("Petisco").category(category).build();
+        sale = Sale.builder()
+                .saleDate(LocalDateTime.of(2025, 3, 14, 10, 30))
+                .paymentType(SalePaymentType.CASH)
+                .totalValue(new BigDecimal("70.00"))
+                .build();
+        sale.getProductSales().add(ProductSale.builder().product(food).quantity(2).unitPrice(new BigDecimal("20.00")).build());
+        sale.getProductSales().add(ProductSale.builder().product(snack).quantity(3).unitPrice(new BigDecimal("10.00")).build());
+    }
+
+    @Test
+    @DisplayName("Should produce daily and monthly buckets per product, category and payment type")
+    void deltasForSale_ShouldAggregateBuckets() {
+
+        List<SalesRollupDelta> deltas = calculator.deltasForSale(sale);
+
+        assertThat(deltas).hasSize(8);
+        SalesRollupDelta category = find(deltas, RollupPeriod.MONTHLY, RollupDimension.CATEGORY);
+        assertThat(category.periodStart()).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(category.saleCount()).isEqualTo(1);
+        assertThat(category.quantity()).isEqualTo(5);
+        assertThat(category.revenue()).isEqualByComparingTo("70.00");
+        SalesRollupDelta paymentType = find(deltas, RollupPeriod.DAILY, RollupDimension.PAYMENT_TYPE);
+        assertThat(paymentType.periodStart()).isEqualTo(LocalDate.of(2025, 3, 14));
+        assertThat(paymentType.dimensionKey()).isEqualTo("CASH");
+        assertThat(paymentType.quantity()).isEqualTo(5);
+        assertThat(paymentType.revenue()).isEqualByComparingTo("70.00");
+        assertThat(deltas).filteredOn(delta -> delta.dimensionKey().equals(food.getId().toString()))
+                .allSatisfy(delta -> assertThat(delta.revenue()).isEqualByComparingTo("40.00"));
+    }
+
+    @Test
+    @DisplayName("Should negate every bucket when a sale is canceled")
+    void deltasForCancellation_ShouldNegateBuckets() {
+
+        List<SalesRollupDelta> deltas = calculator.deltasForCancellation(sale);
+
+        assertThat(deltas).allSatisfy(delta -> {
+            assertThat(delta.saleCount()).isEqualTo(-1);
+            assertThat(delta.quantity()).isNegative();
+            assertThat(delta.revenue()).isNegative();
+        });
+    }
+
+    private SalesRollupDelta find(List<SalesRollupDelta> deltas, RollupPeriod period, RollupDimension dimension) {
+        return deltas.stream()
+                .filter(delta -> delta.period() == period && delta.dimension() == dimension)
+                .findFirst()
+                .orElseThrow();
+    }
+}
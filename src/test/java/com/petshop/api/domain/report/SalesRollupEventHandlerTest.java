@@ -0,0 +1,92 @@
+package com.petshop.api.domain.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petshop.api.domain.outbox.OutboxPayloadMapper;
+import com.petshop.api.domain.outbox.SaleCanceledEvent;
+import com.petshop.api.domain.outbox.SaleCreatedEvent;
+import com.petshop.api.model.entities.OutboxEvent;
+import com.petshop.api.model.entities.Sale;
+import com.petshop.api.model.enums.OutboxEventType;
+import com.petshop.api.repository.SaleRepository;
+import com.petshop.api.service.SalesReportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRollupEventHandlerTest {
+
+    @Mock
+    private SaleRepository saleRepository;
+
+    @Mock
+    private SalesReportService salesReportService;
+
+    private OutboxPayloadMapper outboxPayloadMapper;
+    private SalesRollupEventHandler handler;
+    private Sale sale;
+
+    @BeforeEach
+    void setUp() {
+        outboxPayloadMapper = new OutboxPayloadMapper(new ObjectMapper().findAndRegisterModules());
+        handler = new SalesRollupEventHandler(saleRepository, salesReportService, outboxPayloadMapper);
+        sale = Sale.builder().id(UUID.randomUUID()).saleDate(LocalDateTime.of(2025, 3, 14, 10, 30))
+                .totalValue(new BigDecimal("70.00")).build();
+    }
+
+    @Test
+    @DisplayName("Should record the sale in the rollups when a sale is created")
+    void handle_ShouldRecordCreatedSale() {
+
+        when(saleRepository.findDetailById(sale.getId())).thenReturn(Optional.of(sale));
+
+        handler.handle(event(OutboxEventType.SALE_CREATED, created(false)));
+
+        verify(salesReportService).recordSale(sale);
+    }
+
+    @Test
+    @DisplayName("Should skip sales whose rollups were recorded by the import")
+    void handle_ShouldSkipSalesAlreadyInRollups() {
+
+        handler.handle(event(OutboxEventType.SALE_CREATED, created(true)));
+
+        verifyNoInteractions(saleRepository, salesReportService);
+    }
+
+    @Test
+    @DisplayName("Should revert the sale from the rollups when a sale is canceled")
+    void handle_ShouldRevertCanceledSale() {
+
+        when(saleRepository.findDetailById(sale.getId())).thenReturn(Optional.of(sale));
+
+        handler.handle(event(OutboxEventType.SALE_CANCELED,
+                new SaleCanceledEvent(sale.getId(), UUID.randomUUID(), sale.getTotalValue())));
+
+        verify(salesReportService).revertSale(sale);
+    }
+
+    private SaleCreatedEvent created(boolean rollupRecorded) {
+        return new SaleCreatedEvent(sale.getId(), UUID.randomUUID(), sale.getSaleDate(), sale.getTotalValue(), rollupRecorded);
+    }
+
+    private OutboxEvent event(OutboxEventType type, Object payload) {
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .eventType(type)
+                .aggregateType("Sale")
+                .aggregateId(sale.getId())
+                .payload(outboxPayloadMapper.write(payload))
+                .build();
+    }
+}
@@ -6,18 +6,20 @@ import com.petshop.api.exception.ResourceNotFoundException;
 import com.petshop.api.model.entities.Product;
 import com.petshop.api.model.entities.ProductSale;
 import com.petshop.api.model.entities.Sale;
-import com.petshop.api.repository.ProductRepository;
+import com.petshop.api.model.entities.StockMovement;
 import com.petshop.api.service.StockMovementService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,52 +32,71 @@ class SaleGeneratorTest {
     @InjectMocks
     private SaleGenerator saleGenerator;
 
-    @Mock
-    private ProductRepository productRepository;
-
     @Mock
     private StockMovementService stockMovementService;
 
+    @Captor
+    private ArgumentCaptor<List<StockMovement>> movementsCaptor;
+
 
     @Test
-    @DisplayName("Should generate ProductSale entity when product exists")
-    void generateProductSale_ShouldReturnEntity_WhenProductExists() {
+    @DisplayName("Should generate ProductSale entities locking all products at once")
+    void generateProductSales_ShouldReturnEntities_WhenProductsExist() {
 
-        UUID productId = UUID.randomUUID();
-        CreateProductSaleDto dto = new CreateProductSaleDto();
-        dto.setProductId(productId);
-        dto.setQuantity(5);
-        dto.setPrice(new BigDecimal("10.00"));
+        UUID productId1 = UUID.randomUUID();
+        UUID productId2 = UUID.randomUUID();
+        CreateProductSaleDto item1 = new CreateProductSaleDto();
+        item1.setProductId(productId1);
+        item1.setQuantity(5);
+        item1.setPrice(new BigDecimal("10.00"));
+        CreateProductSaleDto item2 = new CreateProductSaleDto();
+        item2.setProductId(productId2);
+        item2.setQuantity(1);
+        item2.setPrice(new BigDecimal("3.00"));
+        CreateProductSaleDto item3 = new CreateProductSaleDto();
+        item3.setProductId(productId1);
+        item3.setQuantity(2);
+        item3.setPrice(new BigDecimal("9.00"));
+        CreateSaleDto saleDto = new CreateSaleDto();
+        saleDto.setProductSales(List.of(item1, item2, item3));
         Sale sale = new Sale();
-        Product product = new Product();
-        product.setId(productId);
+        Product product1 = new Product();
+        product1.setId(productId1);
+        Product product2 = new Product();
+        product2.setId(productId2);
 
-        when(productRepository.findWithLockById(productId)).thenReturn(Optional.of(product));
+        when(stockMovementService.lockProducts(List.of(productId1, productId2, productId1)))
+                .thenReturn(Map.of(productId1, product1, productId2, product2));
 
-        ProductSale result = saleGenerator.generateProductSale(dto, sale);
+        List<ProductSale> result = saleGenerator.generateProductSales(saleDto, sale);
 
-        assertThat(result).isNotNull();
-        assertThat(result.getProduct()).isEqualTo(product);
-        assertThat(result.getSale()).isEqualTo(sale);
-        assertThat(result.getQuantity()).isEqualTo(5);
-        assertThat(result.getUnitPrice()).isEqualTo(new BigDecimal("10.00"));
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0).getProduct()).isEqualTo(product1);
+        assertThat(result.get(0).getSale()).isEqualTo(sale);
+        assertThat(result.get(0).getQuantity()).isEqualTo(5);
+        assertThat(result.get(0).getUnitPrice()).isEqualTo(new BigDecimal("10.00"));
+        assertThat(result.get(1).getProduct()).isEqualTo(product2);
+        assertThat(result.get(2).getProduct()).isEqualTo(product1);
 
-        verify(productRepository).findWithLockById(productId);
+        verify(stockMovementService, times(1)).lockProducts(anyList());
     }
 
 
     @Test
-    @DisplayName("Should throw ResourceNotFoundException when product does not exist")
-    void generateProductSale_ShouldThrowException_WhenProductNotFound() {
+    @DisplayName("Should throw ResourceNotFoundException when a product does not exist")
+    void generateProductSales_ShouldThrowException_WhenProductNotFound() {
 
         UUID productId = UUID.randomUUID();
-        CreateProductSaleDto dto = new CreateProductSaleDto();
-        dto.setProductId(productId);
+        CreateProductSaleDto item = new CreateProductSaleDto();
+        item.setProductId(productId);
+        CreateSaleDto saleDto = new CreateSaleDto();
+        saleDto.setProductSales(List.of(item));
         Sale sale = new Sale();
 
-        when(productRepository.findWithLockById(productId)).thenReturn(Optional.empty());
+        when(stockMovementService.lockProducts(List.of(productId)))
+                .thenThrow(new ResourceNotFoundException("Product not found"));
 
-        assertThatThrownBy(() -> saleGenerator.generateProductSale(dto, sale))
+        assertThatThrownBy(() -> saleGenerator.generateProductSales(saleDto, sale))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage("Product not found");
     }
@@ -114,8 +135,8 @@ class SaleGeneratorTest {
 
 
     @Test
-    @DisplayName("Should register output stock movement for each item in sale")
-    void registerStockMovementsFromSale_ShouldCallServiceForEachItem() {
+    @DisplayName("Should register output stock movements for all items in a single call")
+    void registerStockMovementsFromSale_ShouldRegisterAllItemsAtOnce() {
 
         UUID saleId = UUID.randomUUID();
         Sale sale = new Sale();
@@ -141,21 +162,14 @@ class SaleGeneratorTest {
 
         saleGenerator.registerStockMovementsFromSale(sale);
 
-
-        verify(stockMovementService, times(2)).registerOutput(
-                any(Product.class),
-                anyInt(),
-                anyString(),
-                any(BigDecimal.class),
-                eq(sale)
-        );
-
-        verify(stockMovementService).registerOutput(
-                product1,
-                2,
-                "SALE_ORDER_" + saleId,
-                new BigDecimal("10.00"),
-                sale
-        );
+        verify(stockMovementService, times(1)).registerOutputs(movementsCaptor.capture());
+        List<StockMovement> movements = movementsCaptor.getValue();
+        assertThat(movements).hasSize(2);
+        assertThat(movements.get(0).getProduct()).isEqualTo(product1);
+        assertThat(movements.get(0).getQuantity()).isEqualTo(2);
+        assertThat(movements.get(0).getDescription()).isEqualTo("SALE_ORDER_" + saleId);
+        assertThat(movements.get(0).getPrice()).isEqualTo(new BigDecimal("10.00"));
+        assertThat(movements.get(0).getSale()).isEqualTo(sale);
+        assertThat(movements.get(1).getProduct()).isEqualTo(product2);
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.petshop.api.domain.search;
+
+import com.petshop.api.dto.response.AutocompleteResultDto;
+import com.petshop.api.model.entities.Client;
+import com.petshop.api.model.enums.SearchTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteIndexTest {
+
+    private static final Set<SearchTarget> ALL = EnumSet.allOf(SearchTarget.class);
+
+    private AutocompleteIndex autocompleteIndex;
+
+    private final UUID joaoId = UUID.randomUUID();
+    private final UUID racaoId = UUID.randomUUID();
+    private final UUID rexId = UUID.randomUUID();
+
+
+    @BeforeEach
+    void setUp() {
+        autocompleteIndex = new AutocompleteIndex();
+        autocompleteIndex.putClient(joaoId, "João da Silva", "123.456.789-00");
+        autocompleteIndex.putName(SearchTarget.PRODUCT, racaoId, "Ração Premium");
+        autocompleteIndex.putName(SearchTarget.ANIMAL, rexId, "Rex");
+    }
+
+
+    @Test
+    @DisplayName("Should match accent and case insensitive prefixes of any word")
+    void lookup_ShouldMatchNormalizedWordPrefixes() {
+
+        assertThat(autocompleteIndex.lookup("joao", ALL, 10))
+                .extracting(AutocompleteResultDto::getId).containsExactly(joaoId);
+        assertThat(autocompleteIndex.lookup("SIL", ALL, 10))
+                .extracting(AutocompleteResultDto::getLabel).containsExactly("João da Silva");
+        assertThat(autocompleteIndex.lookup("raç", ALL, 10))
+                .extracting(AutocompleteResultDto::getType).containsExactly(SearchTarget.PRODUCT);
+        assertThat(autocompleteIndex.lookup("ilva", ALL, 10)).isEmpty();
+    }
+
+
+    @Test
+    @DisplayName("Should match CPF prefixes with or without punctuation")
+    void lookup_ShouldMatchCpfDigits() {
+
+        assertThat(autocompleteIndex.lookup("123.45", ALL, 10))
+                .extracting(AutocompleteResultDto::getId).containsExactly(joaoId);
+        assertThat(autocompleteIndex.lookup("1234567", ALL, 10))
+                .extracting(AutocompleteResultDto::getId).containsExactly(joaoId);
+    }
+
+
+    @Test
+    @DisplayName("Should only return the requested targets and at most the limit")
+    void lookup_ShouldRespectTargetsAndLimit() {
+
+        autocompleteIndex.putName(SearchTarget.PRODUCT, UUID.randomUUID(), "Ração Filhote");
+        autocompleteIndex.putName(SearchTarget.PRODUCT, UUID.randomUUID(), "Ração Sênior");
+
+        assertThat(autocompleteIndex.lookup("r", EnumSet.of(SearchTarget.ANIMAL), 10))
+                .extracting(AutocompleteResultDto::getId).containsExactly(rexId);
+        assertThat(autocompleteIndex.lookup("racao", ALL, 2)).hasSize(2);
+    }
+
+
+    @Test
+    @DisplayName("Should replace the keys of an updated entry and drop removed entries")
+    void put_ShouldReplaceKeysAndRemoveShouldDropEntry() {
+
+        Client renamed = Client.builder().id(joaoId).name("Pedro Souza").cpf("98765432100").build();
+
+        autocompleteIndex.indexClient(renamed);
+
+        assertThat(autocompleteIndex.lookup("joao", ALL, 10)).isEmpty();
+        assertThat(autocompleteIndex.lookup("souza", ALL, 10))
+                .extracting(AutocompleteResultDto::getLabel).containsExactly("Pedro Souza");
+
+        autocompleteIndex.remove(joaoId);
+
+        assertThat(autocompleteIndex.lookup("pedro", ALL, 10)).isEmpty();
+        assertThat(autocompleteIndex.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,95 @@
+package com.petshop.api.domain.stock;
+
+import com.petshop.api.service.SaleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockConflictRetryAspectTest {
+
+    private static final String OPERATION = "SaleService.createSale";
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StockConflictRetryAspect aspect;
+
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StockProperties properties = new StockProperties(StockMode.OPTIMISTIC, null, null,
+                new StockProperties.Optimistic(3, Duration.ofMillis(1), Duration.ofMillis(2)));
+        aspect = new StockConflictRetryAspect(properties, meterRegistry);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        doReturn(SaleService.class).when(signature).getDeclaringType();
+        when(signature.getName()).thenReturn("createSale");
+    }
+
+
+    @Test
+    @DisplayName("Should retry the checkout after a conflict and count attempts and retries")
+    void retry_ShouldProceedAgain_WhenConflictIsTransient() throws Throwable {
+
+        when(joinPoint.proceed())
+                .thenThrow(new ObjectOptimisticLockingFailureException("Product", "id"))
+                .thenThrow(new CannotAcquireLockException("deadlock"))
+                .thenReturn("sale");
+
+        Object result = aspect.retry(joinPoint);
+
+        assertThat(result).isEqualTo("sale");
+        verify(joinPoint, times(3)).proceed();
+        assertThat(count(".attempts")).isEqualTo(3);
+        assertThat(count(".retries")).isEqualTo(2);
+        assertThat(meterRegistry.find(StockConflictRetryAspect.METRIC_NAME + ".backoff").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should rethrow the conflict after the last attempt")
+    void retry_ShouldGiveUp_WhenAttemptsAreExhausted() throws Throwable {
+
+        when(joinPoint.proceed()).thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        assertThatThrownBy(() -> aspect.retry(joinPoint)).isInstanceOf(CannotAcquireLockException.class);
+
+        verify(joinPoint, times(3)).proceed();
+        assertThat(count(".retries")).isEqualTo(2);
+        assertThat(count(".exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not retry failures that are not write conflicts")
+    void retry_ShouldNotRetryOtherExceptions() throws Throwable {
+
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> aspect.retry(joinPoint)).isInstanceOf(IllegalStateException.class);
+
+        verify(joinPoint).proceed();
+        assertThat(count(".retries")).isZero();
+    }
+
+    private double count(String suffix) {
+        return meterRegistry.counter(StockConflictRetryAspect.METRIC_NAME + suffix, "operation", OPERATION).count();
+    }
+}
@@ -0,0 +1,84 @@
+package com.petshop.api.domain.stock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockReservationTableTest {
+
+    private final UUID dogFood = UUID.randomUUID();
+    private final UUID shampoo = UUID.randomUUID();
+
+    private StockReservationTable table;
+
+
+    @BeforeEach
+    void setUp() {
+        table = new StockReservationTable();
+        table.load(dogFood, 10);
+        table.load(shampoo, 1);
+    }
+
+
+    @Test
+    @DisplayName("Should reserve every product of a request or none of them")
+    void tryReserve_ShouldBeAllOrNothing() {
+
+        assertThat(table.tryReserve(Map.of(dogFood, 4, shampoo, 2))).isFalse();
+        assertThat(table.available(dogFood)).isEqualTo(10);
+        assertThat(table.available(shampoo)).isEqualTo(1);
+
+        assertThat(table.tryReserve(Map.of(dogFood, 4, shampoo, 1))).isTrue();
+        assertThat(table.available(dogFood)).isEqualTo(6);
+        assertThat(table.available(shampoo)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject products that were never loaded")
+    void tryReserve_ShouldRejectUnknownProducts() {
+
+        assertThat(table.tryReserve(Map.of(UUID.randomUUID(), 1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should give released and received quantities back to the table")
+    void releaseAndAdd_ShouldIncreaseAvailability() {
+
+        table.tryReserve(Map.of(dogFood, 3));
+        table.release(Map.of(dogFood, 3));
+        table.add(dogFood, 5);
+        table.loadIfAbsent(dogFood, 100);
+
+        assertThat(table.available(dogFood)).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("Should never oversell under concurrent reservations")
+    void tryReserve_ShouldNotOversellConcurrently() throws Exception {
+
+        table.load(dogFood, 1_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            results.add(executor.submit(() -> table.tryReserve(Map.of(dogFood, 1))));
+        }
+        int accepted = 0;
+        for (Future<Boolean> result : results) {
+            accepted += result.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(accepted).isEqualTo(1_000);
+        assertThat(table.available(dogFood)).isZero();
+    }
+}
@@ -0,0 +1,25 @@
+package com.petshop.api.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlRedactorTest {
+
+    @Test
+    @DisplayName("Should replace string and numeric literals with placeholders")
+    void shouldRedactLiterals() {
+        String sql = "select c1_0.id from clients c1_0 where c1_0.name = 'O''Brien' and c1_0.age > 42 fetch first 10 rows only";
+
+        assertThat(SqlRedactor.redact(sql))
+                .isEqualTo("select c1_0.id from clients c1_0 where c1_0.name = ? and c1_0.age > ? fetch first ? rows only");
+    }
+
+    @Test
+    @DisplayName("Should collapse whitespace of formatted statements")
+    void shouldCollapseWhitespace() {
+        assertThat(SqlRedactor.redact("select *\n    from sales\n    where id = ?"))
+                .isEqualTo("select * from sales where id = ?");
+    }
+}
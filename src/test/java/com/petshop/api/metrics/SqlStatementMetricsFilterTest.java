@@ -0,0 +1,94 @@
+package com.petshop.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementMetricsFilterTest {
+
+    private SqlStatementCounter statementCounter;
+    private SqlTimingListener timingListener;
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new SqlStatementCounter();
+        timingListener = new SqlTimingListener();
+        meterRegistry = new SimpleMeterRegistry();
+        SqlBudgetProperties properties = new SqlBudgetProperties(50, Duration.ofSeconds(1), Map.of("GET /api/v1/sale/{id}", 1), null);
+        filter = new SqlStatementMetricsFilter(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should record the statements and JDBC time of a request under its route pattern")
+    void shouldRecordStatementsPerRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/sale/42");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/sale/{id}");
+            statementCounter.inspect("select * from sales where id = ?");
+            timingListener.jdbcExecuteStatementStart();
+            timingListener.jdbcExecuteStatementEnd();
+            statementCounter.inspect("select * from product_sales where sale_id = ?");
+        });
+
+        DistributionSummary summary = meterRegistry.get(SqlStatementMetricsFilter.METRIC_NAME)
+                .tag("uri", "/api/v1/sale/{id}")
+                .tag("method", "GET")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.JDBC_TIME_METRIC_NAME).timer().count()).isEqualTo(1);
+        assertThat(SqlRequestContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not count statements outside of a request")
+    void shouldIgnoreStatementsOutsideRequests() {
+        statementCounter.inspect("select 1");
+        timingListener.jdbcExecuteStatementStart();
+        timingListener.jdbcExecuteStatementEnd();
+
+        assertThat(SqlRequestContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep slow statements with literals redacted")
+    void shouldCollectSlowStatements() {
+        SqlRequestStats stats = SqlRequestContext.begin(Duration.ZERO);
+        try {
+            statementCounter.inspect("select * from clients where cpf = '12345678901'");
+            timingListener.jdbcExecuteStatementStart();
+            timingListener.jdbcExecuteStatementEnd();
+        } finally {
+            SqlRequestContext.end();
+        }
+
+        assertThat(stats.getStatements()).isEqualTo(1);
+        assertThat(stats.getSlowQueries()).singleElement()
+                .extracting(SqlRequestStats.SlowQuery::sql)
+                .isEqualTo("select * from clients where cpf = ?");
+    }
+
+    @Test
+    @DisplayName("Should grow the statement budget with the units reported by the request")
+    void budgetFor_ShouldAddUnitBudget() {
+        SqlBudgetProperties properties = new SqlBudgetProperties(50, null, Map.of("POST /api/v1/sale/import", 20),
+                Map.of("POST /api/v1/sale/import", 1));
+
+        assertThat(properties.budgetFor("POST", "/api/v1/sale/import", 0)).isEqualTo(20);
+        assertThat(properties.budgetFor("POST", "/api/v1/sale/import", 500)).isEqualTo(520);
+        assertThat(properties.budgetFor("GET", "/api/v1/sale", 500)).isEqualTo(50);
+    }
+}
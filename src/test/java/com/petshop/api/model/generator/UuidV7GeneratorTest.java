@@ -0,0 +1,56 @@
+package com.petshop.api.model.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    private final UuidV7Generator generator = new UuidV7Generator();
+
+
+    @Test
+    @DisplayName("Should generate RFC 9562 version 7 UUIDs with the IETF variant")
+    void generate_ShouldReturnVersion7Uuid() {
+
+        UUID id = (UUID) generator.generate(null, null);
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+
+    @Test
+    @DisplayName("Should embed the current Unix epoch milliseconds in the first 48 bits")
+    void generate_ShouldEmbedCurrentTimestamp() {
+
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.nextId();
+        long after = System.currentTimeMillis();
+
+        long timestamp = id.getMostSignificantBits() >>> 16;
+        assertThat(timestamp).isBetween(before, after + 1);
+    }
+
+
+    @Test
+    @DisplayName("Should generate strictly increasing ids even within the same millisecond")
+    void nextId_ShouldBeMonotonic() {
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            ids.add(UuidV7Generator.nextId());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            long previous = ids.get(i - 1).getMostSignificantBits();
+            long current = ids.get(i).getMostSignificantBits();
+            assertThat(Long.compareUnsigned(current, previous)).isPositive();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.*;
+import com.petshop.api.model.enums.SalePaymentType;
+import com.petshop.api.model.enums.SaleStatus;
+import com.petshop.api.model.enums.TypeMovement;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class BatchInsertStatementCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private FinancialRepository financialRepository;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    private Statistics statistics;
+    private Client client;
+    private List<Product> products;
+
+
+    @BeforeEach
+    void setUp() {
+        client = entityManager.persist(Client.builder()
+                .name("Maria")
+                .cpf("12345678900")
+                .address(Address.builder().street("Rua A").city("Curitiba").state("PR").zipCode("80000-000").build())
+                .build());
+        ProductCategory category = entityManager.persist(ProductCategory.builder().name("Food").build());
+        products = IntStream.range(0, 10)
+                .mapToObj(i -> entityManager.persist(Product.builder()
+                        .name("Product " + i)
+                        .price(BigDecimal.TEN)
+                        .quantityInStock(100)
+                        .category(category)
+                        .build()))
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+
+    @Test
+    @DisplayName("Should insert a sale and all of its items with one statement per table")
+    void saveSale_ShouldBatchProductSaleInserts() {
+
+        Sale sale = Sale.builder()
+                .client(entityManager.getEntityManager().getReference(Client.class, client.getId()))
+                .status(SaleStatus.COMPLETED)
+                .paymentType(SalePaymentType.CASH)
+                .totalValue(new BigDecimal("100.00"))
+                .build();
+        products.forEach(product -> sale.getProductSales().add(ProductSale.builder()
+                .product(entityManager.getEntityManager().getReference(Product.class, product.getId()))
+                .quantity(1)
+                .unitPrice(BigDecimal.TEN)
+                .sale(sale)
+                .build()));
+
+        saleRepository.save(sale);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(11);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+
+    @Test
+    @DisplayName("Should insert all installments of a sale with a single statement")
+    void saveAllFinancial_ShouldBatchInstallmentInserts() {
+
+        Client clientReference = entityManager.getEntityManager().getReference(Client.class, client.getId());
+        List<Financial> installments = IntStream.rangeClosed(1, 12)
+                .mapToObj(i -> Financial.builder()
+                        .client(clientReference)
+                        .description("Installment %d/12".formatted(i))
+                        .amount(BigDecimal.TEN)
+                        .dueDate(LocalDate.now().plusMonths(i))
+                        .isPaid(false)
+                        .installment(i)
+                        .build())
+                .toList();
+
+        financialRepository.saveAll(installments);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(12);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+
+    @Test
+    @DisplayName("Should insert all stock movements with a single statement")
+    void saveAllStockMovements_ShouldBatchInserts() {
+
+        List<StockMovement> movements = products.stream()
+                .map(product -> StockMovement.builder()
+                        .product(entityManager.getEntityManager().getReference(Product.class, product.getId()))
+                        .type(TypeMovement.OUTPUT)
+                        .quantity(1)
+                        .price(BigDecimal.TEN)
+                        .description("SALE_ORDER")
+                        .build())
+                .toList();
+
+        stockMovementRepository.saveAll(movements);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,98 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.IdempotencyRecord;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class IdempotencyRecordRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+
+    @Test
+    @DisplayName("Should store the response of a claimed key and delete only expired keys")
+    void completeAndDeleteExpired_ShouldKeepLiveKeys() {
+
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.saveAndFlush(record("a".repeat(64), now.plusMinutes(1)));
+        idempotencyRecordRepository.saveAndFlush(record("b".repeat(64), now.minusMinutes(1)));
+
+        idempotencyRecordRepository.complete("a".repeat(64), 201, "{\"id\":\"1\"}", now.plusHours(24));
+        int deleted = idempotencyRecordRepository.deleteExpired(now);
+        entityManager.clear();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(idempotencyRecordRepository.findById("b".repeat(64))).isEmpty();
+        IdempotencyRecord completed = idempotencyRecordRepository.findById("a".repeat(64)).orElseThrow();
+        assertThat(completed.getResponseStatus()).isEqualTo(201);
+        assertThat(completed.getResponseBody()).isEqualTo("{\"id\":\"1\"}");
+        assertThat(completed.getExpiresAt()).isAfter(now.plusHours(23));
+    }
+
+    @Test
+    @DisplayName("Should reclaim only completed keys past their TTL and release only keys still in progress")
+    void reclaimAndRelease_ShouldLeaveInProgressAndLiveKeysAlone() {
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        idempotencyRecordRepository.saveAndFlush(record("a".repeat(64), now.minusMinutes(1)));
+        idempotencyRecordRepository.saveAndFlush(record("b".repeat(64), now.plusMinutes(1)));
+        idempotencyRecordRepository.complete("b".repeat(64), 200, "{}", now.minusMinutes(1));
+        idempotencyRecordRepository.saveAndFlush(record("c".repeat(64), now.plusMinutes(1)));
+        idempotencyRecordRepository.complete("c".repeat(64), 200, "{}", now.plusHours(1));
+        entityManager.clear();
+
+        assertThat(idempotencyRecordRepository.reclaimExpired("a".repeat(64), "g".repeat(64), now, now.plusMinutes(1))).isZero();
+        assertThat(idempotencyRecordRepository.reclaimExpired("b".repeat(64), "g".repeat(64), now, now.plusMinutes(1))).isEqualTo(1);
+        assertThat(idempotencyRecordRepository.reclaimExpired("c".repeat(64), "g".repeat(64), now, now.plusMinutes(1))).isZero();
+        entityManager.clear();
+
+        assertThat(idempotencyRecordRepository.findClaimWithLock("b".repeat(64), now.plusMinutes(1))).hasValueSatisfying(claimed ->
+                assertThat(claimed.getFingerprint()).isEqualTo("g".repeat(64)));
+        assertThat(idempotencyRecordRepository.findClaimWithLock("c".repeat(64), now.plusHours(1))).isEmpty();
+        assertThat(idempotencyRecordRepository.release("c".repeat(64), now.plusHours(1))).isZero();
+        assertThat(idempotencyRecordRepository.release("a".repeat(64), now.minusMinutes(1))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hand a crashed request's claim to a single retry and fence off the original owner")
+    void reclaimStale_ShouldTransferAbandonedClaimOnce() {
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        LocalDateTime abandonedUntil = now.minusSeconds(5);
+        LocalDateTime retryUntil = now.plusMinutes(1);
+        idempotencyRecordRepository.saveAndFlush(record("a".repeat(64), abandonedUntil));
+        entityManager.clear();
+
+        assertThat(idempotencyRecordRepository.reclaimStale("a".repeat(64), "g".repeat(64), abandonedUntil, retryUntil)).isZero();
+        assertThat(idempotencyRecordRepository.reclaimStale("a".repeat(64), "f".repeat(64), abandonedUntil, retryUntil)).isEqualTo(1);
+        assertThat(idempotencyRecordRepository.reclaimStale("a".repeat(64), "f".repeat(64), abandonedUntil, now.plusMinutes(2))).isZero();
+        entityManager.clear();
+
+        assertThat(idempotencyRecordRepository.findClaimWithLock("a".repeat(64), abandonedUntil)).isEmpty();
+        assertThat(idempotencyRecordRepository.release("a".repeat(64), abandonedUntil)).isZero();
+        assertThat(idempotencyRecordRepository.findClaimWithLock("a".repeat(64), retryUntil)).isPresent();
+        idempotencyRecordRepository.complete("a".repeat(64), 200, "{}", now.plusHours(24));
+        assertThat(idempotencyRecordRepository.reclaimStale("a".repeat(64), "f".repeat(64), retryUntil, now.plusMinutes(2))).isZero();
+    }
+
+    private IdempotencyRecord record(String keyHash, LocalDateTime expiresAt) {
+        return IdempotencyRecord.builder().keyHash(keyHash).fingerprint("f".repeat(64)).expiresAt(expiresAt).build();
+    }
+}
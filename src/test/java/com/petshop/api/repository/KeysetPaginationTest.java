@@ -0,0 +1,217 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.dto.response.CursorPageResponseDto;
+import com.petshop.api.dto.response.FinancialResponseDto;
+import com.petshop.api.dto.response.SaleResponseDto;
+import com.petshop.api.dto.response.StockMovementResponseDto;
+import com.petshop.api.model.entities.*;
+import com.petshop.api.model.enums.SalePaymentType;
+import com.petshop.api.model.enums.SaleStatus;
+import com.petshop.api.model.enums.TypeMovement;
+import com.petshop.api.service.FinancialService;
+import com.petshop.api.service.SaleService;
+import com.petshop.api.service.StockMovementService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class KeysetPaginationTest {
+
+    private static final int SALES = 47;
+    private static final int MOVEMENTS = 23;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private FinancialService financialService;
+
+    @Autowired
+    private StockMovementService stockMovementService;
+
+    private Statistics statistics;
+
+    private Product product;
+
+
+    @BeforeEach
+    void setUp() {
+        ProductCategory category = persist(ProductCategory.builder().name("Food").build());
+        product = persist(Product.builder()
+                .name("Ração")
+                .price(BigDecimal.TEN)
+                .quantityInStock(100)
+                .category(category)
+                .build());
+        Client client = persist(Client.builder()
+                .name("Client")
+                .cpf("00000000001")
+                .address(Address.builder().street("Rua A").city("Curitiba").state("PR").zipCode("80000-000").build())
+                .animals(new ArrayList<>())
+                .build());
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int s = 0; s < SALES; s++) {
+            Sale sale = Sale.builder()
+                    .client(client)
+                    .saleDate(base.plusMinutes(s / 3))
+                    .status(SaleStatus.COMPLETED)
+                    .paymentType(SalePaymentType.INSTALLMENTS)
+                    .totalValue(BigDecimal.TEN)
+                    .build();
+            sale.getProductSales().add(ProductSale.builder()
+                    .product(product)
+                    .quantity(1)
+                    .unitPrice(BigDecimal.TEN)
+                    .sale(sale)
+                    .build());
+            persist(sale);
+            persist(Financial.builder()
+                    .client(client)
+                    .sale(sale)
+                    .description("Sale installment")
+                    .amount(BigDecimal.TEN)
+                    .dateCreated(LocalDate.of(2025, 1, 1).plusDays(s / 5))
+                    .dueDate(LocalDate.of(2025, 2, 1))
+                    .isPaid(false)
+                    .installment(1)
+                    .build());
+        }
+        for (int m = 0; m < MOVEMENTS; m++) {
+            persist(StockMovement.builder()
+                    .product(product)
+                    .type(TypeMovement.INPUT)
+                    .quantity(1)
+                    .price(BigDecimal.ONE)
+                    .dateMovement(base.plusSeconds(m / 2))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+
+    @Test
+    @DisplayName("Should walk every sale once, newest first, even when sale dates tie")
+    void scrollSales_ShouldVisitEverySaleOnceInOrder() {
+
+        List<SaleResponseDto> visited = scrollAll(cursor -> saleService.scrollSales(cursor, 10));
+
+        assertThat(visited).hasSize(SALES);
+        assertThat(visited).extracting(SaleResponseDto::getId).doesNotHaveDuplicates();
+        assertThat(visited).extracting(SaleResponseDto::getSaleDate)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(visited).allSatisfy(sale -> assertThat(sale.getProductSales()).hasSize(1));
+    }
+
+
+    @Test
+    @DisplayName("Should fetch a deep sale page with the same statements as the first one")
+    void scrollSales_ShouldNotDependOnDepth() {
+
+        CursorPageResponseDto<SaleResponseDto> first = saleService.scrollSales(null, 10);
+        String deepCursor = first.getNextCursor();
+        for (int i = 0; i < 3; i++) {
+            deepCursor = saleService.scrollSales(deepCursor, 10).getNextCursor();
+        }
+        String cursor = deepCursor;
+
+        entityManager.clear();
+        statistics.clear();
+        saleService.scrollSales(null, 10);
+        long firstPage = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+        saleService.scrollSales(cursor, 10);
+        long deepPage = statistics.getPrepareStatementCount();
+
+        assertThat(deepPage).isEqualTo(firstPage);
+        assertThat(deepPage).isLessThanOrEqualTo(3);
+    }
+
+
+    @Test
+    @DisplayName("Should walk every financial entry once without a count query")
+    void scrollFinancial_ShouldVisitEveryEntryOnce() {
+
+        statistics.clear();
+        List<FinancialResponseDto> visited = scrollAll(cursor -> financialService.scrollFinancial(cursor, 10));
+
+        assertThat(visited).hasSize(SALES);
+        assertThat(visited).extracting(FinancialResponseDto::getId).doesNotHaveDuplicates();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+
+
+    @Test
+    @DisplayName("Should walk the stock history of a product and stop on the last page")
+    void getHistory_ShouldVisitEveryMovementOnce() {
+
+        CursorPageResponseDto<StockMovementResponseDto> lastPage;
+        List<StockMovementResponseDto> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            lastPage = stockMovementService.getHistory(product.getId(), cursor, 5);
+            visited.addAll(lastPage.getContent());
+            cursor = lastPage.getNextCursor();
+        } while (lastPage.isHasNext());
+
+        assertThat(visited).hasSize(MOVEMENTS);
+        assertThat(visited).extracting(StockMovementResponseDto::getId).doesNotHaveDuplicates();
+        assertThat(visited).extracting(StockMovementResponseDto::getDateMovement)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(lastPage.getSize()).isEqualTo(MOVEMENTS % 5);
+        assertThat(lastPage.getNextCursor()).isNull();
+        assertThat(stockMovementService.getHistory(UUID.randomUUID(), null, 5).getContent()).isEmpty();
+    }
+
+
+    private <T> List<T> scrollAll(Function<String, CursorPageResponseDto<T>> fetch) {
+        List<T> visited = new ArrayList<>();
+        String cursor = null;
+        CursorPageResponseDto<T> page;
+        do {
+            page = fetch.apply(cursor);
+            visited.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+        return visited;
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
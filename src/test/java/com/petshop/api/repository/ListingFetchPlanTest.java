@@ -0,0 +1,187 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.dto.response.ClientResponseDto;
+import com.petshop.api.dto.response.SaleResponseDto;
+import com.petshop.api.model.entities.*;
+import com.petshop.api.model.enums.SalePaymentType;
+import com.petshop.api.model.enums.SaleStatus;
+import com.petshop.api.service.ClientService;
+import com.petshop.api.service.FinancialService;
+import com.petshop.api.service.SaleService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ListingFetchPlanTest {
+
+    private static final int CLIENTS = 12;
+    private static final int SALES_PER_CLIENT = 5;
+    private static final int ITEMS_PER_SALE = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private FinancialService financialService;
+
+    @Autowired
+    private ClientService clientService;
+
+    private Statistics statistics;
+
+
+    @BeforeEach
+    void setUp() {
+        List<ProductCategory> categories = List.of(
+                persist(ProductCategory.builder().name("Food").build()),
+                persist(ProductCategory.builder().name("Toys").build())
+        );
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            products.add(persist(Product.builder()
+                    .name("Product " + i)
+                    .price(BigDecimal.TEN)
+                    .quantityInStock(100)
+                    .category(categories.get(i % categories.size()))
+                    .build()));
+        }
+
+        for (int c = 0; c < CLIENTS; c++) {
+            Client client = persist(Client.builder()
+                    .name("Client " + c)
+                    .cpf("0000000000" + c)
+                    .address(Address.builder().street("Rua A").city("Curitiba").state("PR").zipCode("80000-000").build())
+                    .animals(new ArrayList<>())
+                    .build());
+            for (int a = 0; a < 2; a++) {
+                Animal animal = Animal.builder().name("Pet " + a).species("Dog").client(client).build();
+                client.getAnimals().add(animal);
+                persist(animal);
+            }
+            for (int s = 0; s < SALES_PER_CLIENT; s++) {
+                Sale sale = Sale.builder()
+                        .client(client)
+                        .status(SaleStatus.COMPLETED)
+                        .paymentType(SalePaymentType.INSTALLMENTS)
+                        .totalValue(new BigDecimal("30.00"))
+                        .build();
+                for (int i = 0; i < ITEMS_PER_SALE; i++) {
+                    sale.getProductSales().add(ProductSale.builder()
+                            .product(products.get((s + i) % products.size()))
+                            .quantity(1)
+                            .unitPrice(BigDecimal.TEN)
+                            .sale(sale)
+                            .build());
+                }
+                persist(sale);
+                persist(Financial.builder()
+                        .client(client)
+                        .sale(sale)
+                        .description("Sale installment")
+                        .amount(new BigDecimal("30.00"))
+                        .dueDate(LocalDate.now().plusDays(30))
+                        .isPaid(false)
+                        .installment(1)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+
+    @Test
+    @DisplayName("Should list sales with a fixed number of statements whatever the page size")
+    void getAllSales_ShouldNotDependOnPageSize() {
+
+        long smallPage = countStatements(() -> saleService.getAllSales(PageRequest.of(0, 5)));
+        long largePage = countStatements(() -> saleService.getAllSales(PageRequest.of(0, 50)));
+
+        assertThat(largePage).isEqualTo(smallPage);
+        assertThat(largePage).isLessThanOrEqualTo(4);
+    }
+
+
+    @Test
+    @DisplayName("Should map every item of a listed sale")
+    void getAllSales_ShouldReturnProductSales() {
+
+        Page<SaleResponseDto> sales = saleService.getAllSales(PageRequest.of(0, 50));
+
+        assertThat(sales.getContent()).hasSize(50);
+        assertThat(sales.getContent()).allSatisfy(sale -> {
+            assertThat(sale.getClientName()).startsWith("Client ");
+            assertThat(sale.getProductSales()).hasSize(ITEMS_PER_SALE);
+        });
+    }
+
+
+    @Test
+    @DisplayName("Should list financial with a fixed number of statements whatever the page size")
+    void getAllFinancial_ShouldNotDependOnPageSize() {
+
+        long smallPage = countStatements(() -> financialService.getAllFinancial(PageRequest.of(0, 5)));
+        long largePage = countStatements(() -> financialService.getAllFinancial(PageRequest.of(0, 50)));
+
+        assertThat(largePage).isEqualTo(smallPage);
+        assertThat(largePage).isLessThanOrEqualTo(3);
+    }
+
+
+    @Test
+    @DisplayName("Should list clients and their animals with a fixed number of statements whatever the page size")
+    void getAllClients_ShouldNotDependOnPageSize() {
+
+        long smallPage = countStatements(() -> clientService.getAllClients(PageRequest.of(0, 3)));
+        long largePage = countStatements(() -> clientService.getAllClients(PageRequest.of(0, CLIENTS)));
+
+        assertThat(largePage).isEqualTo(smallPage);
+        assertThat(largePage).isLessThanOrEqualTo(3);
+
+        Page<ClientResponseDto> clients = clientService.getAllClients(PageRequest.of(0, CLIENTS));
+        assertThat(clients.getContent()).allSatisfy(client -> assertThat(client.getAnimals()).hasSize(2));
+    }
+
+
+    private long countStatements(Supplier<Page<?>> listing) {
+        entityManager.clear();
+        statistics.clear();
+        listing.get().getContent();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,80 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.dto.response.SearchResultDto;
+import com.petshop.api.model.entities.Address;
+import com.petshop.api.model.entities.Client;
+import com.petshop.api.model.enums.SearchTarget;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class NameSearchRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private NameSearchRepository nameSearchRepository;
+
+
+    @BeforeEach
+    void setUp() {
+        List<String> names = List.of("Ana Maria", "Mariana", "Joana", "Maria", "100% Maria_");
+        for (int i = 0; i < names.size(); i++) {
+            entityManager.persist(Client.builder()
+                    .name(names.get(i))
+                    .cpf("0000000000" + i)
+                    .address(Address.builder().street("Rua A").city("Curitiba").state("PR").zipCode("80000-000").build())
+                    .animals(new ArrayList<>())
+                    .build());
+        }
+        entityManager.flush();
+    }
+
+
+    @Test
+    @DisplayName("Should rank exact matches before prefixes before substrings")
+    void search_ShouldRankMatches() {
+
+        List<SearchResultDto> results = nameSearchRepository.search(SearchTarget.CLIENT, "maria", 10);
+
+        assertThat(results).extracting(SearchResultDto::getName)
+                .containsExactly("Maria", "Mariana", "100% Maria_", "Ana Maria");
+        assertThat(results.get(0).getScore()).isGreaterThan(results.get(1).getScore());
+        assertThat(results).allSatisfy(result -> assertThat(result.getType()).isEqualTo(SearchTarget.CLIENT));
+    }
+
+
+    @Test
+    @DisplayName("Should treat LIKE wildcards in the term literally")
+    void search_ShouldEscapeWildcards() {
+
+        assertThat(nameSearchRepository.search(SearchTarget.CLIENT, "0%", 10))
+                .extracting(SearchResultDto::getName)
+                .containsExactly("100% Maria_");
+        assertThat(nameSearchRepository.search(SearchTarget.CLIENT, "a_", 10))
+                .extracting(SearchResultDto::getName)
+                .containsExactly("100% Maria_");
+    }
+
+
+    @Test
+    @DisplayName("Should honour the result limit")
+    void search_ShouldLimitResults() {
+
+        assertThat(nameSearchRepository.search(SearchTarget.CLIENT, "a", 2)).hasSize(2);
+    }
+}
@@ -0,0 +1,143 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.OutboxEvent;
+import com.petshop.api.model.enums.OutboxEventType;
+import com.petshop.api.model.enums.OutboxStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+
+    @Test
+    @DisplayName("Should mark a pending event as processed only once")
+    void markProcessed_ShouldClaimPendingEventOnce() {
+
+        OutboxEvent event = outboxEventRepository.saveAndFlush(event());
+
+        assertThat(outboxEventRepository.markProcessed(event.getId(), LocalDateTime.now())).isEqualTo(1);
+        assertThat(outboxEventRepository.markProcessed(event.getId(), LocalDateTime.now())).isZero();
+        entityManager.clear();
+
+        assertThat(outboxEventRepository.findDeliverable(LocalDateTime.now(), Limit.of(100)))
+                .extracting(OutboxEvent::getId).doesNotContain(event.getId());
+        OutboxEvent processed = outboxEventRepository.findById(event.getId()).orElseThrow();
+        assertThat(processed.getStatus()).isEqualTo(OutboxStatus.PROCESSED);
+        assertThat(processed.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should park an event as failed once it reaches the maximum attempts")
+    void recordFailure_ShouldFailEventAfterMaxAttempts() {
+
+        OutboxEvent event = outboxEventRepository.saveAndFlush(event());
+
+        outboxEventRepository.recordFailure(event.getId(), "timeout", 2, LocalDateTime.now());
+        entityManager.clear();
+        assertThat(outboxEventRepository.findById(event.getId()).orElseThrow().getStatus()).isEqualTo(OutboxStatus.PENDING);
+
+        outboxEventRepository.recordFailure(event.getId(), "timeout", 2, LocalDateTime.now());
+        entityManager.clear();
+        OutboxEvent failed = outboxEventRepository.findById(event.getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(2);
+        assertThat(failed.getLastError()).isEqualTo("timeout");
+    }
+
+    @Test
+    @DisplayName("Should hold an event and the later events of its aggregate until the backoff elapses")
+    void findDeliverable_ShouldHoldAggregateBehindBackingOffEvent() {
+
+        UUID aggregateId = UUID.randomUUID();
+        OutboxEvent retrying = outboxEventRepository.saveAndFlush(event(aggregateId));
+        OutboxEvent later = outboxEventRepository.saveAndFlush(event(aggregateId));
+        OutboxEvent other = outboxEventRepository.saveAndFlush(event(UUID.randomUUID()));
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.recordFailure(retrying.getId(), "timeout", 10, now.plusSeconds(30));
+        entityManager.clear();
+
+        assertThat(outboxEventRepository.findDeliverable(now, Limit.of(100)))
+                .extracting(OutboxEvent::getId)
+                .contains(other.getId())
+                .doesNotContain(retrying.getId(), later.getId());
+        assertThat(outboxEventRepository.findDeliverable(now.plusMinutes(1), Limit.of(100)))
+                .extracting(OutboxEvent::getId)
+                .containsSubsequence(retrying.getId(), later.getId());
+    }
+
+    @Test
+    @DisplayName("Should hold the later events of an aggregate behind a failed event until it is re-driven")
+    void redrive_ShouldReleaseAggregateHeldBehindFailedEvent() {
+
+        UUID aggregateId = UUID.randomUUID();
+        OutboxEvent failed = outboxEventRepository.saveAndFlush(event(aggregateId));
+        OutboxEvent later = outboxEventRepository.saveAndFlush(event(aggregateId));
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.recordFailure(failed.getId(), "timeout", 1, now);
+        entityManager.clear();
+
+        assertThat(outboxEventRepository.findDeliverable(now.plusDays(1), Limit.of(100)))
+                .extracting(OutboxEvent::getId)
+                .doesNotContain(failed.getId(), later.getId());
+
+        assertThat(outboxEventRepository.redrive(failed.getId(), now)).isEqualTo(1);
+        assertThat(outboxEventRepository.redrive(failed.getId(), now)).isZero();
+        entityManager.clear();
+
+        OutboxEvent redriven = outboxEventRepository.findById(failed.getId()).orElseThrow();
+        assertThat(redriven.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(redriven.getAttempts()).isZero();
+        assertThat(outboxEventRepository.findDeliverable(now, Limit.of(100)))
+                .extracting(OutboxEvent::getId)
+                .containsSubsequence(failed.getId(), later.getId());
+    }
+
+    @Test
+    @DisplayName("Should delete only processed events older than the retention")
+    void deleteProcessedBefore_ShouldKeepPendingEvents() {
+
+        OutboxEvent processed = outboxEventRepository.saveAndFlush(event());
+        OutboxEvent pending = outboxEventRepository.saveAndFlush(event());
+        outboxEventRepository.markProcessed(processed.getId(), LocalDateTime.now().minusDays(8));
+
+        int deleted = outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minusDays(7));
+        entityManager.clear();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(outboxEventRepository.findById(processed.getId())).isEmpty();
+        assertThat(outboxEventRepository.findById(pending.getId())).isPresent();
+    }
+
+    private OutboxEvent event() {
+        return event(UUID.randomUUID());
+    }
+
+    private OutboxEvent event(UUID aggregateId) {
+        return OutboxEvent.builder()
+                .eventType(OutboxEventType.SALE_CREATED)
+                .aggregateType("Sale")
+                .aggregateId(aggregateId)
+                .payload("{}")
+                .build();
+    }
+}
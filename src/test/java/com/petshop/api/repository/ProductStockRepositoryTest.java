@@ -0,0 +1,104 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.Product;
+import com.petshop.api.model.entities.ProductCategory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ProductStockRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        ProductCategory category = ProductCategory.builder().name("Food").build();
+        entityManager.persist(category);
+        product = Product.builder().name("Dog Food 15kg").price(new BigDecimal("150.00")).quantityInStock(10).category(category).build();
+        entityManager.persist(product);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+
+    @Test
+    @DisplayName("Should decrement the stock only while the version is unchanged and the quantity is available")
+    void decrementStockIfUnchanged_ShouldRejectStaleVersionsAndDecrementsBelowZero() {
+
+        assertThat(productRepository.decrementStockIfUnchanged(product.getId(), 0L, 7)).isTrue();
+        assertThat(productRepository.decrementStockIfUnchanged(product.getId(), 0L, 1)).isFalse();
+        assertThat(productRepository.decrementStockIfUnchanged(product.getId(), 1L, 4)).isFalse();
+        assertThat(productRepository.decrementStockIfUnchanged(product.getId(), 1L, 3)).isTrue();
+        entityManager.clear();
+
+        Product updated = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(updated.getQuantityInStock()).isZero();
+        assertThat(updated.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should bump the product version when the stock is adjusted in bulk")
+    void adjustStock_ShouldIncrementVersion() {
+
+        productRepository.adjustStock(Map.of(product.getId(), 5));
+        entityManager.clear();
+
+        Product updated = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(updated.getQuantityInStock()).isEqualTo(15);
+        assertThat(updated.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should update products already loaded in the persistence context without reading them again")
+    void adjustStock_ShouldUpdateManagedProductsInMemory() {
+
+        Product loaded = productRepository.findById(product.getId()).orElseThrow();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        productRepository.adjustStock(Map.of(product.getId(), -4));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(loaded.getQuantityInStock()).isEqualTo(6);
+        assertThat(loaded.getVersion()).isEqualTo(1L);
+        entityManager.clear();
+        Product stored = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(stored.getQuantityInStock()).isEqualTo(6);
+        assertThat(stored.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should keep a loaded product in step with a successful conditional decrement")
+    void decrementStockIfUnchanged_ShouldUpdateManagedProductInMemory() {
+
+        Product loaded = productRepository.findById(product.getId()).orElseThrow();
+
+        assertThat(productRepository.decrementStockIfUnchanged(product.getId(), loaded.getVersion(), 3)).isTrue();
+        assertThat(productRepository.decrementStockIfUnchanged(product.getId(), loaded.getVersion(), 2)).isTrue();
+
+        assertThat(loaded.getQuantityInStock()).isEqualTo(5);
+        assertThat(loaded.getVersion()).isEqualTo(2L);
+    }
+}
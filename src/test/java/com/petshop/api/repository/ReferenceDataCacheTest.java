@@ -0,0 +1,131 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.dto.response.CacheRegionStatsDto;
+import com.petshop.api.exception.ResourceNotFoundException;
+import com.petshop.api.model.entities.MonetaryType;
+import com.petshop.api.model.entities.ProductCategory;
+import com.petshop.api.service.ReferenceCacheService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private MonetaryTypeRepository monetaryTypeRepository;
+
+    @Autowired
+    private ProductCategoryRepository productCategoryRepository;
+
+    @Autowired
+    private ReferenceCacheService referenceCacheService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    private UUID monetaryTypeId;
+
+    private UUID categoryId;
+
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        monetaryTypeId = transactionTemplate.execute(status ->
+                monetaryTypeRepository.save(MonetaryType.builder().name("PIX " + UUID.randomUUID()).build()).getId());
+        categoryId = transactionTemplate.execute(status ->
+                productCategoryRepository.save(ProductCategory.builder().name("Food").build()).getId());
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            monetaryTypeRepository.deleteById(monetaryTypeId);
+            productCategoryRepository.deleteById(categoryId);
+        });
+    }
+
+
+    @Test
+    @DisplayName("Should serve repeated reference lookups from the second-level cache")
+    void findById_ShouldHitCacheAfterFirstLoad() {
+
+        long firstLoad = statementsFor(() -> {
+            monetaryTypeRepository.findById(monetaryTypeId);
+            productCategoryRepository.findById(categoryId);
+        });
+        long secondLoad = statementsFor(() -> {
+            monetaryTypeRepository.findById(monetaryTypeId);
+            productCategoryRepository.findById(categoryId);
+        });
+
+        assertThat(firstLoad).isEqualTo(2);
+        assertThat(secondLoad).isZero();
+        assertThat(referenceCacheService.getRegionStats())
+                .filteredOn(stats -> stats.getRegion().equals("monetaryType"))
+                .singleElement()
+                .satisfies(stats -> {
+                    assertThat(stats.getHitCount()).isEqualTo(1);
+                    assertThat(stats.getMissCount()).isEqualTo(1);
+                });
+    }
+
+
+    @Test
+    @DisplayName("Should reload from the database after a region is evicted")
+    void evictRegion_ShouldForceReload() {
+
+        statementsFor(() -> monetaryTypeRepository.findById(monetaryTypeId));
+
+        referenceCacheService.evictRegion("monetaryType");
+
+        assertThat(statementsFor(() -> monetaryTypeRepository.findById(monetaryTypeId))).isEqualTo(1);
+        assertThat(referenceCacheService.getRegionStats()).extracting(CacheRegionStatsDto::getRegion)
+                .containsAll(ReferenceCacheService.REGIONS);
+    }
+
+
+    @Test
+    @DisplayName("Should reject unknown cache regions")
+    void evictRegion_ShouldThrowWhenRegionIsUnknown() {
+
+        assertThatThrownBy(() -> referenceCacheService.evictRegion("sales"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Cache region not found");
+    }
+
+
+    private long statementsFor(Runnable lookups) {
+        long before = statistics.getPrepareStatementCount();
+        transactionTemplate.executeWithoutResult(status -> lookups.run());
+        return statistics.getPrepareStatementCount() - before;
+    }
+}
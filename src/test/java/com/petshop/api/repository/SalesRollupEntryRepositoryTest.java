@@ -0,0 +1,83 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.Address;
+import com.petshop.api.model.entities.Client;
+import com.petshop.api.model.entities.Sale;
+import com.petshop.api.model.enums.SalePaymentType;
+import com.petshop.api.model.enums.SaleStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SalesRollupEntryRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SalesRollupEntryRepository salesRollupEntryRepository;
+
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        client = Client.builder()
+                .name("Maria")
+                .cpf("12345678900")
+                .address(Address.builder().street("Rua A").city("Curitiba").state("PR").zipCode("80000-000").build())
+                .build();
+        entityManager.persist(client);
+    }
+
+
+    @Test
+    @DisplayName("Should claim a sale only once and release it only once")
+    void claimAndRelease_ShouldBeIdempotent() {
+
+        Sale sale = sale(SaleStatus.COMPLETED);
+
+        assertThat(salesRollupEntryRepository.claim(sale.getId())).isTrue();
+        assertThat(salesRollupEntryRepository.claim(sale.getId())).isFalse();
+        assertThat(salesRollupEntryRepository.release(sale.getId())).isEqualTo(1);
+        assertThat(salesRollupEntryRepository.release(sale.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should list only completed sales that are not in the rollups yet")
+    void findUnrecordedSaleIds_ShouldSkipRecordedAndCanceledSales() {
+
+        Sale recorded = sale(SaleStatus.COMPLETED);
+        Sale pending = sale(SaleStatus.COMPLETED);
+        sale(SaleStatus.CANCELED);
+        salesRollupEntryRepository.claimAll(List.of(recorded.getId()));
+
+        assertThat(salesRollupEntryRepository.findUnrecordedSaleIds(10)).containsExactly(pending.getId());
+    }
+
+    private Sale sale(SaleStatus status) {
+        Sale sale = Sale.builder()
+                .client(client)
+                .saleDate(LocalDateTime.now())
+                .status(status)
+                .paymentType(SalePaymentType.CASH)
+                .totalValue(new BigDecimal("10.00"))
+                .build();
+        entityManager.persist(sale);
+        entityManager.flush();
+        return sale;
+    }
+}
@@ -0,0 +1,57 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.domain.report.SalesRollupDelta;
+import com.petshop.api.model.entities.SalesRollup;
+import com.petshop.api.model.enums.RollupDimension;
+import com.petshop.api.model.enums.RollupPeriod;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SalesRollupRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 14);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SalesRollupRepository salesRollupRepository;
+
+
+    @Test
+    @DisplayName("Should insert missing buckets and increment existing ones")
+    void applyDeltas_ShouldUpsertBuckets() {
+
+        salesRollupRepository.applyDeltas(List.of(delta("CASH", 1, 3, "30.00"), delta("INSTALLMENTS", 1, 1, "15.00")));
+        salesRollupRepository.applyDeltas(List.of(delta("CASH", 1, 2, "20.00")));
+        salesRollupRepository.applyDeltas(List.of(delta("CASH", -1, -3, "-30.00")));
+        entityManager.clear();
+
+        List<SalesRollup> rollups = salesRollupRepository.findByPeriodAndDimensionAndPeriodStartBetweenOrderByPeriodStartAscRevenueDesc(
+                RollupPeriod.DAILY, RollupDimension.PAYMENT_TYPE, DAY, DAY);
+
+        assertThat(rollups).extracting(SalesRollup::getDimensionKey).containsExactly("CASH", "INSTALLMENTS");
+        assertThat(rollups.get(0).getSaleCount()).isEqualTo(1);
+        assertThat(rollups.get(0).getQuantity()).isEqualTo(2);
+        assertThat(rollups.get(0).getRevenue()).isEqualByComparingTo("20.00");
+    }
+
+    private SalesRollupDelta delta(String key, long saleCount, long quantity, String revenue) {
+        return new SalesRollupDelta(RollupPeriod.DAILY, RollupDimension.PAYMENT_TYPE, DAY, key, key,
+                saleCount, quantity, new BigDecimal(revenue));
+    }
+}
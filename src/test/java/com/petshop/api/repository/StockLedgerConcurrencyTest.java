@@ -0,0 +1,158 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.domain.stock.StockMode;
+import com.petshop.api.domain.stock.StockProperties;
+import com.petshop.api.domain.validator.ValidatorEntities;
+import com.petshop.api.exception.InsufficientStockException;
+import com.petshop.api.model.entities.Product;
+import com.petshop.api.model.entities.ProductCategory;
+import com.petshop.api.model.entities.StockMovement;
+import com.petshop.api.model.mapper.StockMovementMapper;
+import com.petshop.api.service.OptimisticStockService;
+import com.petshop.api.service.OutboxService;
+import com.petshop.api.service.StockLedgerService;
+import com.petshop.api.service.StockMovementService;
+import com.petshop.api.service.StockReservationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StockLedgerConcurrencyTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCategoryRepository productCategoryRepository;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private StockSnapshotRepository stockSnapshotRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ValidatorEntities validatorEntities;
+
+    @Autowired
+    private StockMovementMapper stockMovementMapper;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private OptimisticStockService optimisticStockService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private StockLedgerService stockLedgerService;
+
+    private StockMovementService stockMovementService;
+
+    private UUID categoryId;
+
+    private UUID productId;
+
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        stockLedgerService = new StockLedgerService(stockSnapshotRepository,
+                new StockProperties(StockMode.LEDGER, null, null, null), transactionManager, new SimpleMeterRegistry());
+        stockMovementService = new StockMovementService(stockMovementRepository, productRepository, validatorEntities,
+                stockMovementMapper, stockLedgerService, stockReservationService, optimisticStockService, outboxService);
+        categoryId = transactionTemplate.execute(status ->
+                productCategoryRepository.save(ProductCategory.builder().name("Food").build()).getId());
+        productId = transactionTemplate.execute(status -> productRepository.save(Product.builder()
+                .name("Dog Food 15kg")
+                .price(new BigDecimal("150.00"))
+                .quantityInStock(5)
+                .category(productCategoryRepository.getReferenceById(categoryId))
+                .build()).getId());
+        transactionTemplate.executeWithoutResult(status -> stockLedgerService.ensureSnapshots(List.of(productId)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventRepository.deleteAll();
+            stockMovementRepository.deleteAll();
+            stockSnapshotRepository.deleteById(productId);
+            productRepository.deleteById(productId);
+            productCategoryRepository.deleteById(categoryId);
+        });
+    }
+
+
+    @Test
+    @DisplayName("Should let only one of two concurrent checkouts take the last units in ledger mode")
+    void registerOutputs_ShouldNotOversellUnderConcurrentCheckouts() throws Exception {
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> first = executor.submit(() -> checkout(start, 4));
+            Future<Boolean> second = executor.submit(() -> checkout(start, 4));
+            start.countDown();
+
+            assertThat(List.of(first.get(), second.get())).containsExactlyInAnyOrder(true, false);
+        } finally {
+            executor.shutdown();
+        }
+
+        Integer available = transactionTemplate.execute(status ->
+                stockLedgerService.availableStock(Set.of(productId)).get(productId));
+        assertThat(available).isEqualTo(1);
+    }
+
+    private boolean checkout(CountDownLatch start, int quantity) throws InterruptedException {
+        start.await();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Product product = productRepository.findById(productId).orElseThrow();
+                stockMovementService.registerOutputs(List.of(StockMovement.builder()
+                        .product(product)
+                        .quantity(quantity)
+                        .price(BigDecimal.TEN)
+                        .build()));
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            return true;
+        } catch (InsufficientStockException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.petshop.api.repository;
+
+import com.petshop.api.model.entities.Product;
+import com.petshop.api.model.entities.ProductCategory;
+import com.petshop.api.model.entities.StockMovement;
+import com.petshop.api.model.entities.StockSnapshot;
+import com.petshop.api.model.enums.TypeMovement;
+import com.petshop.api.model.generator.UuidV7Generator;
+import com.petshop.api.repository.projection.LedgerBalance;
+import com.petshop.api.repository.projection.LedgerMismatch;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StockSnapshotRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StockSnapshotRepository stockSnapshotRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        ProductCategory category = ProductCategory.builder().name("Food").build();
+        entityManager.persist(category);
+        product = Product.builder().name("Dog Food 15kg").price(new BigDecimal("150.00")).quantityInStock(10).category(category).build();
+        entityManager.persist(product);
+        movement(TypeMovement.INPUT, 4);
+        entityManager.flush();
+    }
+
+
+    @Test
+    @DisplayName("Should open snapshots from the product counter, add later movements and detect drift")
+    void ledger_ShouldKeepSnapshotAndMovementsInAgreement() {
+
+        stockSnapshotRepository.openMissingSnapshots(List.of(product.getId()), UuidV7Generator.nextId(), LocalDateTime.now());
+        movement(TypeMovement.OUTPUT, 3);
+        movement(TypeMovement.INPUT, 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        StockSnapshot opened = stockSnapshotRepository.findById(product.getId()).orElseThrow();
+        assertThat(opened.getQuantity()).isEqualTo(10);
+        assertThat(opened.getBaseline()).isEqualTo(6);
+        LedgerBalance balance = stockSnapshotRepository.findBalances(List.of(product.getId())).get(0);
+        assertThat(balance.getSnapshotQuantity()).isEqualTo(10);
+        assertThat(balance.getLedgerDelta()).isEqualTo(-2L);
+
+        UUID first = new UUID(0L, 0L);
+        List<UUID> range = stockSnapshotRepository.lockSnapshotRange(first, 500);
+        assertThat(range).contains(product.getId());
+        stockSnapshotRepository.advanceSnapshots(first, range.getLast(), UuidV7Generator.lowerBound(System.currentTimeMillis() + 1000), LocalDateTime.now());
+        stockSnapshotRepository.refreshProductCounters(first, range.getLast());
+        entityManager.clear();
+
+        assertThat(stockSnapshotRepository.findById(product.getId()).orElseThrow().getQuantity()).isEqualTo(8);
+        assertThat(stockSnapshotRepository.findBalances(List.of(product.getId())).get(0).getLedgerDelta()).isZero();
+        assertThat(entityManager.find(Product.class, product.getId()).getQuantityInStock()).isEqualTo(8);
+        assertThat(stockSnapshotRepository.findLedgerMismatches()).isEmpty();
+
+        stockSnapshotRepository.correctQuantity(product.getId(), 99);
+        entityManager.clear();
+
+        List<LedgerMismatch> mismatches = stockSnapshotRepository.findLedgerMismatches(List.of(product.getId()));
+        assertThat(mismatches).singleElement().satisfies(mismatch -> {
+            assertThat(mismatch.getSnapshotQuantity()).isEqualTo(99);
+            assertThat(mismatch.getLedgerQuantity()).isEqualTo(8L);
+        });
+    }
+
+    private void movement(TypeMovement type, int quantity) {
+        entityManager.persist(StockMovement.builder()
+                .product(product)
+                .type(type)
+                .quantity(quantity)
+                .price(BigDecimal.TEN)
+                .build());
+    }
+}
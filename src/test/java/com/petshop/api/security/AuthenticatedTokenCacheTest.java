@@ -0,0 +1,112 @@
+package com.petshop.api.security;
+
+import com.petshop.api.model.entities.User;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticatedTokenCacheTest {
+
+    private static final String SECRET = "edf9e4b72f5adbb59fe0a45024895ae6f5425c73c846e890a150a59d506ae8b2";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtService jwtService;
+
+    private AuthenticatedTokenCache authenticatedTokenCache;
+
+    private User user;
+
+
+    @BeforeEach
+    void setUp() {
+        jwtService = spy(new JwtService(SECRET, 60_000));
+        authenticatedTokenCache = new AuthenticatedTokenCache(jwtService, userDetailsService, 100, Duration.ofMinutes(5));
+        user = User.builder().name("Ana").email("ana@petshop.com").password("hash").build();
+    }
+
+
+    @Test
+    @DisplayName("Should verify the token and load the user only once for repeated requests")
+    void resolve_ShouldCacheVerifiedToken() {
+
+        String token = jwtService.generateToken(user);
+        when(userDetailsService.loadUserByUsername("ana@petshop.com")).thenReturn(user);
+
+        Optional<UserDetails> first = authenticatedTokenCache.resolve(token);
+        Optional<UserDetails> second = authenticatedTokenCache.resolve(token);
+
+        assertThat(first).contains(user);
+        assertThat(second).contains(user);
+        verify(jwtService, times(1)).extractAllClaims(token);
+        verify(userDetailsService, times(1)).loadUserByUsername("ana@petshop.com");
+    }
+
+
+    @Test
+    @DisplayName("Should not cache tokens whose subject does not match the loaded user")
+    void resolve_ShouldRejectMismatchedUser() {
+
+        String token = jwtService.generateToken(user);
+        User other = User.builder().email("other@petshop.com").build();
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(other);
+
+        assertThat(authenticatedTokenCache.resolve(token)).isEmpty();
+        assertThat(authenticatedTokenCache.resolve(token)).isEmpty();
+        assertThat(authenticatedTokenCache.size()).isZero();
+        verify(userDetailsService, times(2)).loadUserByUsername("ana@petshop.com");
+    }
+
+
+    @Test
+    @DisplayName("Should reject tampered and expired tokens without touching the user store")
+    void resolve_ShouldThrowForInvalidTokens() {
+
+        String token = jwtService.generateToken(user);
+        String expired = new JwtService(SECRET, -1_000).generateToken(user);
+
+        assertThatThrownBy(() -> authenticatedTokenCache.resolve(token + "x"))
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> authenticatedTokenCache.resolve(expired))
+                .isInstanceOf(ExpiredJwtException.class);
+        verifyNoInteractions(userDetailsService);
+    }
+
+
+    @Test
+    @DisplayName("Should reload only the evicted user's details after a change")
+    void evict_ShouldForceReloadOfChangedUser() {
+
+        User other = User.builder().name("Bia").email("bia@petshop.com").password("hash").build();
+        String token = jwtService.generateToken(user);
+        String otherToken = jwtService.generateToken(other);
+        when(userDetailsService.loadUserByUsername("ana@petshop.com")).thenReturn(user);
+        when(userDetailsService.loadUserByUsername("bia@petshop.com")).thenReturn(other);
+
+        authenticatedTokenCache.resolve(token);
+        authenticatedTokenCache.resolve(otherToken);
+        authenticatedTokenCache.evict(user);
+        authenticatedTokenCache.resolve(token);
+        authenticatedTokenCache.resolve(otherToken);
+
+        verify(userDetailsService, times(2)).loadUserByUsername("ana@petshop.com");
+        verify(userDetailsService, times(1)).loadUserByUsername("bia@petshop.com");
+    }
+}
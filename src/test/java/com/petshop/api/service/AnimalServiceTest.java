@@ -1,5 +1,6 @@
 package com.petshop.api.service;
 
+import com.petshop.api.domain.search.AutocompleteIndex;
 import com.petshop.api.domain.validator.ValidatorEntities;
 import com.petshop.api.dto.request.CreateAnimalDto;
 import com.petshop.api.dto.response.AnimalResponseDto;
@@ -46,6 +47,9 @@ class AnimalServiceTest {
     @Mock
     private ValidatorEntities validatorEntities;
 
+    @Mock
+    private AutocompleteIndex autocompleteIndex;
+
 
     @Test
     @DisplayName("Should return a page of animals")
@@ -169,6 +173,7 @@ class AnimalServiceTest {
 
         assertThat(result).isNotNull();
         verify(animalRepository).save(animal);
+        verify(autocompleteIndex).indexAnimal(savedAnimal);
 
     }
 
@@ -211,6 +216,7 @@ class AnimalServiceTest {
         animalService.deleteAnimal(id);
 
         verify(animalRepository).delete(animal);
+        verify(autocompleteIndex).remove(id);
 
     }
 
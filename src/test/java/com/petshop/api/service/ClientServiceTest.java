@@ -1,5 +1,6 @@
 package com.petshop.api.service;
 
+import com.petshop.api.domain.search.AutocompleteIndex;
 import com.petshop.api.domain.validator.ValidatorEntities;
 import com.petshop.api.dto.request.CreateClientDto;
 import com.petshop.api.dto.update.UpdateClientDto;
@@ -9,6 +10,7 @@ import com.petshop.api.exception.BusinessException;
 import com.petshop.api.exception.CpfAlreadyExistsException;
 import com.petshop.api.exception.ResourceNotFoundException;
 import com.petshop.api.model.entities.Address;
+import com.petshop.api.model.entities.Animal;
 import com.petshop.api.model.entities.Client;
 import com.petshop.api.model.mapper.AddressMapper;
 import com.petshop.api.model.mapper.ClientMapper;
@@ -55,6 +57,9 @@ class ClientServiceTest {
     @Mock
     private ValidatorEntities validatorEntities;
 
+    @Mock
+    private AutocompleteIndex autocompleteIndex;
+
 
     @Test
     @DisplayName("Should return a page of clients")
@@ -155,6 +160,7 @@ class ClientServiceTest {
 
         assertThat(result).isNotNull();
         verify(clientRepository).save(client);
+        verify(autocompleteIndex).indexClient(savedClient);
     }
 
     @Test
@@ -209,6 +215,11 @@ class ClientServiceTest {
         UUID id = UUID.randomUUID();
         Client client = new Client();
         client.setId(id);
+        Animal rex = new Animal();
+        rex.setId(UUID.randomUUID());
+        Animal thor = new Animal();
+        thor.setId(UUID.randomUUID());
+        client.setAnimals(List.of(rex, thor));
 
         when(validatorEntities.validate(id, clientRepository, "Client")).thenReturn(client);
         when(medicalAppointmentRepository.existsByClient(client)).thenReturn(false);
@@ -216,6 +227,9 @@ class ClientServiceTest {
         clientService.deleteClient(id);
 
         verify(clientRepository).delete(client);
+        verify(autocompleteIndex).remove(id);
+        verify(autocompleteIndex).remove(rex.getId());
+        verify(autocompleteIndex).remove(thor.getId());
     }
 
     @Test
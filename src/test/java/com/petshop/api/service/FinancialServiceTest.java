@@ -27,6 +27,7 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -65,6 +66,9 @@ class FinancialServiceTest {
     @Mock
     private FinancialPaymentGenerator paymentGenerator;
 
+    @Mock
+    private OutboxService outboxService;
+
 
     @Test
     @DisplayName("Should return financial when ID exists")
@@ -75,13 +79,13 @@ class FinancialServiceTest {
         financial.setId(id);
         FinancialResponseDto responseDto = new FinancialResponseDto();
 
-        when(validatorEntities.validate(id, financialRepository, "Financial")).thenReturn(financial);
+        when(financialRepository.findDetailById(id)).thenReturn(Optional.of(financial));
         when(financialMapper.toResponseDto(financial)).thenReturn(responseDto);
 
         FinancialResponseDto result = financialService.getFinancialById(id);
 
         assertThat(result).isNotNull();
-        verify(validatorEntities).validate(id, financialRepository, "Financial");
+        verify(financialRepository).findDetailById(id);
     }
 
 
@@ -183,7 +187,7 @@ class FinancialServiceTest {
         FinancialPayment paymentEntity = new FinancialPayment();
         MonetaryType monetaryType = new MonetaryType();
 
-        when(validatorEntities.validate(id, financialRepository, "Financial")).thenReturn(financial);
+        when(financialRepository.findForPaymentById(id)).thenReturn(Optional.of(financial));
         when(financialMapper.toPaymentEntity(paymentDto)).thenReturn(paymentEntity);
         when(validatorEntities.validate(paymentDto.getMonetaryTypeId(), monetaryTypeRepository, "Monetary Type")).thenReturn(monetaryType);
         when(financialRepository.save(financial)).thenReturn(financial);
@@ -207,7 +211,7 @@ class FinancialServiceTest {
         Financial financial = new Financial();
         financial.setBalance(new BigDecimal("100.00"));
 
-        when(validatorEntities.validate(id, financialRepository, "Financial")).thenReturn(financial);
+        when(financialRepository.findForPaymentById(id)).thenReturn(Optional.of(financial));
 
         assertThatThrownBy(() -> financialService.payFinancial(id, paymentDto))
                 .isInstanceOf(BusinessException.class)
@@ -227,8 +231,7 @@ class FinancialServiceTest {
         Financial financial = new Financial();
         payment.setFinancial(financial);
 
-        when(validatorEntities.validate(paymentId, financialPaymentRepository, "Financial Payment"))
-                .thenReturn(payment);
+        when(financialPaymentRepository.findForRefundById(paymentId)).thenReturn(Optional.of(payment));
         when(financialRepository.save(financial)).thenReturn(financial);
         when(financialMapper.toResponseDto(financial)).thenReturn(new FinancialResponseDto());
 
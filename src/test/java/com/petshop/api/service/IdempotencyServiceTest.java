@@ -0,0 +1,328 @@
+package com.petshop.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petshop.api.domain.idempotency.IdempotencyProperties;
+import com.petshop.api.dto.request.CreateFinancialPaymentDto;
+import com.petshop.api.dto.response.FinancialResponseDto;
+import com.petshop.api.exception.IdempotencyConflictException;
+import com.petshop.api.exception.InsufficientStockException;
+import com.petshop.api.exception.InvalidIdempotencyKeyException;
+import com.petshop.api.model.entities.IdempotencyRecord;
+import com.petshop.api.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String OPERATION = "PATCH /api/v1/financial/payment/1";
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<IdempotencyRecord> recordCaptor;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyService idempotencyService;
+    private CreateFinancialPaymentDto payment;
+    private AtomicInteger executions;
+
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        idempotencyService = newService();
+        payment = new CreateFinancialPaymentDto();
+        payment.setPaidAmount(new BigDecimal("50.00"));
+        payment.setPaymentDate(LocalDate.of(2025, 3, 10));
+        executions = new AtomicInteger();
+    }
+
+
+    @Test
+    @DisplayName("Should run the action directly when no Idempotency-Key is sent")
+    void execute_ShouldRunAction_WhenKeyIsMissing() {
+
+        ResponseEntity<FinancialResponseDto> response = execute(null, payment);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(executions).hasValue(1);
+        verifyNoInteractions(idempotencyRecordRepository);
+    }
+
+    @Test
+    @DisplayName("Should store the response and replay it from the front cache without running the action again")
+    void execute_ShouldReplayFromCache_WhenKeyIsRepeated() {
+
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.findClaimWithLock(anyString(), any())).thenReturn(Optional.of(new IdempotencyRecord()));
+
+        ResponseEntity<FinancialResponseDto> first = execute("pos-7-0001", payment);
+        ResponseEntity<FinancialResponseDto> replay = execute("pos-7-0001", payment);
+
+        assertThat(executions).hasValue(1);
+        verify(idempotencyRecordRepository).saveAndFlush(recordCaptor.capture());
+        assertThat(recordCaptor.getValue().getResponseStatus()).isNull();
+        verify(idempotencyRecordRepository).complete(eq(recordCaptor.getValue().getKeyHash()), eq(200), anyString(), any());
+        assertThat(replay.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replay.getBody().getId()).isEqualTo(first.getBody().getId());
+        assertThat(replay.getBody().getIsPaid()).isTrue();
+        assertThat(meterRegistry.get("petshop.idempotency.replays").tag("source", "cache").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should replay a response completed by another instance from the table")
+    void execute_ShouldReplayFromDatabase_WhenResponseIsStored() {
+
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.findClaimWithLock(anyString(), any())).thenReturn(Optional.of(new IdempotencyRecord()));
+        ResponseEntity<FinancialResponseDto> first = execute("pos-7-0002", payment);
+        verify(idempotencyRecordRepository).saveAndFlush(recordCaptor.capture());
+        IdempotencyRecord stored = recordCaptor.getValue();
+        stored.setResponseStatus(200);
+        stored.setResponseBody(toJson(first.getBody()));
+        stored.setExpiresAt(LocalDateTime.now().plusHours(1));
+        when(idempotencyRecordRepository.findById(stored.getKeyHash())).thenReturn(Optional.of(stored));
+
+        ResponseEntity<FinancialResponseDto> replay = newService().execute("pos-7-0002", OPERATION, payment,
+                FinancialResponseDto.class, HttpStatus.OK, action());
+
+        assertThat(executions).hasValue(1);
+        assertThat(replay.getBody().getId()).isEqualTo(first.getBody().getId());
+        assertThat(meterRegistry.get("petshop.idempotency.replays").tag("source", "database").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a repeated key sent with a different request body")
+    void execute_ShouldThrowException_WhenFingerprintDiffers() {
+
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.findClaimWithLock(anyString(), any())).thenReturn(Optional.of(new IdempotencyRecord()));
+        execute("pos-7-0003", payment);
+        CreateFinancialPaymentDto other = new CreateFinancialPaymentDto();
+        other.setPaidAmount(new BigDecimal("80.00"));
+        other.setPaymentDate(LocalDate.of(2025, 3, 10));
+
+        assertThatThrownBy(() -> execute("pos-7-0003", other))
+                .isInstanceOf(InvalidIdempotencyKeyException.class)
+                .hasMessage("Idempotency-Key was already used with a different request");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a repeated key while the first request is still running")
+    void execute_ShouldThrowException_WhenRequestIsInProgress() {
+
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.findClaimWithLock(anyString(), any())).thenReturn(Optional.of(new IdempotencyRecord()));
+        execute("pos-7-0004", payment);
+        verify(idempotencyRecordRepository).saveAndFlush(recordCaptor.capture());
+        IdempotencyRecord inProgress = recordCaptor.getValue();
+        inProgress.setExpiresAt(LocalDateTime.now().plusMinutes(1));
+        when(idempotencyRecordRepository.findById(inProgress.getKeyHash())).thenReturn(Optional.of(inProgress));
+
+        assertThatThrownBy(() -> newService().execute("pos-7-0004", OPERATION, payment, FinancialResponseDto.class,
+                HttpStatus.OK, action()))
+                .isInstanceOfSatisfying(IdempotencyConflictException.class, conflict ->
+                        assertThat(conflict.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(1)));
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should let a retry take over a key whose first request crashed after claiming it")
+    void execute_ShouldTakeOverStaleClaim_WhenFirstRequestCrashed() {
+
+        IdempotencyRecord abandoned = IdempotencyRecord.builder()
+                .keyHash("a".repeat(64))
+                .fingerprint(fingerprint())
+                .expiresAt(LocalDateTime.now().minusSeconds(5).truncatedTo(ChronoUnit.MILLIS))
+                .build();
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.of(abandoned));
+        when(idempotencyRecordRepository.reclaimStale(anyString(), eq(fingerprint()), eq(abandoned.getExpiresAt()), any()))
+                .thenReturn(1);
+        when(idempotencyRecordRepository.findClaimWithLock(anyString(), any())).thenReturn(Optional.of(abandoned));
+
+        ResponseEntity<FinancialResponseDto> response = execute("pos-7-0006", payment);
+
+        ArgumentCaptor<LocalDateTime> lockedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(idempotencyRecordRepository).reclaimStale(anyString(), anyString(), any(), lockedUntil.capture());
+        assertThat(lockedUntil.getValue()).isAfter(LocalDateTime.now());
+        verify(idempotencyRecordRepository).findClaimWithLock(anyString(), eq(lockedUntil.getValue()));
+        verify(idempotencyRecordRepository).complete(anyString(), eq(200), anyString(), any());
+        verify(idempotencyRecordRepository, never()).saveAndFlush(any());
+        assertThat(executions).hasValue(1);
+        assertThat(response.getHeaders().containsKey(IdempotencyService.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject a retry when another request took over the stale claim first")
+    void execute_ShouldThrowException_WhenStaleClaimWasTakenOverElsewhere() {
+
+        IdempotencyRecord abandoned = IdempotencyRecord.builder()
+                .keyHash("a".repeat(64))
+                .fingerprint(fingerprint())
+                .expiresAt(LocalDateTime.now().minusSeconds(5))
+                .build();
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.of(abandoned));
+        when(idempotencyRecordRepository.reclaimStale(anyString(), anyString(), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> execute("pos-7-0010", payment))
+                .isInstanceOf(IdempotencyConflictException.class);
+
+        assertThat(executions).hasValue(0);
+        verify(idempotencyRecordRepository, never()).findClaimWithLock(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should claim again a completed key whose response is past the TTL")
+    void execute_ShouldReclaimExpiredCompletedKey() {
+
+        IdempotencyRecord expired = IdempotencyRecord.builder()
+                .keyHash("a".repeat(64))
+                .fingerprint(fingerprint())
+                .responseStatus(200)
+                .responseBody("{}")
+                .expiresAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.of(expired));
+        when(idempotencyRecordRepository.reclaimExpired(anyString(), anyString(), any(), any())).thenReturn(1);
+        when(idempotencyRecordRepository.findClaimWithLock(anyString(), any())).thenReturn(Optional.of(expired));
+
+        ResponseEntity<FinancialResponseDto> response = execute("pos-7-0007", payment);
+
+        assertThat(executions).hasValue(1);
+        assertThat(response.getHeaders().containsKey(IdempotencyService.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should run the action and store its response in the same transaction")
+    void execute_ShouldCompleteKeyInsideActionTransaction() {
+
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.findClaimWithLock(anyString(), any())).thenReturn(Optional.of(new IdempotencyRecord()));
+
+        execute("pos-7-0008", payment);
+
+        InOrder inOrder = inOrder(idempotencyRecordRepository, transactionManager);
+        inOrder.verify(idempotencyRecordRepository).saveAndFlush(any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(idempotencyRecordRepository).findClaimWithLock(anyString(), any());
+        inOrder.verify(idempotencyRecordRepository).complete(anyString(), eq(200), anyString(), any());
+        inOrder.verify(transactionManager).commit(any());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse to run the action when its claim was removed before the transaction started")
+    void execute_ShouldThrowException_WhenClaimWasLost() {
+
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.findClaimWithLock(anyString(), any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> execute("pos-7-0009", payment))
+                .isInstanceOf(IdempotencyConflictException.class);
+
+        assertThat(executions).hasValue(0);
+        verify(idempotencyRecordRepository, never()).release(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should release the key when the action fails so the client can retry")
+    void execute_ShouldReleaseKey_WhenActionFails() {
+
+        when(idempotencyRecordRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(idempotencyRecordRepository.findClaimWithLock(anyString(), any())).thenReturn(Optional.of(new IdempotencyRecord()));
+
+        assertThatThrownBy(() -> idempotencyService.execute("pos-7-0005", OPERATION, payment, FinancialResponseDto.class,
+                HttpStatus.OK, () -> {
+                    throw new InsufficientStockException("Not enough stock");
+                }))
+                .isInstanceOf(InsufficientStockException.class);
+
+        verify(idempotencyRecordRepository).release(anyString(), any());
+        verify(idempotencyRecordRepository, never()).complete(anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject keys longer than 255 characters")
+    void execute_ShouldThrowException_WhenKeyIsTooLong() {
+
+        assertThatThrownBy(() -> execute("k".repeat(256), payment))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        verifyNoInteractions(idempotencyRecordRepository);
+    }
+
+    private ResponseEntity<FinancialResponseDto> execute(String key, CreateFinancialPaymentDto request) {
+        return idempotencyService.execute(key, OPERATION, request, FinancialResponseDto.class, HttpStatus.OK, action());
+    }
+
+    private Supplier<FinancialResponseDto> action() {
+        return () -> {
+            executions.incrementAndGet();
+            FinancialResponseDto paid = new FinancialResponseDto();
+            paid.setId(UUID.randomUUID());
+            paid.setIsPaid(true);
+            paid.setPaymentDate(LocalDate.of(2025, 3, 10));
+            return paid;
+        };
+    }
+
+    private IdempotencyService newService() {
+        return new IdempotencyService(idempotencyRecordRepository, objectMapper,
+                new IdempotencyProperties(null, null, null, null), transactionManager, meterRegistry);
+    }
+
+    private String fingerprint() {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest((OPERATION + "\n" + toJson(payment)).getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -97,13 +98,13 @@ class MedicalAppointmentServiceTest {
         appointment.setId(id);
         MedicalAppointmentResponseDto responseDto = new MedicalAppointmentResponseDto();
 
-        when(validatorEntities.validate(id, medicalAppointmentRepository, "Medical Appointment")).thenReturn(appointment);
+        when(medicalAppointmentRepository.findDetailById(id)).thenReturn(Optional.of(appointment));
         when(medicalAppointmentMapper.toResponseDto(appointment)).thenReturn(responseDto);
 
         MedicalAppointmentResponseDto result = medicalAppointmentService.getMedicalAppointmentById(id);
 
         assertThat(result).isNotNull();
-        verify(validatorEntities).validate(id, medicalAppointmentRepository, "Medical Appointment");
+        verify(medicalAppointmentRepository).findDetailById(id);
     }
 
 
@@ -0,0 +1,120 @@
+package com.petshop.api.service;
+
+import com.petshop.api.domain.stock.StockMode;
+import com.petshop.api.domain.stock.StockProperties;
+import com.petshop.api.exception.InsufficientStockException;
+import com.petshop.api.metrics.LockWaitMetricsListener;
+import com.petshop.api.model.entities.Product;
+import com.petshop.api.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticStockServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticStockService optimisticStockService;
+    private Product dogFood;
+    private Product shampoo;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        optimisticStockService = new OptimisticStockService(productRepository,
+                new StockProperties(StockMode.OPTIMISTIC, null, null, null), entityManager, meterRegistry);
+        dogFood = product(new UUID(0, 2), "Dog Food 15kg", 10, 7L);
+        shampoo = product(new UUID(0, 1), "Shampoo", 4, 4L);
+    }
+
+
+    @Test
+    @DisplayName("Should be enabled only in optimistic mode")
+    void isEnabled_ShouldFollowConfiguredMode() {
+
+        OptimisticStockService counterMode = new OptimisticStockService(productRepository,
+                new StockProperties(StockMode.COUNTER, null, null, null), entityManager, meterRegistry);
+
+        assertThat(optimisticStockService.isEnabled()).isTrue();
+        assertThat(counterMode.isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should decrement each product against its loaded version in id order and time the updates")
+    void decrement_ShouldUpdateProductsInIdOrder() {
+
+        when(productRepository.decrementStockIfUnchanged(any(), anyLong(), anyInt())).thenReturn(true);
+
+        optimisticStockService.decrement(Map.of(dogFood.getId(), 3, shampoo.getId(), 1),
+                Map.of(dogFood.getId(), dogFood, shampoo.getId(), shampoo));
+
+        InOrder inOrder = inOrder(productRepository);
+        inOrder.verify(productRepository).decrementStockIfUnchanged(shampoo.getId(), 4L, 1);
+        inOrder.verify(productRepository).decrementStockIfUnchanged(dogFood.getId(), 7L, 3);
+        verifyNoInteractions(entityManager);
+        assertThat(meterRegistry.get(LockWaitMetricsListener.METRIC_NAME).tag("mode", "OPTIMISTIC").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should throw InsufficientStockException with the current quantity when the conditional update matches no row")
+    void decrement_ShouldThrowException_WhenStockIsNoLongerAvailable() {
+
+        when(productRepository.decrementStockIfUnchanged(shampoo.getId(), 4L, 5)).thenReturn(false);
+        doAnswer(invocation -> {
+            shampoo.setQuantityInStock(2);
+            return null;
+        }).when(entityManager).refresh(shampoo);
+
+        assertThatThrownBy(() -> optimisticStockService.decrement(Map.of(dogFood.getId(), 3, shampoo.getId(), 5),
+                Map.of(dogFood.getId(), dogFood, shampoo.getId(), shampoo)))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessage("Not enough stock for product Shampoo. Requested: 5, Available: 2");
+
+        verify(productRepository, never()).decrementStockIfUnchanged(eq(dogFood.getId()), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should throw a retryable conflict when another checkout changed the product version first")
+    void decrement_ShouldThrowConflict_WhenVersionChanged() {
+
+        when(productRepository.decrementStockIfUnchanged(shampoo.getId(), 4L, 1)).thenReturn(false);
+        doAnswer(invocation -> {
+            shampoo.setQuantityInStock(3);
+            shampoo.setVersion(5L);
+            return null;
+        }).when(entityManager).refresh(shampoo);
+
+        assertThatThrownBy(() -> optimisticStockService.decrement(Map.of(shampoo.getId(), 1), Map.of(shampoo.getId(), shampoo)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    private Product product(UUID id, String name, int quantity, long version) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setQuantityInStock(quantity);
+        product.setVersion(version);
+        return product;
+    }
+}
@@ -0,0 +1,199 @@
+package com.petshop.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petshop.api.domain.outbox.OutboxEventHandler;
+import com.petshop.api.domain.outbox.OutboxPayloadMapper;
+import com.petshop.api.domain.outbox.OutboxProperties;
+import com.petshop.api.domain.outbox.StockChangedEvent;
+import com.petshop.api.exception.ResourceNotFoundException;
+import com.petshop.api.model.entities.OutboxEvent;
+import com.petshop.api.model.enums.OutboxEventType;
+import com.petshop.api.model.enums.OutboxStatus;
+import com.petshop.api.model.enums.TypeMovement;
+import com.petshop.api.model.generator.UuidV7Generator;
+import com.petshop.api.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxEventHandler handler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<OutboxEvent> eventCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxService outboxService;
+
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(handler.eventTypes()).thenReturn(Set.of(OutboxEventType.SALE_CREATED));
+        outboxService = new OutboxService(outboxEventRepository, new OutboxPayloadMapper(new ObjectMapper()),
+                new OutboxProperties(null, null, 2, null, null, null, null, null), List.of(handler), transactionManager,
+                meterRegistry, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxService.shutdown();
+    }
+
+
+    @Test
+    @DisplayName("Should store the event as a pending row with the serialized payload")
+    void append_ShouldSavePendingEvent() {
+
+        UUID productId = UUID.randomUUID();
+
+        outboxService.append(OutboxEventType.STOCK_CHANGED, "Product", productId,
+                new StockChangedEvent(productId, TypeMovement.OUTPUT, 3));
+
+        verify(outboxEventRepository).save(eventCaptor.capture());
+        OutboxEvent saved = eventCaptor.getValue();
+        assertThat(saved.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(saved.getAggregateId()).isEqualTo(productId);
+        assertThat(saved.getAttempts()).isZero();
+        assertThat(saved.getPayload()).contains("\"type\":\"OUTPUT\"", "\"quantity\":3");
+    }
+
+    @Test
+    @DisplayName("Should deliver the events of each aggregate in the order they were written")
+    void dispatch_ShouldDeliverEventsInOrderPerAggregate() {
+
+        UUID saleA = UUID.randomUUID();
+        UUID saleB = UUID.randomUUID();
+        OutboxEvent first = event(saleA);
+        OutboxEvent second = event(saleB);
+        OutboxEvent third = event(saleA);
+        when(outboxEventRepository.findDeliverable(any(), eq(Limit.of(200))))
+                .thenReturn(List.of(first, second, third));
+        when(outboxEventRepository.markProcessed(any(), any())).thenReturn(1);
+
+        int delivered = outboxService.dispatch();
+
+        assertThat(delivered).isEqualTo(3);
+        InOrder order = inOrder(handler);
+        order.verify(handler).handle(first);
+        order.verify(handler).handle(third);
+        verify(handler).handle(second);
+        assertThat(meterRegistry.get("petshop.outbox.dispatched").tag("type", "SALE_CREATED").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should stop delivering an aggregate after a failure and record the attempt")
+    void dispatch_ShouldHoldLaterEventsOfFailedAggregate() {
+
+        UUID saleA = UUID.randomUUID();
+        UUID saleB = UUID.randomUUID();
+        OutboxEvent failing = event(saleA);
+        OutboxEvent other = event(saleB);
+        OutboxEvent held = event(saleA);
+        when(outboxEventRepository.findDeliverable(any(), eq(Limit.of(200))))
+                .thenReturn(List.of(failing, other, held));
+        when(outboxEventRepository.markProcessed(any(), any())).thenReturn(1);
+        doThrow(new IllegalStateException("rollup unavailable")).when(handler).handle(failing);
+
+        int delivered = outboxService.dispatch();
+
+        assertThat(delivered).isEqualTo(1);
+        verify(handler).handle(other);
+        verify(handler, never()).handle(held);
+        verify(outboxEventRepository, never()).markProcessed(eq(held.getId()), any());
+        verify(outboxEventRepository).recordFailure(eq(failing.getId()), eq("rollup unavailable"), eq(10), any());
+        assertThat(meterRegistry.get("petshop.outbox.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should back off the next attempt exponentially up to the maximum backoff")
+    void dispatch_ShouldBackOffFailedEventExponentially() {
+
+        OutboxEvent failing = event(UUID.randomUUID());
+        failing.setAttempts(3);
+        when(outboxEventRepository.findDeliverable(any(), eq(Limit.of(200)))).thenReturn(List.of(failing));
+        when(outboxEventRepository.markProcessed(any(), any())).thenReturn(1);
+        doThrow(new IllegalStateException("rollup unavailable")).when(handler).handle(failing);
+        LocalDateTime before = LocalDateTime.now();
+
+        outboxService.dispatch();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository).recordFailure(eq(failing.getId()), any(), eq(10), nextAttemptAt.capture());
+        assertThat(nextAttemptAt.getValue()).isBetween(before.plusSeconds(8), LocalDateTime.now().plusSeconds(8));
+
+        failing.setAttempts(30);
+        outboxService.dispatch();
+
+        verify(outboxEventRepository, times(2)).recordFailure(eq(failing.getId()), any(), eq(10), nextAttemptAt.capture());
+        assertThat(nextAttemptAt.getValue()).isBefore(LocalDateTime.now().plusMinutes(5).plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should report a missing failed event when re-driving it")
+    void redrive_ShouldThrowWhenEventIsNotFailed() {
+
+        UUID id = UUID.randomUUID();
+        when(outboxEventRepository.redrive(eq(id), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> outboxService.redrive(id)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should skip events already processed by another node")
+    void dispatch_ShouldSkipEventsClaimedElsewhere() {
+
+        OutboxEvent event = event(UUID.randomUUID());
+        when(outboxEventRepository.findDeliverable(any(), eq(Limit.of(200)))).thenReturn(List.of(event));
+        when(outboxEventRepository.markProcessed(eq(event.getId()), any())).thenReturn(0);
+
+        int delivered = outboxService.dispatch();
+
+        assertThat(delivered).isZero();
+        verify(handler, never()).handle(any());
+    }
+
+    private OutboxEvent event(UUID aggregateId) {
+        return OutboxEvent.builder()
+                .id(UuidV7Generator.nextId())
+                .eventType(OutboxEventType.SALE_CREATED)
+                .aggregateType("Sale")
+                .aggregateId(aggregateId)
+                .payload("{}")
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .createdAt(LocalDateTime.now())
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.petshop.api.service;
 
+import com.petshop.api.domain.search.AutocompleteIndex;
 import com.petshop.api.domain.validator.ValidatorEntities;
 import com.petshop.api.dto.request.CreateProductDto;
 import com.petshop.api.dto.response.ProductResponseDto;
@@ -24,6 +25,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,6 +54,9 @@ class ProductServiceTest {
     @Mock
     private ValidatorEntities validatorEntities;
 
+    @Mock
+    private AutocompleteIndex autocompleteIndex;
+
 
     @Test
     @DisplayName("Should return a page of products")
@@ -82,13 +87,13 @@ class ProductServiceTest {
         product.setId(id);
         ProductResponseDto responseDto = new ProductResponseDto();
 
-        when(validatorEntities.validate(id, productRepository, "Product")).thenReturn(product);
+        when(productRepository.findDetailById(id)).thenReturn(Optional.of(product));
         when(productMapper.toResponseDto(product)).thenReturn(responseDto);
 
         ProductResponseDto result = productService.getProductById(id);
 
         assertThat(result).isNotNull();
-        verify(validatorEntities).validate(id, productRepository, "Product");
+        verify(productRepository).findDetailById(id);
     }
 
 
@@ -99,14 +104,13 @@ class ProductServiceTest {
         UUID id = UUID.randomUUID();
         String expectedMessage = "Product not found";
 
-        when(validatorEntities.validate(id, productRepository, "Product"))
-                .thenThrow(new ResourceNotFoundException(expectedMessage));
+        when(productRepository.findDetailById(id)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> productService.getProductById(id))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage(expectedMessage);
 
-        verify(validatorEntities).validate(id, productRepository, "Product");
+        verify(productRepository).findDetailById(id);
         verifyNoInteractions(productMapper);
     }
 
@@ -177,6 +181,7 @@ class ProductServiceTest {
 
         assertThat(result).isNotNull();
         verify(productRepository).save(product);
+        verify(autocompleteIndex).indexProduct(savedProduct);
         assertThat(product.getCategory()).isEqualTo(category);
     }
 
@@ -224,6 +229,7 @@ class ProductServiceTest {
         productService.deleteProduct(id);
 
         verify(productRepository).delete(product);
+        verify(autocompleteIndex).remove(id);
     }
 
 
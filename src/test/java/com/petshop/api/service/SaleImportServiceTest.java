@@ -0,0 +1,199 @@
+package com.petshop.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petshop.api.domain.financial.FinancialInstallmentGenerator;
+import com.petshop.api.domain.financial.FinancialPaymentGenerator;
+import com.petshop.api.domain.sale.SaleGenerator;
+import com.petshop.api.dto.response.SaleImportFailureDto;
+import com.petshop.api.dto.response.SaleImportResultDto;
+import com.petshop.api.model.entities.Client;
+import com.petshop.api.model.entities.Product;
+import com.petshop.api.model.entities.Sale;
+import com.petshop.api.model.entities.StockMovement;
+import com.petshop.api.repository.ClientRepository;
+import com.petshop.api.repository.FinancialRepository;
+import com.petshop.api.repository.SaleRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SaleImportServiceTest {
+
+    @Mock
+    private SaleRepository saleRepository;
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private FinancialRepository financialRepository;
+
+    @Mock
+    private StockMovementService stockMovementService;
+
+    @Mock
+    private SalesReportService salesReportService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<Sale>> salesCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<StockMovement>> movementsCaptor;
+
+    private SaleImportService saleImportService;
+    private Client client;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        saleImportService = new SaleImportService(saleRepository, clientRepository, financialRepository,
+                stockMovementService, salesReportService, outboxService, new SaleGenerator(stockMovementService),
+                new FinancialInstallmentGenerator(new FinancialPaymentGenerator()),
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager,
+                new ObjectMapper().registerModule(new JavaTimeModule()), transactionManager, 2);
+        client = Client.builder().id(UUID.randomUUID()).name("Ana").build();
+        product = Product.builder().id(UUID.randomUUID()).name("Ração").price(new BigDecimal("10.00")).quantityInStock(5).build();
+    }
+
+    @Test
+    @DisplayName("Should import valid sales in chunks and report the rejected ones")
+    void importSales_ShouldReportFailuresWithoutAbortingBatch() throws Exception {
+        String body = sale("pos-1", client.getId(), 3) + "\n"
+                + sale("pos-3", client.getId(), 3) + "\n"
+                + sale("pos-2", UUID.randomUUID(), 1) + "\n"
+                + "{\"externalId\":\"pos-4\",\"clientId\":\"" + client.getId() + "\",\"paymentType\":\"CASH\"}\n"
+                + sale("pos-5", client.getId(), 2) + "\n";
+        when(clientRepository.findAllById(any())).thenReturn(List.of(client));
+        when(stockMovementService.lockExistingProducts(anyCollection())).thenReturn(Map.of(product.getId(), product));
+        when(stockMovementService.availableStock(anyCollection())).thenAnswer(invocation -> Map.of(product.getId(), 5));
+        when(saleRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Sale> sales = invocation.getArgument(0);
+            sales.forEach(sale -> sale.setId(UUID.randomUUID()));
+            return sales;
+        });
+
+        SaleImportResultDto result = saleImportService.importSales(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getReceived()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailures()).extracting(SaleImportFailureDto::getExternalId)
+                .containsExactly("pos-3", "pos-2", "pos-4");
+        assertThat(result.getFailures().get(0).getMessage()).startsWith("Not enough stock");
+        assertThat(result.getFailures().get(1).getMessage()).isEqualTo("Client not found");
+        assertThat(result.getFailures().get(2).getMessage()).contains("productSales");
+        verify(salesReportService, times(2)).recordSales(salesCaptor.capture());
+        assertThat(salesCaptor.getAllValues()).allSatisfy(sales -> assertThat(sales).hasSize(1));
+        verify(stockMovementService, times(2)).registerOutputs(movementsCaptor.capture());
+        assertThat(movementsCaptor.getAllValues().get(1).get(0).getQuantity()).isEqualTo(2);
+        verify(financialRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    @DisplayName("Should skip sales whose external ID was already imported or repeats in the file")
+    void importSales_ShouldRejectDuplicateExternalIds() throws Exception {
+        String body = sale("pos-1", client.getId(), 1) + "\n"
+                + sale("pos-2", client.getId(), 1) + "\n"
+                + sale("pos-2", client.getId(), 1) + "\n";
+        when(saleRepository.findExistingExternalIds(Set.of("pos-1", "pos-2"))).thenReturn(Set.of("pos-1"));
+        when(clientRepository.findAllById(any())).thenReturn(List.of(client));
+        when(stockMovementService.lockExistingProducts(anyCollection())).thenReturn(Map.of(product.getId(), product));
+        when(stockMovementService.availableStock(anyCollection())).thenAnswer(invocation -> Map.of(product.getId(), 5));
+        when(saleRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Sale> sales = invocation.getArgument(0);
+            sales.forEach(sale -> sale.setId(UUID.randomUUID()));
+            return sales;
+        });
+        saleImportService = new SaleImportService(saleRepository, clientRepository, financialRepository,
+                stockMovementService, salesReportService, outboxService, new SaleGenerator(stockMovementService),
+                new FinancialInstallmentGenerator(new FinancialPaymentGenerator()),
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager,
+                new ObjectMapper().registerModule(new JavaTimeModule()), transactionManager, 10);
+
+        SaleImportResultDto result = saleImportService.importSales(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailures()).extracting(SaleImportFailureDto::getIndex).containsExactly(0, 2);
+        assertThat(result.getFailures()).allSatisfy(failure -> assertThat(failure.getMessage()).isEqualTo("Sale already imported"));
+        verify(saleRepository).saveAll(salesCaptor.capture());
+        assertThat(salesCaptor.getValue()).singleElement().extracting(Sale::getExternalId).isEqualTo("pos-2");
+    }
+
+    @Test
+    @DisplayName("Should replay a rolled back chunk sale by sale and report only the sale that failed")
+    void importSales_ShouldReportOnlyPoisonedSaleOfRolledBackChunk() throws Exception {
+        String body = sale("pos-1", client.getId(), 1) + "\n"
+                + sale("pos-2", client.getId(), 1) + "\n"
+                + sale("pos-3", client.getId(), 1) + "\n";
+        when(clientRepository.findAllById(any())).thenReturn(List.of(client));
+        when(stockMovementService.lockExistingProducts(anyCollection())).thenReturn(Map.of(product.getId(), product));
+        when(stockMovementService.availableStock(anyCollection())).thenAnswer(invocation -> Map.of(product.getId(), 5));
+        when(saleRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Sale> sales = invocation.getArgument(0);
+            sales.forEach(sale -> sale.setId(UUID.randomUUID()));
+            return sales;
+        });
+        doAnswer(invocation -> {
+            List<Sale> sales = invocation.getArgument(0);
+            if (sales.stream().anyMatch(sale -> "pos-2".equals(sale.getExternalId()))) {
+                throw new IllegalStateException("rollup constraint violated");
+            }
+            return null;
+        }).when(salesReportService).recordSales(anyList());
+        saleImportService = new SaleImportService(saleRepository, clientRepository, financialRepository,
+                stockMovementService, salesReportService, outboxService, new SaleGenerator(stockMovementService),
+                new FinancialInstallmentGenerator(new FinancialPaymentGenerator()),
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager,
+                new ObjectMapper().registerModule(new JavaTimeModule()), transactionManager, 3);
+
+        SaleImportResultDto result = saleImportService.importSales(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getReceived()).isEqualTo(3);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailures()).singleElement().satisfies(failure -> {
+            assertThat(failure.getIndex()).isEqualTo(1);
+            assertThat(failure.getExternalId()).isEqualTo("pos-2");
+            assertThat(failure.getMessage()).isEqualTo("Sale rolled back: rollup constraint violated");
+        });
+        verify(salesReportService, times(4)).recordSales(salesCaptor.capture());
+        assertThat(salesCaptor.getAllValues()).extracting(List::size).containsExactly(3, 1, 1, 1);
+    }
+
+    private String sale(String externalId, UUID clientId, int quantity) {
+        return "{\"externalId\":\"" + externalId + "\",\"clientId\":\"" + clientId + "\",\"paymentType\":\"CASH\","
+                + "\"saleDate\":\"2025-01-10T10:00:00\",\"productSales\":[{\"productId\":\"" + product.getId()
+                + "\",\"quantity\":" + quantity + ",\"price\":10.00}]}";
+    }
+}
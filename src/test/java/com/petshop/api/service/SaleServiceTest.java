@@ -1,5 +1,7 @@
 package com.petshop.api.service;
 
+import com.petshop.api.domain.outbox.SaleCanceledEvent;
+import com.petshop.api.domain.outbox.SaleCreatedEvent;
 import com.petshop.api.domain.sale.SaleCancel;
 import com.petshop.api.domain.sale.SaleGenerator;
 import com.petshop.api.domain.validator.ValidatorEntities;
@@ -10,6 +12,8 @@ import com.petshop.api.model.entities.Client;
 import com.petshop.api.model.entities.Product;
 import com.petshop.api.model.entities.ProductSale;
 import com.petshop.api.model.entities.Sale;
+import com.petshop.api.model.entities.StockMovement;
+import com.petshop.api.model.enums.OutboxEventType;
 import com.petshop.api.model.enums.SalePaymentType;
 import com.petshop.api.model.enums.SaleStatus;
 import com.petshop.api.model.mapper.SaleMapper;
@@ -18,6 +22,8 @@ import com.petshop.api.repository.SaleRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -29,6 +35,7 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,6 +73,12 @@ class SaleServiceTest {
     @Mock
     private SaleCancel saleCancel;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Captor
+    private ArgumentCaptor<List<StockMovement>> movementsCaptor;
+
 
     @Test
     @DisplayName("Should return sale when ID exists")
@@ -76,13 +89,13 @@ class SaleServiceTest {
         sale.setId(id);
         SaleResponseDto responseDto = new SaleResponseDto();
 
-        when(validatorEntities.validate(id, saleRepository, "Sale")).thenReturn(sale);
+        when(saleRepository.findDetailById(id)).thenReturn(Optional.of(sale));
         when(saleMapper.toResponseDto(sale)).thenReturn(responseDto);
 
         SaleResponseDto result = saleService.getSaleById(id);
 
         assertThat(result).isNotNull();
-        verify(validatorEntities).validate(id, saleRepository, "Sale");
+        verify(saleRepository).findDetailById(id);
     }
 
 
@@ -139,16 +152,18 @@ class SaleServiceTest {
         itemDto.setQuantity(2);
         createDto.setProductSales(List.of(itemDto));
         Client client = new Client();
+        client.setId(UUID.randomUUID());
         Sale sale = new Sale();
         sale.setProductSales(new ArrayList<>());
         ProductSale productSale = new ProductSale();
         Sale savedSale = new Sale();
         savedSale.setId(UUID.randomUUID());
+        savedSale.setClient(client);
         savedSale.setTotalValue(new BigDecimal("100.00"));
         SaleResponseDto responseDto = new SaleResponseDto();
 
         when(validatorEntities.validate(createDto.getClientId(), clientRepository, "Client")).thenReturn(client);
-        when(saleGenerator.generateProductSale(any(), any(Sale.class))).thenReturn(productSale);
+        when(saleGenerator.generateProductSales(eq(createDto), any(Sale.class))).thenReturn(List.of(productSale));
         when(saleGenerator.calculateSaleTotal(createDto)).thenReturn(new BigDecimal("100.00"));
         when(saleRepository.save(any(Sale.class))).thenReturn(savedSale);
         when(saleMapper.toResponseDto(savedSale)).thenReturn(responseDto);
@@ -157,11 +172,13 @@ class SaleServiceTest {
 
         assertThat(result).isNotNull();
         verify(validatorEntities).validate(createDto.getClientId(), clientRepository, "Client");
-        verify(saleGenerator, times(1)).generateProductSale(eq(itemDto), any(Sale.class));
+        verify(saleGenerator, times(1)).generateProductSales(eq(createDto), any(Sale.class));
         verify(saleGenerator).calculateSaleTotal(createDto);
         verify(saleRepository).save(any(Sale.class));
         verify(saleGenerator).registerStockMovementsFromSale(savedSale);
         verify(financialService).createFinancialFromSale(savedSale, createDto.getInstallments(), createDto.getIntervalDays());
+        verify(outboxService).append(OutboxEventType.SALE_CREATED, "Sale", savedSale.getId(),
+                new SaleCreatedEvent(savedSale.getId(), client.getId(), savedSale.getSaleDate(), new BigDecimal("100.00"), false));
     }
 
 
@@ -179,12 +196,16 @@ class SaleServiceTest {
         item.setQuantity(5);
         item.setUnitPrice(new BigDecimal("10.00"));
         sale.setProductSales(List.of(item));
+        Client client = new Client();
+        client.setId(UUID.randomUUID());
         Sale canceledSale = new Sale();
         canceledSale.setId(saleId);
+        canceledSale.setClient(client);
+        canceledSale.setTotalValue(new BigDecimal("50.00"));
         canceledSale.setStatus(SaleStatus.CANCELED);
         SaleResponseDto responseDto = new SaleResponseDto();
 
-        when(validatorEntities.validate(saleId, saleRepository, "Sale")).thenReturn(sale);
+        when(saleRepository.findDetailById(saleId)).thenReturn(Optional.of(sale));
         when(saleRepository.save(sale)).thenReturn(canceledSale);
         when(saleMapper.toResponseDto(canceledSale)).thenReturn(responseDto);
 
@@ -192,15 +213,18 @@ class SaleServiceTest {
 
         assertThat(result).isNotNull();
         verify(saleCancel).cancel(sale);
-        verify(stockMovementService).registerInput(
-                eq(product),
-                eq(5),
-                contains("CANCELLATION_OF_SALE_ORDER_"),
-                eq(null),
-                eq(new BigDecimal("10.00")),
-                eq(sale)
-        );
+        verify(stockMovementService).registerInputs(movementsCaptor.capture());
+        List<StockMovement> movements = movementsCaptor.getValue();
+        assertThat(movements).hasSize(1);
+        assertThat(movements.get(0).getProduct()).isEqualTo(product);
+        assertThat(movements.get(0).getQuantity()).isEqualTo(5);
+        assertThat(movements.get(0).getDescription()).isEqualTo("CANCELLATION_OF_SALE_ORDER_" + saleId);
+        assertThat(movements.get(0).getInvoice()).isNull();
+        assertThat(movements.get(0).getPrice()).isEqualTo(new BigDecimal("10.00"));
+        assertThat(movements.get(0).getSale()).isEqualTo(sale);
 
         verify(saleRepository).save(sale);
+        verify(outboxService).append(OutboxEventType.SALE_CANCELED, "Sale", saleId,
+                new SaleCanceledEvent(saleId, client.getId(), new BigDecimal("50.00")));
     }
 }
\ No newline at end of file
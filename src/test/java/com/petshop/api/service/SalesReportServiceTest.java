@@ -0,0 +1,86 @@
+package com.petshop.api.service;
+
+import com.petshop.api.domain.report.SalesRollupCalculator;
+import com.petshop.api.domain.report.SalesRollupDelta;
+import com.petshop.api.model.entities.Sale;
+import com.petshop.api.repository.SaleRepository;
+import com.petshop.api.repository.SalesRollupEntryRepository;
+import com.petshop.api.repository.SalesRollupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalesReportServiceTest {
+
+    @InjectMocks
+    private SalesReportService salesReportService;
+
+    @Mock
+    private SalesRollupRepository salesRollupRepository;
+
+    @Mock
+    private SalesRollupEntryRepository salesRollupEntryRepository;
+
+    @Mock
+    private SaleRepository saleRepository;
+
+    @Mock
+    private SalesRollupCalculator salesRollupCalculator;
+
+
+    @Test
+    @DisplayName("Should not revert sales that were never recorded in the rollups")
+    void revertSale_ShouldSkipSalesWithoutEntry() {
+
+        Sale sale = Sale.builder().id(UUID.randomUUID()).build();
+        when(salesRollupEntryRepository.release(sale.getId())).thenReturn(0);
+
+        salesReportService.revertSale(sale);
+
+        verifyNoInteractions(salesRollupCalculator, salesRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should record a sale only the first time it is claimed")
+    void recordSale_ShouldApplyDeltasOnce() {
+
+        Sale sale = Sale.builder().id(UUID.randomUUID()).build();
+        List<SalesRollupDelta> deltas = List.of();
+        when(salesRollupEntryRepository.claim(sale.getId())).thenReturn(true, false);
+        when(salesRollupCalculator.deltasForSale(sale)).thenReturn(deltas);
+
+        salesReportService.recordSale(sale);
+        salesReportService.recordSale(sale);
+
+        verify(salesRollupRepository, times(1)).applyDeltas(deltas);
+    }
+
+    @Test
+    @DisplayName("Should backfill unrecorded sales, skipping the ones claimed concurrently")
+    void backfill_ShouldRecordClaimedSales() {
+
+        Sale first = Sale.builder().id(UUID.randomUUID()).build();
+        Sale second = Sale.builder().id(UUID.randomUUID()).build();
+        when(salesRollupEntryRepository.findUnrecordedSaleIds(500)).thenReturn(List.of(first.getId(), second.getId()));
+        when(saleRepository.findAllWithProductSalesByIdIn(List.of(first.getId(), second.getId()))).thenReturn(List.of(first, second));
+        when(salesRollupEntryRepository.claim(first.getId())).thenReturn(true);
+        when(salesRollupEntryRepository.claim(second.getId())).thenReturn(false);
+        when(salesRollupCalculator.deltasForSales(anyList())).thenReturn(List.of());
+
+        int found = salesReportService.backfill(500);
+
+        assertThat(found).isEqualTo(2);
+        verify(salesRollupCalculator).deltasForSales(List.of(first));
+    }
+}
@@ -0,0 +1,90 @@
+package com.petshop.api.service;
+
+import com.petshop.api.domain.search.AutocompleteIndex;
+import com.petshop.api.dto.response.AutocompleteResultDto;
+import com.petshop.api.dto.response.SearchResultDto;
+import com.petshop.api.model.enums.SearchTarget;
+import com.petshop.api.repository.NameSearchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Mock
+    private NameSearchRepository nameSearchRepository;
+
+    @Mock
+    private AutocompleteIndex autocompleteIndex;
+
+
+    @Test
+    @DisplayName("Should merge every target and order the results by score")
+    void search_ShouldMergeTargetsByScore() {
+
+        SearchResultDto client = new SearchResultDto(SearchTarget.CLIENT, UUID.randomUUID(), "Maria", 0.5);
+        SearchResultDto product = new SearchResultDto(SearchTarget.PRODUCT, UUID.randomUUID(), "Mar Ração", 0.9);
+        when(nameSearchRepository.search(any(), anyString(), anyInt())).thenReturn(List.of());
+        when(nameSearchRepository.search(SearchTarget.CLIENT, "mar", 10)).thenReturn(List.of(client));
+        when(nameSearchRepository.search(SearchTarget.PRODUCT, "mar", 10)).thenReturn(List.of(product));
+
+        List<SearchResultDto> results = searchService.search("mar", null, null);
+
+        assertThat(results).containsExactly(product, client);
+        verify(nameSearchRepository, times(SearchTarget.values().length)).search(any(), anyString(), anyInt());
+    }
+
+
+    @Test
+    @DisplayName("Should only search the requested targets and cap the limit")
+    void search_ShouldRespectTargetsAndLimit() {
+
+        searchService.search("rex", Set.of(SearchTarget.ANIMAL), 500);
+
+        verify(nameSearchRepository).search(SearchTarget.ANIMAL, "rex", 50);
+        verifyNoMoreInteractions(nameSearchRepository);
+    }
+
+
+    @Test
+    @DisplayName("Should not query the database for a blank term")
+    void search_ShouldReturnEmptyForBlankTerm() {
+
+        assertThat(searchService.search("  ", null, 10)).isEmpty();
+
+        verifyNoInteractions(nameSearchRepository);
+    }
+
+
+    @Test
+    @DisplayName("Should answer autocomplete from the in-memory index without touching the database")
+    void autocomplete_ShouldUseInMemoryIndex() {
+
+        AutocompleteResultDto rex = new AutocompleteResultDto(SearchTarget.ANIMAL, UUID.randomUUID(), "Rex");
+        Set<SearchTarget> defaultTargets = EnumSet.allOf(SearchTarget.class);
+        when(autocompleteIndex.lookup("re", defaultTargets, 10)).thenReturn(List.of(rex));
+
+        List<AutocompleteResultDto> results = searchService.autocomplete("re", null, null);
+
+        assertThat(results).containsExactly(rex);
+        verifyNoInteractions(nameSearchRepository);
+    }
+}
@@ -0,0 +1,208 @@
+package com.petshop.api.service;
+
+import com.petshop.api.domain.stock.StockMode;
+import com.petshop.api.domain.stock.StockProperties;
+import com.petshop.api.dto.response.StockReconciliationResponseDto;
+import com.petshop.api.exception.BusinessException;
+import com.petshop.api.model.generator.UuidV7Generator;
+import com.petshop.api.repository.StockSnapshotRepository;
+import com.petshop.api.repository.projection.LedgerBalance;
+import com.petshop.api.repository.projection.LedgerMismatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockLedgerServiceTest {
+
+    @Mock
+    private StockSnapshotRepository stockSnapshotRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<Collection<UUID>> idsCaptor;
+
+    @Captor
+    private ArgumentCaptor<UUID> watermarkCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StockLedgerService stockLedgerService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StockProperties properties = new StockProperties(StockMode.LEDGER,
+                new StockProperties.Ledger(null, Duration.ofMinutes(2), 2, null), null, null);
+        stockLedgerService = new StockLedgerService(stockSnapshotRepository, properties, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should open the missing snapshots of distinct products in id order")
+    void ensureSnapshots_ShouldOpenMissingSnapshotsInOrder() {
+
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        when(stockSnapshotRepository.countByProductIdIn(any())).thenReturn(1L);
+
+        stockLedgerService.ensureSnapshots(List.of(id2, id1, id2));
+
+        verify(stockSnapshotRepository).openMissingSnapshots(idsCaptor.capture(), any(), any());
+        assertThat(idsCaptor.getValue()).containsExactlyElementsOf(new TreeSet<>(List.of(id1, id2)));
+        verify(stockSnapshotRepository, never()).findAllWithLockByProductIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Should open missing snapshots before locking them in product id order")
+    void lockSnapshots_ShouldOpenMissingSnapshotsThenLockInOrder() {
+
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        when(stockSnapshotRepository.countByProductIdIn(any())).thenReturn(1L);
+
+        stockLedgerService.lockSnapshots(List.of(id2, id1, id2));
+
+        InOrder inOrder = inOrder(stockSnapshotRepository);
+        inOrder.verify(stockSnapshotRepository).openMissingSnapshots(eq(new TreeSet<>(List.of(id1, id2))), any(), any());
+        inOrder.verify(stockSnapshotRepository).findAllWithLockByProductIdIn(idsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactlyElementsOf(new TreeSet<>(List.of(id1, id2)));
+    }
+
+    @Test
+    @DisplayName("Should not open snapshots when every product already has one")
+    void ensureSnapshots_ShouldSkipOpening_WhenAllSnapshotsExist() {
+
+        when(stockSnapshotRepository.countByProductIdIn(any())).thenReturn(2L);
+
+        stockLedgerService.ensureSnapshots(List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        verify(stockSnapshotRepository, never()).openMissingSnapshots(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should add the ledger delta since the snapshot to the snapshot quantity")
+    void availableStock_ShouldSumSnapshotAndLedgerDelta() {
+
+        UUID productId = UUID.randomUUID();
+        LedgerBalance balance = balance(productId, 40, -15L);
+        when(stockSnapshotRepository.findBalances(List.of(productId))).thenReturn(List.of(balance));
+
+        Map<UUID, Integer> available = stockLedgerService.availableStock(List.of(productId));
+
+        assertThat(available).containsEntry(productId, 25);
+    }
+
+    @Test
+    @DisplayName("Should advance snapshots only up to the settle lag and refresh product counters")
+    void takeSnapshots_ShouldAdvanceUpToLaggedWatermark() {
+
+        UUID first = new UUID(0L, 0L);
+        UUID last = UUID.randomUUID();
+        when(stockSnapshotRepository.lockSnapshotRange(first, 2)).thenReturn(List.of(last));
+        long before = System.currentTimeMillis();
+
+        stockLedgerService.takeSnapshots();
+
+        InOrder inOrder = inOrder(stockSnapshotRepository);
+        inOrder.verify(stockSnapshotRepository).openMissingSnapshots(isNull(), any(), any(LocalDateTime.class));
+        inOrder.verify(stockSnapshotRepository).advanceSnapshots(eq(first), eq(last), watermarkCaptor.capture(), any(LocalDateTime.class));
+        inOrder.verify(stockSnapshotRepository).refreshProductCounters(first, last);
+        long watermarkMillis = watermarkCaptor.getValue().getMostSignificantBits() >>> 16;
+        assertThat(watermarkMillis).isBetween(before - Duration.ofMinutes(2).toMillis(),
+                System.currentTimeMillis() - Duration.ofMinutes(2).toMillis());
+        assertThat(UuidV7Generator.nextId()).isGreaterThan(watermarkCaptor.getValue());
+    }
+
+    @Test
+    @DisplayName("Should advance snapshots in consecutive product id ranges until the last partial batch")
+    void takeSnapshots_ShouldAdvanceInOrderedRanges() {
+
+        UUID first = new UUID(0L, 0L);
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        UUID id3 = UUID.randomUUID();
+        when(stockSnapshotRepository.lockSnapshotRange(first, 2)).thenReturn(List.of(id1, id2));
+        when(stockSnapshotRepository.lockSnapshotRange(id2, 2)).thenReturn(List.of(id3));
+
+        stockLedgerService.takeSnapshots();
+
+        InOrder inOrder = inOrder(stockSnapshotRepository);
+        inOrder.verify(stockSnapshotRepository).advanceSnapshots(eq(first), eq(id2), any(), any());
+        inOrder.verify(stockSnapshotRepository).refreshProductCounters(first, id2);
+        inOrder.verify(stockSnapshotRepository).advanceSnapshots(eq(id2), eq(id3), any(), any());
+        inOrder.verify(stockSnapshotRepository).refreshProductCounters(id2, id3);
+        verify(stockSnapshotRepository, times(2)).lockSnapshotRange(any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("Should correct snapshots that disagree with the ledger and count them")
+    void reconcile_ShouldCorrectMismatchedSnapshots() {
+
+        UUID productId = UUID.randomUUID();
+        LedgerMismatch mismatch = mismatch(productId, 10, 7L);
+        when(stockSnapshotRepository.findLedgerMismatches()).thenReturn(List.of(mismatch));
+        when(stockSnapshotRepository.findLedgerMismatches(List.of(productId))).thenReturn(List.of(mismatch));
+        when(stockSnapshotRepository.count()).thenReturn(3L);
+
+        StockReconciliationResponseDto result = stockLedgerService.reconcile();
+
+        verify(stockSnapshotRepository).findAllWithLockByProductIdIn(List.of(productId));
+        verify(stockSnapshotRepository).correctQuantity(productId, 7);
+        assertThat(result.getSnapshots()).isEqualTo(3);
+        assertThat(result.getMismatches()).singleElement()
+                .satisfies(dto -> {
+                    assertThat(dto.getSnapshotQuantity()).isEqualTo(10);
+                    assertThat(dto.getLedgerQuantity()).isEqualTo(7);
+                });
+        assertThat(meterRegistry.counter("petshop.stock.ledger.mismatches").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should refuse to reconcile when ledger mode is disabled")
+    void reconcile_ShouldThrowException_WhenLedgerDisabled() {
+
+        StockLedgerService counterMode = new StockLedgerService(stockSnapshotRepository,
+                new StockProperties(StockMode.COUNTER, null, null, null), transactionManager, meterRegistry);
+
+        assertThatThrownBy(counterMode::reconcile)
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Stock ledger mode is not enabled");
+        verifyNoInteractions(stockSnapshotRepository);
+    }
+
+    private LedgerBalance balance(UUID productId, int snapshotQuantity, long ledgerDelta) {
+        LedgerBalance balance = mock(LedgerBalance.class);
+        when(balance.getProductId()).thenReturn(productId);
+        when(balance.getSnapshotQuantity()).thenReturn(snapshotQuantity);
+        when(balance.getLedgerDelta()).thenReturn(ledgerDelta);
+        return balance;
+    }
+
+    private LedgerMismatch mismatch(UUID productId, int snapshotQuantity, long ledgerQuantity) {
+        LedgerMismatch mismatch = mock(LedgerMismatch.class);
+        when(mismatch.getProductId()).thenReturn(productId);
+        when(mismatch.getSnapshotQuantity()).thenReturn(snapshotQuantity);
+        when(mismatch.getLedgerQuantity()).thenReturn(ledgerQuantity);
+        return mismatch;
+    }
+}
@@ -2,6 +2,10 @@ package com.petshop.api.service;
 
 import com.petshop.api.domain.validator.ValidatorEntities;
 import com.petshop.api.dto.request.CreateStockMovementDto;
+import com.petshop.api.dto.request.CreateStockReceiptDto;
+import com.petshop.api.dto.request.CreateStockReceiptItemDto;
+import com.petshop.api.dto.response.StockBalanceResponseDto;
+import com.petshop.api.dto.response.StockReceiptResponseDto;
 import com.petshop.api.exception.InsufficientStockException;
 import com.petshop.api.exception.ResourceNotFoundException;
 import com.petshop.api.model.entities.Product;
@@ -15,13 +19,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -43,12 +47,30 @@ class StockMovementServiceTest {
     @Mock
     private ValidatorEntities validatorEntities;
 
+    @Mock
+    private StockLedgerService stockLedgerService;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private OptimisticStockService optimisticStockService;
+
+    @Mock
+    private OutboxService outboxService;
+
     @Captor
     private ArgumentCaptor<Product> productCaptor;
 
     @Captor
     private ArgumentCaptor<StockMovement> stockMovementCaptor;
 
+    @Captor
+    private ArgumentCaptor<Collection<UUID>> idsCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<StockMovement>> movementsCaptor;
+
 
     @Test
     @DisplayName("Should register input successfully via Entity method")
@@ -210,4 +232,365 @@ class StockMovementServiceTest {
 
         verify(stockMovementRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should lock all distinct products in a single sorted query")
+    void lockProducts_ShouldLockDistinctIdsInOrder() {
+
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        Product product1 = new Product();
+        product1.setId(id1);
+        Product product2 = new Product();
+        product2.setId(id2);
+
+        when(productRepository.findAllWithLockByIdIn(any())).thenReturn(List.of(product1, product2));
+
+        Map<UUID, Product> result = stockMovementService.lockProducts(List.of(id2, id1, id2));
+
+        assertThat(result).containsEntry(id1, product1).containsEntry(id2, product2);
+        verify(productRepository).findAllWithLockByIdIn(idsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactlyElementsOf(new TreeSet<>(List.of(id1, id2)));
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when any locked product does not exist")
+    void lockProducts_ShouldThrowException_WhenProductMissing() {
+
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        Product product1 = new Product();
+        product1.setId(id1);
+
+        when(productRepository.findAllWithLockByIdIn(any())).thenReturn(List.of(product1));
+
+        assertThatThrownBy(() -> stockMovementService.lockProducts(List.of(id1, id2)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Product not found");
+    }
+
+    @Test
+    @DisplayName("Should decrement stock with one update and save all output movements at once")
+    void registerOutputs_ShouldAdjustStockOnceAndSaveAll() {
+
+        UUID productId = UUID.randomUUID();
+        Product product = new Product();
+        product.setId(productId);
+        product.setQuantityInStock(10);
+        StockMovement first = StockMovement.builder().product(product).quantity(4).price(BigDecimal.TEN).build();
+        StockMovement second = StockMovement.builder().product(product).quantity(6).price(BigDecimal.TEN).build();
+        List<StockMovement> movements = List.of(first, second);
+
+        stockMovementService.registerOutputs(movements);
+
+        verify(productRepository).adjustStock(Map.of(productId, -10));
+        verify(stockMovementRepository).saveAll(movements);
+        verify(productRepository, never()).save(any());
+        assertThat(movements).extracting(StockMovement::getType).containsOnly(TypeMovement.OUTPUT);
+    }
+
+    @Test
+    @DisplayName("Should throw InsufficientStockException when the summed quantity exceeds stock")
+    void registerOutputs_ShouldThrowException_WhenSummedQuantityExceedsStock() {
+
+        Product product = new Product();
+        product.setId(UUID.randomUUID());
+        product.setName("Dog Food 15kg");
+        product.setQuantityInStock(5);
+        StockMovement first = StockMovement.builder().product(product).quantity(3).price(BigDecimal.TEN).build();
+        StockMovement second = StockMovement.builder().product(product).quantity(3).price(BigDecimal.TEN).build();
+
+        assertThatThrownBy(() -> stockMovementService.registerOutputs(List.of(first, second)))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("Not enough stock for product Dog Food 15kg. Requested: 6, Available: 5");
+
+        verify(productRepository, never()).adjustStock(any());
+        verify(stockMovementRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should increment stock with one update and save all input movements at once")
+    void registerInputs_ShouldAdjustStockOnceAndSaveAll() {
+
+        UUID productId1 = UUID.randomUUID();
+        UUID productId2 = UUID.randomUUID();
+        Product product1 = new Product();
+        product1.setId(productId1);
+        Product product2 = new Product();
+        product2.setId(productId2);
+        StockMovement first = StockMovement.builder().product(product1).quantity(2).price(BigDecimal.ONE).build();
+        StockMovement second = StockMovement.builder().product(product2).quantity(7).price(BigDecimal.ONE).build();
+        List<StockMovement> movements = List.of(first, second);
+
+        stockMovementService.registerInputs(movements);
+
+        verify(productRepository).adjustStock(Map.of(productId1, 2, productId2, 7));
+        verify(stockMovementRepository).saveAll(movements);
+        verify(validatorEntities, never()).validate(any(), any(), any());
+        assertThat(movements).extracting(StockMovement::getType).containsOnly(TypeMovement.INPUT);
+    }
+
+    @Test
+    @DisplayName("Should receive a whole invoice with one lock query, one stock update and one batch insert")
+    void registerReceipt_ShouldLockOnceAdjustStockOnceAndSaveAll() {
+
+        UUID productId1 = UUID.randomUUID();
+        UUID productId2 = UUID.randomUUID();
+        Product product1 = new Product();
+        product1.setId(productId1);
+        Product product2 = new Product();
+        product2.setId(productId2);
+
+        CreateStockReceiptDto dto = new CreateStockReceiptDto();
+        dto.setInvoice("NF-1234");
+        dto.setDescription("Supplier delivery");
+        dto.setItems(List.of(
+                receiptItem(productId2, 10, null),
+                receiptItem(productId1, 4, "Damaged box replacement"),
+                receiptItem(productId2, 6, null)));
+
+        when(productRepository.findAllWithLockByIdIn(any())).thenReturn(List.of(product1, product2));
+
+        StockReceiptResponseDto response = stockMovementService.registerReceipt(dto);
+
+        assertThat(response.getInvoice()).isEqualTo("NF-1234");
+        assertThat(response.getProducts()).isEqualTo(2);
+        assertThat(response.getMovements()).isEqualTo(3);
+        assertThat(response.getTotalQuantity()).isEqualTo(20);
+
+        verify(productRepository).findAllWithLockByIdIn(idsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactlyElementsOf(new TreeSet<>(List.of(productId1, productId2)));
+        verify(productRepository).adjustStock(Map.of(productId1, 4, productId2, 16));
+        verify(productRepository, never()).findWithLockById(any());
+        verify(validatorEntities, never()).validate(any(), any(), any());
+
+        verify(stockMovementRepository).saveAll(movementsCaptor.capture());
+        List<StockMovement> movements = movementsCaptor.getValue();
+        assertThat(movements).hasSize(3);
+        assertThat(movements).extracting(StockMovement::getInvoice).containsOnly("NF-1234");
+        assertThat(movements).extracting(StockMovement::getType).containsOnly(TypeMovement.INPUT);
+        assertThat(movements).extracting(StockMovement::getDescription)
+                .containsExactly("Supplier delivery", "Damaged box replacement", "Supplier delivery");
+        assertThat(movements.get(0).getProduct()).isSameAs(product2);
+    }
+
+    @Test
+    @DisplayName("Should reject the whole invoice when any product does not exist")
+    void registerReceipt_ShouldThrowException_WhenProductMissing() {
+
+        UUID productId1 = UUID.randomUUID();
+        UUID productId2 = UUID.randomUUID();
+        Product product1 = new Product();
+        product1.setId(productId1);
+
+        CreateStockReceiptDto dto = new CreateStockReceiptDto();
+        dto.setInvoice("NF-1235");
+        dto.setDescription("Supplier delivery");
+        dto.setItems(List.of(receiptItem(productId1, 1, null), receiptItem(productId2, 1, null)));
+
+        when(productRepository.findAllWithLockByIdIn(any())).thenReturn(List.of(product1));
+
+        assertThatThrownBy(() -> stockMovementService.registerReceipt(dto))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Product not found");
+
+        verify(productRepository, never()).adjustStock(any());
+        verify(stockMovementRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should only open stock snapshots, without locking any row, in ledger mode")
+    void lockProducts_LedgerMode_ShouldOpenSnapshotsWithoutLocking() {
+
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        Product product1 = new Product();
+        product1.setId(id1);
+        Product product2 = new Product();
+        product2.setId(id2);
+
+        when(stockLedgerService.isEnabled()).thenReturn(true);
+        when(productRepository.findAllById(any())).thenReturn(List.of(product1, product2));
+
+        Map<UUID, Product> result = stockMovementService.lockProducts(List.of(id2, id1));
+
+        assertThat(result).containsEntry(id1, product1).containsEntry(id2, product2);
+        verify(stockLedgerService).ensureSnapshots(Set.of(id1, id2));
+        verify(productRepository, never()).findAllWithLockByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Should lock the snapshots before checking the ledger balance and appending outputs in ledger mode")
+    void registerOutputs_LedgerMode_ShouldLockSnapshotsThenCheckLedgerBalance() {
+
+        UUID productId = UUID.randomUUID();
+        Product product = new Product();
+        product.setId(productId);
+        product.setName("Dog Food 15kg");
+        product.setQuantityInStock(0);
+        StockMovement first = StockMovement.builder().product(product).quantity(3).price(BigDecimal.TEN).build();
+        StockMovement second = StockMovement.builder().product(product).quantity(3).price(BigDecimal.TEN).build();
+        List<StockMovement> movements = List.of(first, second);
+
+        when(stockLedgerService.isEnabled()).thenReturn(true);
+        when(stockLedgerService.availableStock(Set.of(productId))).thenReturn(Map.of(productId, 8));
+
+        stockMovementService.registerOutputs(movements);
+
+        InOrder inOrder = inOrder(stockMovementRepository, stockLedgerService);
+        inOrder.verify(stockLedgerService).lockSnapshots(Set.of(productId));
+        inOrder.verify(stockLedgerService).availableStock(Set.of(productId));
+        inOrder.verify(stockMovementRepository).saveAll(movements);
+        verify(productRepository, never()).adjustStock(any());
+        assertThat(movements).extracting(StockMovement::getType).containsOnly(TypeMovement.OUTPUT);
+    }
+
+    @Test
+    @DisplayName("Should reject outputs above the locked ledger balance in ledger mode")
+    void registerOutputs_LedgerMode_ShouldThrowException_WhenLedgerBalanceInsufficient() {
+
+        UUID productId = UUID.randomUUID();
+        Product product = new Product();
+        product.setId(productId);
+        product.setName("Dog Food 15kg");
+        product.setQuantityInStock(100);
+        StockMovement movement = StockMovement.builder().product(product).quantity(6).price(BigDecimal.TEN).build();
+
+        when(stockLedgerService.isEnabled()).thenReturn(true);
+        when(stockLedgerService.availableStock(Set.of(productId))).thenReturn(Map.of(productId, 5));
+
+        assertThatThrownBy(() -> stockMovementService.registerOutputs(List.of(movement)))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("Requested: 6, Available: 5");
+
+        verify(stockLedgerService).lockSnapshots(Set.of(productId));
+        verify(productRepository, never()).adjustStock(any());
+        verify(stockMovementRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should append input movements without updating the product counter in ledger mode")
+    void registerInputs_LedgerMode_ShouldEnsureSnapshotsAndOnlyAppend() {
+
+        UUID productId = UUID.randomUUID();
+        Product product = new Product();
+        product.setId(productId);
+        List<StockMovement> movements = List.of(StockMovement.builder().product(product).quantity(4).price(BigDecimal.ONE).build());
+
+        when(stockLedgerService.isEnabled()).thenReturn(true);
+
+        stockMovementService.registerInputs(movements);
+
+        verify(stockLedgerService).ensureSnapshots(Set.of(productId));
+        verify(productRepository, never()).adjustStock(any());
+        verify(stockMovementRepository).saveAll(movements);
+    }
+
+    @Test
+    @DisplayName("Should report the product counter as balance when ledger mode is disabled")
+    void getBalance_CounterMode_ShouldUseProductCounter() {
+
+        UUID productId = UUID.randomUUID();
+        Product product = new Product();
+        product.setId(productId);
+        product.setQuantityInStock(12);
+
+        when(validatorEntities.validate(productId, productRepository, "Product")).thenReturn(product);
+
+        StockBalanceResponseDto balance = stockMovementService.getBalance(productId);
+
+        assertThat(balance.getAvailable()).isEqualTo(12);
+        assertThat(balance.getLedgerDelta()).isZero();
+        verify(stockLedgerService, never()).findBalance(any());
+    }
+
+    @Test
+    @DisplayName("Should hand outputs to the reservation table without touching the database in reservation mode")
+    void registerOutputs_ReservationMode_ShouldReserveInMemory() {
+
+        Product product = new Product();
+        product.setId(UUID.randomUUID());
+        List<StockMovement> movements = List.of(StockMovement.builder().product(product).quantity(2).price(BigDecimal.TEN).build());
+
+        when(stockReservationService.isEnabled()).thenReturn(true);
+
+        stockMovementService.registerOutputs(movements);
+
+        verify(stockReservationService).reserve(movements);
+        verify(productRepository, never()).adjustStock(any());
+        verify(stockMovementRepository, never()).saveAll(any());
+        assertThat(movements).extracting(StockMovement::getType).containsOnly(TypeMovement.OUTPUT);
+    }
+
+    @Test
+    @DisplayName("Should write inputs immediately and credit the reservation table in reservation mode")
+    void registerInputs_ReservationMode_ShouldWriteAndRecordInputs() {
+
+        UUID productId = UUID.randomUUID();
+        Product product = new Product();
+        product.setId(productId);
+        List<StockMovement> movements = List.of(StockMovement.builder().product(product).quantity(9).price(BigDecimal.ONE).build());
+
+        when(stockReservationService.isEnabled()).thenReturn(true);
+
+        stockMovementService.registerInputs(movements);
+
+        verify(productRepository).adjustStock(Map.of(productId, 9));
+        verify(stockMovementRepository).saveAll(movements);
+        verify(stockReservationService).recordInputs(Map.of(productId, 9));
+    }
+
+    @Test
+    @DisplayName("Should decrement stock with conditional updates instead of the bulk adjustment in optimistic mode")
+    void registerOutputs_OptimisticMode_ShouldDecrementConditionally() {
+
+        UUID productId = UUID.randomUUID();
+        Product product = new Product();
+        product.setId(productId);
+        product.setQuantityInStock(10);
+        List<StockMovement> movements = List.of(
+                StockMovement.builder().product(product).quantity(3).price(BigDecimal.TEN).build(),
+                StockMovement.builder().product(product).quantity(4).price(BigDecimal.TEN).build());
+
+        when(optimisticStockService.isEnabled()).thenReturn(true);
+
+        stockMovementService.registerOutputs(movements);
+
+        verify(optimisticStockService).decrement(Map.of(productId, 7), Map.of(productId, product));
+        verify(productRepository, never()).adjustStock(any());
+        verify(stockMovementRepository).saveAll(movements);
+        assertThat(movements).extracting(StockMovement::getType).containsOnly(TypeMovement.OUTPUT);
+    }
+
+    @Test
+    @DisplayName("Should read the product without a row lock before the conditional decrement in optimistic mode")
+    void registerOutput_OptimisticMode_ShouldNotLockProductRow() {
+
+        UUID productId = UUID.randomUUID();
+        Product product = new Product();
+        product.setId(productId);
+        product.setQuantityInStock(10);
+        CreateStockMovementDto dto = new CreateStockMovementDto();
+        dto.setQuantity(2);
+        dto.setPrice(BigDecimal.TEN);
+
+        when(optimisticStockService.isEnabled()).thenReturn(true);
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+
+        stockMovementService.registerOutput(productId, dto);
+
+        verify(productRepository, never()).findWithLockById(any());
+        verify(productRepository, never()).findAllWithLockByIdIn(any());
+        verify(optimisticStockService).decrement(Map.of(productId, 2), Map.of(productId, product));
+        verify(stockMovementRepository).saveAll(any());
+    }
+
+    private CreateStockReceiptItemDto receiptItem(UUID productId, int quantity, String description) {
+        CreateStockReceiptItemDto item = new CreateStockReceiptItemDto();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        item.setPrice(BigDecimal.TEN);
+        item.setDescription(description);
+        return item;
+    }
+}
@@ -0,0 +1,173 @@
+package com.petshop.api.service;
+
+import com.petshop.api.domain.stock.StockMode;
+import com.petshop.api.domain.stock.StockProperties;
+import com.petshop.api.dto.response.StockReservationCheckResponseDto;
+import com.petshop.api.exception.InsufficientStockException;
+import com.petshop.api.model.entities.Product;
+import com.petshop.api.model.entities.StockMovement;
+import com.petshop.api.model.enums.TypeMovement;
+import com.petshop.api.repository.ProductRepository;
+import com.petshop.api.repository.StockMovementRepository;
+import com.petshop.api.repository.projection.ProductQuantity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockMovementRepository stockMovementRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<StockMovement>> movementsCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StockReservationService stockReservationService;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StockProperties properties = new StockProperties(StockMode.RESERVATION, null,
+                new StockProperties.Reservation(Duration.ofMillis(100), 2), null);
+        stockReservationService = new StockReservationService(productRepository, stockMovementRepository, entityManager,
+                properties, transactionManager, meterRegistry);
+        product = Product.builder().id(UUID.randomUUID()).name("Dog Food 15kg").quantityInStock(5).build();
+        ProductQuantity level = level(product.getId(), 5L);
+        when(productRepository.findAllStockLevels()).thenReturn(List.of(level));
+        stockReservationService.load();
+    }
+
+
+    @Test
+    @DisplayName("Should accept outputs from memory and write them in batches on flush")
+    void reserve_ShouldQueueOutputsAndFlushThemInBatches() {
+
+        stockReservationService.reserve(List.of(output(2), output(1)));
+        stockReservationService.reserve(List.of(output(1)));
+
+        assertThat(stockReservationService.availableStock(List.of(product))).containsEntry(product.getId(), 1);
+        verifyNoInteractions(stockMovementRepository);
+
+        stockReservationService.flush();
+
+        verify(productRepository).adjustStock(Map.of(product.getId(), -3));
+        verify(productRepository).adjustStock(Map.of(product.getId(), -1));
+        verify(stockMovementRepository, times(2)).saveAll(movementsCaptor.capture());
+        assertThat(movementsCaptor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(movementsCaptor.getAllValues().get(0)).extracting(StockMovement::getType).containsOnly(TypeMovement.OUTPUT);
+        assertThat(meterRegistry.get("petshop.stock.reservation.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject outputs above the in-memory availability")
+    void reserve_ShouldThrowException_WhenNotEnoughStock() {
+
+        assertThatThrownBy(() -> stockReservationService.reserve(List.of(output(6))))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessage("Not enough stock for product Dog Food 15kg. Requested: 6, Available: 5");
+
+        assertThat(meterRegistry.counter("petshop.stock.reservation.rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should release the reservation when the surrounding transaction rolls back")
+    void reserve_ShouldReleaseOnRollback() {
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            stockReservationService.reserve(List.of(output(4)));
+            assertThat(stockReservationService.availableStock(List.of(product))).containsEntry(product.getId(), 1);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(stockReservationService.availableStock(List.of(product))).containsEntry(product.getId(), 5);
+        stockReservationService.flush();
+        verifyNoInteractions(stockMovementRepository);
+    }
+
+    @Test
+    @DisplayName("Should keep pending outputs queued when a flush fails")
+    void flush_ShouldRequeue_WhenWriteFails() {
+
+        stockReservationService.reserve(List.of(output(2)));
+        when(productRepository.adjustStock(any())).thenThrow(new IllegalStateException("database down")).thenReturn(1);
+
+        stockReservationService.flush();
+        assertThat(meterRegistry.get("petshop.stock.reservation.pending").gauge().value()).isEqualTo(1.0);
+
+        stockReservationService.flush();
+        verify(productRepository, times(2)).adjustStock(Map.of(product.getId(), -2));
+        verify(stockMovementRepository).saveAll(any());
+        assertThat(meterRegistry.get("petshop.stock.reservation.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report products whose memory, counter and movement sums disagree")
+    void check_ShouldReportDrift() {
+
+        stockReservationService.reserve(List.of(output(2)));
+        ProductQuantity counter = level(product.getId(), 5L);
+        ProductQuantity ledger = level(product.getId(), -1L);
+        when(productRepository.findAllStockLevels()).thenReturn(List.of(counter));
+        when(stockMovementRepository.sumQuantitiesAfter(any())).thenReturn(List.of(ledger));
+
+        StockReservationCheckResponseDto check = stockReservationService.check();
+
+        assertThat(check.getProducts()).isEqualTo(1);
+        assertThat(check.getPendingMovements()).isEqualTo(1);
+        assertThat(check.getMismatches()).singleElement().satisfies(mismatch -> {
+            assertThat(mismatch.getInMemory()).isEqualTo(3);
+            assertThat(mismatch.getDatabase()).isEqualTo(5);
+            assertThat(mismatch.getLedger()).isEqualTo(4);
+            assertThat(mismatch.getUnflushed()).isEqualTo(2);
+        });
+    }
+
+    private StockMovement output(int quantity) {
+        return StockMovement.builder().product(product).quantity(quantity).price(BigDecimal.TEN).description("SALE").build();
+    }
+
+    private ProductQuantity level(UUID productId, Long quantity) {
+        ProductQuantity level = mock(ProductQuantity.class);
+        when(level.getProductId()).thenReturn(productId);
+        when(level.getQuantity()).thenReturn(quantity);
+        return level;
+    }
+}
@@ -1,5 +1,6 @@
 package com.petshop.api.service;
 
+import com.petshop.api.domain.search.AutocompleteIndex;
 import com.petshop.api.domain.validator.ValidatorEntities;
 import com.petshop.api.dto.request.CreateVeterinarianDto;
 import com.petshop.api.dto.response.VeterinarianResponseDto;
@@ -24,6 +25,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,6 +54,9 @@ class VeterinarianServiceTest {
     @Mock
     private ValidatorEntities validatorEntities;
 
+    @Mock
+    private AutocompleteIndex autocompleteIndex;
+
 
     @Test
     @DisplayName("Should return a page of veterinarians")
@@ -82,13 +87,13 @@ class VeterinarianServiceTest {
         veterinarian.setId(id);
         VeterinarianResponseDto responseDto = new VeterinarianResponseDto();
 
-        when(validatorEntities.validate(id, veterinarianRepository, "Veterinarian")).thenReturn(veterinarian);
+        when(veterinarianRepository.findDetailById(id)).thenReturn(Optional.of(veterinarian));
         when(veterinarianMapper.toResponseDto(veterinarian)).thenReturn(responseDto);
 
         VeterinarianResponseDto result = veterinarianService.getVeterinarianById(id);
 
         assertThat(result).isNotNull();
-        verify(validatorEntities).validate(id, veterinarianRepository, "Veterinarian");
+        verify(veterinarianRepository).findDetailById(id);
     }
 
 
@@ -99,14 +104,13 @@ class VeterinarianServiceTest {
         UUID id = UUID.randomUUID();
         String expectedMessage = "Veterinarian not found";
 
-        when(validatorEntities.validate(id, veterinarianRepository, "Veterinarian"))
-                .thenThrow(new ResourceNotFoundException(expectedMessage));
+        when(veterinarianRepository.findDetailById(id)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> veterinarianService.getVeterinarianById(id))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage(expectedMessage);
 
-        verify(validatorEntities).validate(id, veterinarianRepository, "Veterinarian");
+        verify(veterinarianRepository).findDetailById(id);
         verifyNoInteractions(veterinarianMapper);
     }
 
@@ -152,6 +156,7 @@ class VeterinarianServiceTest {
 
         assertThat(result).isNotNull();
         verify(veterinarianRepository).save(veterinarian);
+        verify(autocompleteIndex).indexVeterinarian(savedVeterinarian);
         assertThat(veterinarian.getCategory()).isEqualTo(category);
     }
 
@@ -176,6 +181,7 @@ class VeterinarianServiceTest {
         assertThat(result).isNotNull();
         verify(veterinarianMapper).updateVeterinarianFromDto(updateDto, veterinarian);
         verify(veterinarianRepository).save(veterinarian);
+        verify(autocompleteIndex).indexVeterinarian(savedVeterinarian);
     }
 
 
@@ -193,6 +199,7 @@ class VeterinarianServiceTest {
         veterinarianService.deleteVeterinarian(id);
 
         verify(veterinarianRepository).delete(veterinarian);
+        verify(autocompleteIndex).remove(id);
     }
 
 